@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+#
+# Compares two JMH JSON result files (from ./mvnw -Pjmh -DskipTests verify) and
+# prints the score change for every benchmark/parameter combination present in both.
+# For AverageTime benchmarks a positive change means slower.
+#
+# Requires: jq
+#
+# Usage: scripts/jmh-compare.sh <baseline.json> <candidate.json>
+
+set -euo pipefail
+export LC_ALL=C
+
+if [ $# -ne 2 ]; then
+  echo "Usage: $0 <baseline.json> <candidate.json>" >&2
+  exit 1
+fi
+
+command -v jq >/dev/null || { echo "jq is required" >&2; exit 1; }
+
+# One line per result: "<benchmark>[param=value,...]<TAB><score><TAB><error><TAB><unit>"
+flatten() {
+  jq -r '.[] | [
+      (.benchmark | sub("^com\\.task_mentor\\.task_mentor\\.benchmark\\."; ""))
+        + (if .params then "[" + ([.params | to_entries[] | "\(.key)=\(.value)"] | join(",")) + "]" else "" end),
+      .primaryMetric.score, .primaryMetric.scoreError, .primaryMetric.scoreUnit
+    ] | @tsv' "$1" | sort
+}
+
+join -t $'\t' <(flatten "$1") <(flatten "$2") | awk -F'\t' '
+  BEGIN { printf "%-70s %14s %14s %9s  %s\n", "benchmark", "baseline", "candidate", "change", "unit" }
+  {
+    change = ($2 == 0) ? 0 : ($5 - $2) / $2 * 100
+    flag = ($5 - $2 > $3 + $6 || $2 - $5 > $3 + $6) ? " *" : ""
+    printf "%-70s %14.3f %14.3f %+8.1f%%  %s%s\n", $1, $2, $5, change, $4, flag
+  }
+  END { print "\n* difference is larger than the combined error margins" }'
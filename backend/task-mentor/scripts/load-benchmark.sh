@@ -0,0 +1,108 @@
+#!/usr/bin/env bash
+#
+# Starts the jar once per configuration and compares request throughput and p99
+# latency under the same load. Two comparisons are built in:
+#
+#   threads  Tomcat on platform threads vs virtual threads (spring.threads.virtual.enabled)
+#   search   servlet/JPA search vs reactive R2DBC search (app.search.reactive.enabled)
+#
+# Requires: a built jar (./mvnw package -DskipTests), the `hey` load generator
+# (https://github.com/rakyll/hey), and the settings the prod profile reads
+# (DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD, JWT_SECRET, and
+# SEARCH_R2DBC_URL for the reactive run). The search endpoints need a login, so
+# pass a JWT from /api/auth/login in BENCHMARK_TOKEN.
+#
+# Usage: scripts/load-benchmark.sh [threads|search] [path] [concurrency] [duration]
+#   path         request path to load (default /api/search/mentors?name=a)
+#   concurrency  concurrent connections (default 1000)
+#   duration     measured run length (default 60s)
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+COMPARISON="${1:-threads}"
+REQUEST_PATH="${2:-/api/search/mentors?name=a}"
+CONCURRENCY="${3:-1000}"
+DURATION="${4:-60s}"
+PORT="${BENCHMARK_PORT:-8089}"
+JAR="$(ls target/*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+URL="http://localhost:${PORT}${REQUEST_PATH}"
+
+HEADERS=()
+if [[ -n "${BENCHMARK_TOKEN:-}" ]]; then
+    HEADERS=(-H "Authorization: Bearer ${BENCHMARK_TOKEN}")
+fi
+
+if [[ -z "$JAR" ]]; then
+    echo "No jar in target/, run ./mvnw package -DskipTests first" >&2
+    exit 1
+fi
+if ! command -v hey >/dev/null; then
+    echo "hey is not installed (go install github.com/rakyll/hey@latest)" >&2
+    exit 1
+fi
+
+# 1k+ connections need more file descriptors than most default limits
+ulimit -n 65535 2>/dev/null || true
+
+APP_PID=""
+cleanup() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+}
+trap cleanup EXIT
+
+run_mode() {
+    local mode="$1"
+    shift
+    local log="target/benchmark-${mode}.log"
+
+    java -jar "$JAR" \
+        --spring.profiles.active=prod \
+        --server.port="$PORT" \
+        "$@" \
+        > "$log" 2>&1 &
+    APP_PID=$!
+
+    for _ in $(seq 1 120); do
+        if curl -sf -o /dev/null "${HEADERS[@]}" "$URL"; then
+            break
+        fi
+        sleep 1
+    done
+
+    # Warm up the JIT and the connection pools before measuring
+    hey -z 15s -c 100 "${HEADERS[@]}" "$URL" >/dev/null
+    local result
+    result="$(hey -z "$DURATION" -c "$CONCURRENCY" "${HEADERS[@]}" "$URL")"
+
+    local rps p99 errors
+    rps="$(echo "$result" | awk '/Requests\/sec/ {print $2}')"
+    p99="$(echo "$result" | awk '/99% in/ {print $3}')"
+    errors="$(echo "$result" | awk '/^Error distribution/ {found=1; next} found && NF {gsub(/[][]/, "", $1); sum += $1} END {print sum + 0}')"
+    printf "%-10s %12s %12s %10s\n" "$mode" "$rps" "${p99}s" "$errors"
+
+    cleanup
+    APP_PID=""
+}
+
+echo "Load: $CONCURRENCY connections for $DURATION against $REQUEST_PATH"
+printf "%-10s %12s %12s %10s\n" "mode" "req/sec" "p99" "errors"
+
+case "$COMPARISON" in
+    threads)
+        run_mode platform --spring.threads.virtual.enabled=false
+        run_mode virtual --spring.threads.virtual.enabled=true
+        ;;
+    search)
+        run_mode servlet --app.search.reactive.enabled=false
+        run_mode reactive --app.search.reactive.enabled=true
+        ;;
+    *)
+        echo "Unknown comparison '$COMPARISON', expected threads or search" >&2
+        exit 1
+        ;;
+esac
@@ -0,0 +1,119 @@
+package com.task_mentor.task_mentor.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SyntheticDataCli - Command-line entry point for loading a synthetic dataset over JDBC
+ *
+ * ./mvnw -q test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.task_mentor.task_mentor.datagen.SyntheticDataCli \
+ *     -Dexec.args="--url=jdbc:postgresql://localhost:5432/taskmentor --username=postgres --password=... \
+ *                  --mentors=100000 --students=200000 --bookings=5000000"
+ *
+ * Options (defaults in brackets):
+ *   --url, --username, --password   JDBC connection [DATABASE_URL, DATABASE_USERNAME, DATABASE_PASSWORD]
+ *   --seed [42]  --mentors [1000]  --students [5000]  --bookings [20000]
+ *   --min-tasks [1]  --max-tasks [5]
+ *   --mentor-skew [1.0]  --student-skew [0.5]   Zipf exponents, 0 = uniform
+ *   --statuses [pending=30,accepted=40,declined=15,cancelled=15]
+ *   --anchor-date [today]  --window-days [90]   bookings fall within anchor +/- window
+ *   --id-base [highest existing id]  --batch-size [5000]
+ *   --user-password [password123]   every generated user can log in with this
+ */
+public class SyntheticDataCli {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataCli.class);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+
+        String url = option(options, "url", System.getenv("DATABASE_URL"));
+        if (url == null) {
+            throw new IllegalArgumentException("--url (or DATABASE_URL) is required");
+        }
+        // Lets the Postgres driver collapse each batch into multi-row INSERTs
+        if (url.startsWith("jdbc:postgresql:") && !url.contains("reWriteBatchedInserts")) {
+            url += (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        }
+
+        SyntheticDataSpec spec = new SyntheticDataSpec();
+        spec.setSeed(Long.parseLong(option(options, "seed", "42")));
+        spec.setMentors(Integer.parseInt(option(options, "mentors", "1000")));
+        spec.setStudents(Integer.parseInt(option(options, "students", "5000")));
+        spec.setBookings(Long.parseLong(option(options, "bookings", "20000")));
+        spec.setMinTasksPerMentor(Integer.parseInt(option(options, "min-tasks", "1")));
+        spec.setMaxTasksPerMentor(Integer.parseInt(option(options, "max-tasks", "5")));
+        spec.setMentorPopularitySkew(Double.parseDouble(option(options, "mentor-skew", "1.0")));
+        spec.setStudentActivitySkew(Double.parseDouble(option(options, "student-skew", "0.5")));
+        spec.setAnchorDate(LocalDate.parse(option(options, "anchor-date", LocalDate.now().toString())));
+        spec.setBookingWindowDays(Integer.parseInt(option(options, "window-days", "90")));
+        if (options.containsKey("statuses")) {
+            spec.setStatusWeights(parseWeights(options.get("statuses")));
+        }
+        // One hash for everyone: hashing per user would dominate the load time
+        spec.setPasswordHash(new BCryptPasswordEncoder().encode(option(options, "user-password", "password123")));
+
+        int batchSize = Integer.parseInt(option(options, "batch-size", "5000"));
+        long started = System.nanoTime();
+
+        try (Connection connection = DriverManager.getConnection(url,
+                option(options, "username", System.getenv("DATABASE_USERNAME")),
+                option(options, "password", System.getenv("DATABASE_PASSWORD")))) {
+
+            spec.setIdBase(options.containsKey("id-base")
+                    ? Long.parseLong(options.get("id-base"))
+                    : SyntheticDataLoader.maxExistingId(connection));
+
+            logger.info("Generating {} mentors, {} students, {} bookings (seed {}, ids after {})",
+                    spec.getMentors(), spec.getStudents(), spec.getBookings(), spec.getSeed(), spec.getIdBase());
+
+            SyntheticDataLoader loader = new SyntheticDataLoader(connection, batchSize);
+            try (loader) {
+                new SyntheticDataGenerator(spec).generate(loader);
+            }
+
+            logger.info("Loaded {} users, {} students, {} mentors, {} tasks, {} bookings in {}s",
+                    loader.getWritten("users"), loader.getWritten("students"), loader.getWritten("mentors"),
+                    loader.getWritten("tasks"), loader.getWritten("bookings"),
+                    Duration.ofNanos(System.nanoTime() - started).toSeconds());
+        }
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    static Map<String, Integer> parseWeights(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected status=weight but got: " + pair);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
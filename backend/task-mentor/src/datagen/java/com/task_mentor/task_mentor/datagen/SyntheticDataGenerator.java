@@ -0,0 +1,307 @@
+package com.task_mentor.task_mentor.datagen;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.service.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * SyntheticDataGenerator - Seeded, reproducible User/Student/Mentor/Task/Booking graphs
+ *
+ * Rows are streamed to a SyntheticDataSink instead of being collected, so large
+ * datasets (millions of bookings) only hold a few int arrays in memory. Each phase
+ * draws from its own random stream, so changing the booking count does not change
+ * the generated mentors or students.
+ *
+ * Mentor popularity and student activity follow Zipf distributions over a shuffled
+ * order, so the busiest mentors are spread across the id range.
+ */
+public class SyntheticDataGenerator {
+
+    static final String[] FIRST_NAMES = {
+            "Avery", "Jordan", "Riley", "Morgan", "Casey", "Taylor", "Quinn", "Parker", "Rowan", "Sage",
+            "Alex", "Jamie", "Drew", "Emerson", "Harper", "Kai", "Logan", "Micah", "Reese", "Skyler"};
+    static final String[] LAST_NAMES = {
+            "Nguyen", "Garcia", "Smith", "Okafor", "Kim", "Patel", "Silva", "Novak", "Haddad", "Lopez",
+            "Johnson", "Chen", "Muller", "Rossi", "Tanaka", "Ivanova", "Mensah", "Cohen", "Singh", "Walker"};
+    static final String[] COMPANIES = {
+            "Acme Corp", "Globex", "Initech", "Umbrella", "Stark Industries", "Wayne Enterprises", "Hooli",
+            "Soylent", "Cyberdyne", "Vandelay Industries"};
+    static final String[] ROLE_TITLES = {
+            "Software Engineer", "Senior Engineer", "Staff Engineer", "Engineering Manager", "Product Manager",
+            "Data Scientist", "Designer", "Recruiter", "Director"};
+    static final String[] INDUSTRIES = {
+            "Software", "Finance", "Healthcare", "Education", "Retail", "Energy", "Media", "Consulting"};
+    static final String[] EXPERTISE = {
+            "Java", "Spring", "React", "Data Science", "Product Management", "Interviewing", "Leadership",
+            "System Design", "Python", "UX Research"};
+    // Only categories TaskService accepts, so generated tasks can be edited through the API
+    static final String[] CATEGORIES = {
+            TaskService.CATEGORY_RESUME_REVIEW, TaskService.CATEGORY_INTERVIEW_PREP, TaskService.CATEGORY_CAREER_ADVICE,
+            TaskService.CATEGORY_TECHNICAL_MENTORING, TaskService.CATEGORY_NETWORKING, TaskService.CATEGORY_PROJECT_REVIEW,
+            TaskService.CATEGORY_PROGRAMMING};
+    static final String[] MAJORS = {
+            "Computer Science", "Mathematics", "Business", "Economics", "Biology", "Design", "Psychology"};
+    static final int[] DURATIONS = {15, 30, 45, 60, 90};
+
+    private static final long STUDENT_STREAM = 0x5757_0001L;
+    private static final long MENTOR_STREAM = 0x5757_0002L;
+    private static final long BOOKING_STREAM = 0x5757_0003L;
+
+    private final SyntheticDataSpec spec;
+
+    public SyntheticDataGenerator(SyntheticDataSpec spec) {
+        spec.validate();
+        this.spec = spec;
+    }
+
+    public void generate(SyntheticDataSink sink) {
+        long base = spec.getIdBase();
+        LocalDateTime anchor = spec.getAnchorDate().atTime(9, 0);
+
+        generateStudents(sink, base, anchor);
+
+        // Position i of these arrays describes mentor id base + i + 1
+        long[] firstTaskIds = new long[spec.getMentors()];
+        int[] taskCounts = new int[spec.getMentors()];
+        int[] taskDurations = generateMentors(sink, base, anchor, firstTaskIds, taskCounts);
+
+        generateBookings(sink, base, anchor, firstTaskIds, taskCounts, taskDurations);
+    }
+
+    private void generateStudents(SyntheticDataSink sink, long base, LocalDateTime anchor) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() ^ STUDENT_STREAM);
+
+        for (int i = 0; i < spec.getStudents(); i++) {
+            long id = base + i + 1;
+            User user = user(id, "student", anchor.minusDays(random.nextInt(730)));
+            sink.user(user);
+
+            Student student = new Student();
+            student.setStudentId(id);
+            student.setUser(user);
+            student.setName(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+            student.setMajor(pick(random, MAJORS));
+            student.setGraduationYear(anchor.getYear() + random.nextInt(5));
+            student.setCareerInterests(pick(random, INDUSTRIES) + ", " + pick(random, EXPERTISE));
+            student.setBio("Synthetic student " + id);
+            student.setCreatedAt(user.getCreatedAt());
+            sink.student(student);
+        }
+    }
+
+    private int[] generateMentors(SyntheticDataSink sink, long base, LocalDateTime anchor,
+                                  long[] firstTaskIds, int[] taskCounts) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed() ^ MENTOR_STREAM);
+        int[] durations = new int[spec.getMentors() * spec.getMaxTasksPerMentor()];
+        long nextTaskId = base + 1;
+        int taskIndex = 0;
+
+        for (int i = 0; i < spec.getMentors(); i++) {
+            // Mentor users come after the student users
+            long userId = base + spec.getStudents() + i + 1;
+            User user = user(userId, "mentor", anchor.minusDays(random.nextInt(730)));
+            sink.user(user);
+
+            Mentor mentor = new Mentor();
+            mentor.setMentorId(base + i + 1);
+            mentor.setUser(user);
+            mentor.setName(pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES));
+            mentor.setRoleTitle(pick(random, ROLE_TITLES));
+            mentor.setCompany(pick(random, COMPANIES));
+            mentor.setIndustries(pick(random, INDUSTRIES) + ", " + pick(random, INDUSTRIES));
+            mentor.setExpertiseAreas(pick(random, EXPERTISE) + ", " + pick(random, EXPERTISE));
+            mentor.setYearsExperience(1 + random.nextInt(30));
+            mentor.setBio("Synthetic mentor " + mentor.getMentorId());
+            mentor.setCreatedAt(user.getCreatedAt());
+            mentor.setTasks(new ArrayList<>());
+            sink.mentor(mentor);
+
+            int taskCount = spec.getMinTasksPerMentor()
+                    + random.nextInt(spec.getMaxTasksPerMentor() - spec.getMinTasksPerMentor() + 1);
+            firstTaskIds[i] = nextTaskId;
+            taskCounts[i] = taskCount;
+
+            for (int t = 0; t < taskCount; t++) {
+                String category = pick(random, CATEGORIES);
+                Task task = new Task();
+                task.setTaskId(nextTaskId++);
+                task.setMentor(mentor);
+                task.setTitle(category + " session " + (t + 1));
+                task.setDescription("Synthetic " + category.toLowerCase() + " task for mentor " + mentor.getMentorId());
+                task.setCategory(category);
+                task.setDurationMinutes(DURATIONS[random.nextInt(DURATIONS.length)]);
+                task.setCreatedAt(mentor.getCreatedAt());
+                mentor.getTasks().add(task);
+                durations[taskIndex++] = task.getDurationMinutes();
+                sink.task(task);
+            }
+        }
+        return durations;
+    }
+
+    private void generateBookings(SyntheticDataSink sink, long base, LocalDateTime anchor,
+                                  long[] firstTaskIds, int[] taskCounts, int[] taskDurations) {
+        if (spec.getBookings() == 0) {
+            return;
+        }
+        SplittableRandom random = new SplittableRandom(spec.getSeed() ^ BOOKING_STREAM);
+        ZipfSampler mentors = new ZipfSampler(spec.getMentors(), spec.getMentorPopularitySkew(), random);
+        ZipfSampler students = new ZipfSampler(spec.getStudents(), spec.getStudentActivitySkew(), random);
+        String[] statuses = statusTable(spec.getStatusWeights());
+        int window = spec.getBookingWindowDays();
+
+        for (long n = 0; n < spec.getBookings(); n++) {
+            int mentorIndex = mentors.next(random);
+            long taskId = firstTaskIds[mentorIndex] + random.nextInt(taskCounts[mentorIndex]);
+
+            Mentor mentor = new Mentor();
+            mentor.setMentorId(base + mentorIndex + 1);
+            Student student = new Student();
+            student.setStudentId(base + students.next(random) + 1);
+            Task task = new Task();
+            task.setTaskId(taskId);
+            task.setDurationMinutes(taskDurations[(int) (taskId - base - 1)]);
+
+            // Half-hour slots between 08:00 and 19:30 within the window around the anchor
+            LocalDateTime proposed = anchor.plusDays(random.nextInt(-window, window + 1))
+                    .withHour(8).plusMinutes(30L * random.nextInt(24));
+
+            Booking booking = new Booking(student, mentor, task, proposed);
+            booking.setBookingId(base + n + 1);
+            booking.setStatus(statuses[random.nextInt(statuses.length)]);
+            booking.setCreatedAt(proposed.minusDays(1 + random.nextInt(14)).minusMinutes(random.nextInt(600)));
+            booking.setUpdatedAt(booking.getCreatedAt());
+            sink.booking(booking);
+        }
+    }
+
+    private User user(long id, String accountType, LocalDateTime createdAt) {
+        User user = new User();
+        user.setUserId(id);
+        user.setEmail(accountType + id + "@synthetic.taskmentor.test");
+        user.setPassword(spec.getPasswordHash());
+        user.setAccountType(accountType);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+
+    /**
+     * Expands weights into a lookup table so a status is one array read
+     */
+    private static String[] statusTable(Map<String, Integer> weights) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        String[] table = new String[total];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Arrays.fill(table, i, i + entry.getValue(), entry.getKey());
+            i += entry.getValue();
+        }
+        return table;
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Samples indexes 0..n-1 where the k-th most popular has weight 1 / k^skew
+     */
+    static class ZipfSampler {
+
+        private final double[] cumulative;
+        private final int[] indexByRank;
+
+        ZipfSampler(int n, double skew, SplittableRandom random) {
+            cumulative = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += 1.0 / Math.pow(rank + 1, skew);
+                cumulative[rank] = total;
+            }
+
+            // Fisher-Yates shuffle so popularity is not tied to id order
+            indexByRank = new int[n];
+            for (int i = 0; i < n; i++) {
+                indexByRank[i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = indexByRank[i];
+                indexByRank[i] = indexByRank[j];
+                indexByRank[j] = swap;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int rank = Arrays.binarySearch(cumulative, target);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            return indexByRank[Math.min(rank, cumulative.length - 1)];
+        }
+    }
+
+    /**
+     * Convenience sink for small in-memory datasets (tests and benchmarks)
+     */
+    public static class Collected implements SyntheticDataSink {
+
+        private final List<User> users = new ArrayList<>();
+        private final List<Student> students = new ArrayList<>();
+        private final List<Mentor> mentors = new ArrayList<>();
+        private final List<Task> tasks = new ArrayList<>();
+        private final List<Booking> bookings = new ArrayList<>();
+
+        @Override
+        public void user(User user) {
+            users.add(user);
+        }
+
+        @Override
+        public void student(Student student) {
+            students.add(student);
+        }
+
+        @Override
+        public void mentor(Mentor mentor) {
+            mentors.add(mentor);
+        }
+
+        @Override
+        public void task(Task task) {
+            tasks.add(task);
+        }
+
+        @Override
+        public void booking(Booking booking) {
+            bookings.add(booking);
+        }
+
+        public List<User> getUsers() {
+            return users;
+        }
+
+        public List<Student> getStudents() {
+            return students;
+        }
+
+        public List<Mentor> getMentors() {
+            return mentors;
+        }
+
+        public List<Task> getTasks() {
+            return tasks;
+        }
+
+        public List<Booking> getBookings() {
+            return bookings;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.task_mentor.task_mentor.datagen;
+
+import com.task_mentor.task_mentor.entity.Booking;
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SyntheticDataGenerator
+ * Tests reproducibility, sizes, id ranges, referential integrity and popularity skew
+ */
+class SyntheticDataGeneratorTest {
+
+    private SyntheticDataSpec spec(int mentors, int students, long bookings) {
+        SyntheticDataSpec spec = new SyntheticDataSpec();
+        spec.setMentors(mentors);
+        spec.setStudents(students);
+        spec.setBookings(bookings);
+        spec.setAnchorDate(LocalDate.of(2026, 3, 2));
+        return spec;
+    }
+
+    private SyntheticDataGenerator.Collected generate(SyntheticDataSpec spec) {
+        SyntheticDataGenerator.Collected collected = new SyntheticDataGenerator.Collected();
+        new SyntheticDataGenerator(spec).generate(collected);
+        return collected;
+    }
+
+    private List<String> fingerprint(SyntheticDataGenerator.Collected data) {
+        return data.getBookings().stream()
+                .map(b -> b.getMentor().getMentorId() + "/" + b.getStudent().getStudentId() + "/"
+                        + b.getTask().getTaskId() + "/" + b.getProposedDatetime() + "/" + b.getStatus())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Same spec - Same rows")
+    void testDeterministic() {
+        SyntheticDataGenerator.Collected first = generate(spec(50, 100, 1000));
+        SyntheticDataGenerator.Collected second = generate(spec(50, 100, 1000));
+
+        assertEquals(fingerprint(first), fingerprint(second));
+        assertEquals(first.getMentors().get(7).getName(), second.getMentors().get(7).getName());
+        assertEquals(first.getStudents().get(42).getMajor(), second.getStudents().get(42).getMajor());
+    }
+
+    @Test
+    @DisplayName("Different seed - Different rows")
+    void testSeedChangesOutput() {
+        SyntheticDataSpec other = spec(50, 100, 1000);
+        other.setSeed(7);
+
+        assertNotEquals(fingerprint(generate(spec(50, 100, 1000))), fingerprint(generate(other)));
+    }
+
+    @Test
+    @DisplayName("Booking count - Does not change mentors")
+    void testPhasesAreIndependent() {
+        SyntheticDataGenerator.Collected few = generate(spec(30, 40, 10));
+        SyntheticDataGenerator.Collected many = generate(spec(30, 40, 5000));
+
+        for (int i = 0; i < 30; i++) {
+            assertEquals(few.getMentors().get(i).getName(), many.getMentors().get(i).getName());
+            assertEquals(few.getMentors().get(i).getTasks().size(), many.getMentors().get(i).getTasks().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Sizes and ids - Match the spec")
+    void testSizesAndIds() {
+        SyntheticDataSpec spec = spec(20, 30, 500);
+        spec.setMinTasksPerMentor(2);
+        spec.setMaxTasksPerMentor(4);
+        spec.setIdBase(1000);
+
+        SyntheticDataGenerator.Collected data = generate(spec);
+
+        assertEquals(50, data.getUsers().size());
+        assertEquals(30, data.getStudents().size());
+        assertEquals(20, data.getMentors().size());
+        assertEquals(500, data.getBookings().size());
+        assertEquals(1001L, data.getStudents().get(0).getStudentId());
+        assertEquals(1001L, data.getMentors().get(0).getMentorId());
+        assertEquals(1001L, data.getTasks().get(0).getTaskId());
+        assertEquals(1500L, data.getBookings().get(499).getBookingId());
+        assertEquals(50, data.getUsers().stream().map(u -> u.getEmail()).distinct().count());
+        for (Mentor mentor : data.getMentors()) {
+            assertTrue(mentor.getTasks().size() >= 2 && mentor.getTasks().size() <= 4);
+        }
+    }
+
+    @Test
+    @DisplayName("Bookings - Reference generated rows and stay in the window")
+    void testBookingsReferenceGeneratedRows() {
+        SyntheticDataSpec spec = spec(25, 40, 2000);
+        SyntheticDataGenerator.Collected data = generate(spec);
+
+        Map<Long, Task> tasks = new HashMap<>();
+        data.getTasks().forEach(t -> tasks.put(t.getTaskId(), t));
+        Set<Long> studentIds = new HashSet<>();
+        data.getStudents().forEach(s -> studentIds.add(s.getStudentId()));
+
+        for (Booking booking : data.getBookings()) {
+            Task task = tasks.get(booking.getTask().getTaskId());
+            assertNotNull(task);
+            assertEquals(task.getMentor().getMentorId(), booking.getMentor().getMentorId());
+            assertEquals(task.getDurationMinutes(), booking.getTask().getDurationMinutes());
+            assertTrue(studentIds.contains(booking.getStudent().getStudentId()));
+            assertFalse(booking.getProposedDatetime().toLocalDate().isBefore(spec.getAnchorDate().minusDays(90)));
+            assertFalse(booking.getProposedDatetime().toLocalDate().isAfter(spec.getAnchorDate().plusDays(90)));
+            assertTrue(booking.getCreatedAt().isBefore(booking.getProposedDatetime()));
+        }
+    }
+
+    @Test
+    @DisplayName("Popularity skew - Busiest mentors take most bookings")
+    void testSkew() {
+        SyntheticDataGenerator.Collected skewed = generate(spec(100, 100, 20000));
+        SyntheticDataSpec uniformSpec = spec(100, 100, 20000);
+        uniformSpec.setMentorPopularitySkew(0);
+        SyntheticDataGenerator.Collected uniform = generate(uniformSpec);
+
+        assertTrue(topTenShare(skewed) > 0.5, "top 10% of mentors should get most bookings");
+        assertTrue(topTenShare(uniform) < 0.2, "uniform popularity should spread bookings evenly");
+    }
+
+    private double topTenShare(SyntheticDataGenerator.Collected data) {
+        Map<Long, Long> perMentor = data.getBookings().stream()
+                .collect(Collectors.groupingBy(b -> b.getMentor().getMentorId(), Collectors.counting()));
+        long topTen = perMentor.values().stream().sorted((a, b) -> Long.compare(b, a)).limit(10)
+                .mapToLong(Long::longValue).sum();
+        return (double) topTen / data.getBookings().size();
+    }
+
+    @Test
+    @DisplayName("Status weights - Zero weight never generated")
+    void testStatusWeights() {
+        SyntheticDataSpec spec = spec(10, 10, 1000);
+        spec.setStatusWeights(new LinkedHashMap<>(Map.of("accepted", 1, "declined", 0)));
+
+        assertTrue(generate(spec).getBookings().stream().allMatch(b -> "accepted".equals(b.getStatus())));
+    }
+
+    @Test
+    @DisplayName("Invalid spec - Rejected")
+    void testInvalidSpec() {
+        SyntheticDataSpec spec = spec(0, 10, 5);
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(spec));
+
+        SyntheticDataSpec tasks = spec(5, 5, 5);
+        tasks.setMinTasksPerMentor(3);
+        tasks.setMaxTasksPerMentor(2);
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(tasks));
+    }
+}
@@ -0,0 +1,239 @@
+package com.task_mentor.task_mentor.datagen;
+
+import com.task_mentor.task_mentor.entity.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+/**
+ * SyntheticDataLoader - Writes generated rows with JDBC batch inserts
+ *
+ * Expects the schema Hibernate creates (run the application once first). Rows keep
+ * the generator's ids, so the identity columns are moved past them in close().
+ * A child table is only flushed after every table it references, which keeps
+ * foreign keys satisfied without holding rows back.
+ */
+public class SyntheticDataLoader implements SyntheticDataSink, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    // Foreign-key order: each table only references tables before it
+    private static final String[] TABLES = {"users", "students", "mentors", "tasks", "bookings"};
+    private static final String[] ID_COLUMNS = {"user_id", "student_id", "mentor_id", "task_id", "booking_id"};
+    private static final int USERS = 0, STUDENTS = 1, MENTORS = 2, TASKS = 3, BOOKINGS = 4;
+
+    private static final String[] INSERTS = {
+            "INSERT INTO users (user_id, email, password, account_type, created_at) VALUES (?, ?, ?, ?, ?)",
+            "INSERT INTO students (student_id, user_id, name, bio, major, graduation_year, career_interests, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            "INSERT INTO mentors (mentor_id, user_id, name, bio, role_title, company, years_experience, industries, "
+                    + "expertise_areas, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            "INSERT INTO tasks (task_id, mentor_id, title, description, duration_minutes, category, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            "INSERT INTO bookings (booking_id, student_id, mentor_id, task_id, proposed_datetime, status, created_at, "
+                    + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+    };
+
+    private final Connection connection;
+    private final int batchSize;
+    private final boolean previousAutoCommit;
+    private final PreparedStatement[] statements = new PreparedStatement[TABLES.length];
+    private final int[] pending = new int[TABLES.length];
+    private final long[] written = new long[TABLES.length];
+    private long nextProgressLog = 1_000_000;
+
+    public SyntheticDataLoader(Connection connection, int batchSize) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.previousAutoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        for (int i = 0; i < TABLES.length; i++) {
+            statements[i] = connection.prepareStatement(INSERTS[i]);
+        }
+    }
+
+    /**
+     * Highest id in any of the tables, used as the id base so a load can be added to existing data
+     */
+    public static long maxExistingId(Connection connection) throws SQLException {
+        long max = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLES.length; i++) {
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT COALESCE(MAX(" + ID_COLUMNS[i] + "), 0) FROM " + TABLES[i])) {
+                    rs.next();
+                    max = Math.max(max, rs.getLong(1));
+                }
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public void user(User user) {
+        add(USERS, ps -> {
+            ps.setLong(1, user.getUserId());
+            ps.setString(2, user.getEmail());
+            ps.setString(3, user.getPassword());
+            ps.setString(4, user.getAccountType());
+            ps.setObject(5, user.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void student(Student student) {
+        add(STUDENTS, ps -> {
+            ps.setLong(1, student.getStudentId());
+            ps.setLong(2, student.getUser().getUserId());
+            ps.setString(3, student.getName());
+            ps.setString(4, student.getBio());
+            ps.setString(5, student.getMajor());
+            setInteger(ps, 6, student.getGraduationYear());
+            ps.setString(7, student.getCareerInterests());
+            ps.setObject(8, student.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void mentor(Mentor mentor) {
+        add(MENTORS, ps -> {
+            ps.setLong(1, mentor.getMentorId());
+            ps.setLong(2, mentor.getUser().getUserId());
+            ps.setString(3, mentor.getName());
+            ps.setString(4, mentor.getBio());
+            ps.setString(5, mentor.getRoleTitle());
+            ps.setString(6, mentor.getCompany());
+            setInteger(ps, 7, mentor.getYearsExperience());
+            ps.setString(8, mentor.getIndustries());
+            ps.setString(9, mentor.getExpertiseAreas());
+            ps.setObject(10, mentor.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void task(Task task) {
+        add(TASKS, ps -> {
+            ps.setLong(1, task.getTaskId());
+            ps.setLong(2, task.getMentor().getMentorId());
+            ps.setString(3, task.getTitle());
+            ps.setString(4, task.getDescription());
+            ps.setInt(5, task.getDurationMinutes());
+            ps.setString(6, task.getCategory());
+            ps.setObject(7, task.getCreatedAt());
+        });
+    }
+
+    @Override
+    public void booking(Booking booking) {
+        add(BOOKINGS, ps -> {
+            ps.setLong(1, booking.getBookingId());
+            ps.setLong(2, booking.getStudent().getStudentId());
+            ps.setLong(3, booking.getMentor().getMentorId());
+            ps.setLong(4, booking.getTask().getTaskId());
+            ps.setObject(5, booking.getProposedDatetime());
+            ps.setString(6, booking.getStatus());
+            ps.setObject(7, booking.getCreatedAt());
+            ps.setObject(8, booking.getUpdatedAt());
+        });
+    }
+
+    public long getWritten(String table) {
+        for (int i = 0; i < TABLES.length; i++) {
+            if (TABLES[i].equals(table)) {
+                return written[i];
+            }
+        }
+        throw new IllegalArgumentException("Unknown table: " + table);
+    }
+
+    /**
+     * Flushes the remaining batches, commits and resets the identity columns
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            flushThrough(BOOKINGS);
+            connection.commit();
+            resetIdentities();
+            connection.commit();
+        } finally {
+            for (PreparedStatement statement : statements) {
+                statement.close();
+            }
+            connection.setAutoCommit(previousAutoCommit);
+        }
+    }
+
+    private void add(int table, Binder binder) {
+        try {
+            binder.bind(statements[table]);
+            statements[table].addBatch();
+            if (++pending[table] >= batchSize) {
+                flushThrough(table);
+                connection.commit();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to load synthetic " + TABLES[table] + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void flushThrough(int table) throws SQLException {
+        for (int i = 0; i <= table; i++) {
+            if (pending[i] > 0) {
+                statements[i].executeBatch();
+                written[i] += pending[i];
+                pending[i] = 0;
+            }
+        }
+        if (written[BOOKINGS] >= nextProgressLog) {
+            logger.info("Loaded {} bookings", written[BOOKINGS]);
+            nextProgressLog += 1_000_000;
+        }
+    }
+
+    private void resetIdentities() throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < TABLES.length; i++) {
+                long next;
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT COALESCE(MAX(" + ID_COLUMNS[i] + "), 0) + 1 FROM " + TABLES[i])) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                if ("PostgreSQL".equals(product)) {
+                    statement.execute("SELECT setval(pg_get_serial_sequence('" + TABLES[i] + "', '"
+                            + ID_COLUMNS[i] + "'), " + next + ", false)");
+                } else if ("H2".equals(product)) {
+                    statement.execute("ALTER TABLE " + TABLES[i] + " ALTER COLUMN " + ID_COLUMNS[i]
+                            + " RESTART WITH " + next);
+                } else {
+                    logger.warn("Cannot reset the {} identity on {}; new rows may collide with loaded ids",
+                            TABLES[i], product);
+                }
+            }
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+}
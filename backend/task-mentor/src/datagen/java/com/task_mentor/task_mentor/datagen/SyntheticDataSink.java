@@ -0,0 +1,30 @@
+package com.task_mentor.task_mentor.datagen;
+
+import com.task_mentor.task_mentor.entity.*;
+
+/**
+ * SyntheticDataSink - Receives generated rows in foreign-key order
+ * A user always arrives before its student or mentor, a mentor before its tasks,
+ * and every booking after all students, mentors and tasks
+ */
+public interface SyntheticDataSink {
+
+    default void user(User user) {
+    }
+
+    default void student(Student student) {
+    }
+
+    default void mentor(Mentor mentor) {
+    }
+
+    default void task(Task task) {
+    }
+
+    /**
+     * The booking's student, mentor and task are id-only references (the task also
+     * carries its duration), so millions of bookings do not keep the graph reachable
+     */
+    default void booking(Booking booking) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.task_mentor.task_mentor.datagen;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SyntheticDataSpec - Sizes and distributions for SyntheticDataGenerator
+ * Two runs with the same spec (including seed and anchorDate) produce the same rows
+ */
+public class SyntheticDataSpec {
+
+    private long seed = 42;
+    private int mentors = 1000;
+    private int students = 5000;
+    private int minTasksPerMentor = 1;
+    private int maxTasksPerMentor = 5;
+    private long bookings = 20000;
+
+    // Zipf exponents: 0 is uniform, around 1 gives a long tail where a few mentors get most bookings
+    private double mentorPopularitySkew = 1.0;
+    private double studentActivitySkew = 0.5;
+
+    // Relative weights, not percentages
+    private Map<String, Integer> statusWeights = new LinkedHashMap<>(Map.of(
+            "pending", 30, "accepted", 40, "declined", 15, "cancelled", 15));
+
+    // Bookings are spread over anchorDate +/- bookingWindowDays
+    private LocalDate anchorDate = LocalDate.of(2026, 1, 1);
+    private int bookingWindowDays = 90;
+
+    // Generated ids start at idBase + 1 in every table, and emails include the user id
+    private long idBase = 0;
+
+    // Stored as-is in users.password; leave null for entity graphs that are never logged into
+    private String passwordHash;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getMentors() {
+        return mentors;
+    }
+
+    public void setMentors(int mentors) {
+        this.mentors = mentors;
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    public void setStudents(int students) {
+        this.students = students;
+    }
+
+    public int getMinTasksPerMentor() {
+        return minTasksPerMentor;
+    }
+
+    public void setMinTasksPerMentor(int minTasksPerMentor) {
+        this.minTasksPerMentor = minTasksPerMentor;
+    }
+
+    public int getMaxTasksPerMentor() {
+        return maxTasksPerMentor;
+    }
+
+    public void setMaxTasksPerMentor(int maxTasksPerMentor) {
+        this.maxTasksPerMentor = maxTasksPerMentor;
+    }
+
+    public long getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(long bookings) {
+        this.bookings = bookings;
+    }
+
+    public double getMentorPopularitySkew() {
+        return mentorPopularitySkew;
+    }
+
+    public void setMentorPopularitySkew(double mentorPopularitySkew) {
+        this.mentorPopularitySkew = mentorPopularitySkew;
+    }
+
+    public double getStudentActivitySkew() {
+        return studentActivitySkew;
+    }
+
+    public void setStudentActivitySkew(double studentActivitySkew) {
+        this.studentActivitySkew = studentActivitySkew;
+    }
+
+    public Map<String, Integer> getStatusWeights() {
+        return statusWeights;
+    }
+
+    public void setStatusWeights(Map<String, Integer> statusWeights) {
+        this.statusWeights = statusWeights;
+    }
+
+    public LocalDate getAnchorDate() {
+        return anchorDate;
+    }
+
+    public void setAnchorDate(LocalDate anchorDate) {
+        this.anchorDate = anchorDate;
+    }
+
+    public int getBookingWindowDays() {
+        return bookingWindowDays;
+    }
+
+    public void setBookingWindowDays(int bookingWindowDays) {
+        this.bookingWindowDays = bookingWindowDays;
+    }
+
+    public long getIdBase() {
+        return idBase;
+    }
+
+    public void setIdBase(long idBase) {
+        this.idBase = idBase;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public void setPasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+
+    void validate() {
+        if (mentors < 0 || students < 0 || bookings < 0) {
+            throw new IllegalArgumentException("Entity counts cannot be negative");
+        }
+        if (minTasksPerMentor < 1 || maxTasksPerMentor < minTasksPerMentor) {
+            throw new IllegalArgumentException("Tasks per mentor must satisfy 1 <= min <= max");
+        }
+        if (bookings > 0 && (mentors == 0 || students == 0)) {
+            throw new IllegalArgumentException("Bookings need at least one mentor and one student");
+        }
+        if (mentorPopularitySkew < 0 || studentActivitySkew < 0) {
+            throw new IllegalArgumentException("Skew cannot be negative");
+        }
+        if (statusWeights.isEmpty() || statusWeights.values().stream().anyMatch(w -> w < 0)
+                || statusWeights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Status weights must be non-negative and not all zero");
+        }
+        if (bookingWindowDays < 1) {
+            throw new IllegalArgumentException("Booking window must be at least one day");
+        }
+    }
+}
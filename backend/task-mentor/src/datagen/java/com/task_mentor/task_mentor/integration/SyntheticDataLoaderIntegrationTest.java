@@ -0,0 +1,105 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.datagen.SyntheticDataGenerator;
+import com.task_mentor.task_mentor.datagen.SyntheticDataLoader;
+import com.task_mentor.task_mentor.datagen.SyntheticDataSpec;
+import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SyntheticDataLoaderIntegrationTest - Bulk-loads a generated dataset into the Hibernate schema on H2
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:syntheticdb")
+@ActiveProfiles("test")
+public class SyntheticDataLoaderIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        studentRepository.deleteAllInBatch();
+        mentorRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private SyntheticDataSpec spec() {
+        SyntheticDataSpec spec = new SyntheticDataSpec();
+        spec.setMentors(40);
+        spec.setStudents(60);
+        spec.setBookings(1500);
+        spec.setAnchorDate(LocalDate.of(2026, 3, 2));
+        spec.setPasswordHash("$2a$10$synthetic");
+        return spec;
+    }
+
+    private void load(SyntheticDataSpec spec) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            spec.setIdBase(SyntheticDataLoader.maxExistingId(connection));
+            try (SyntheticDataLoader loader = new SyntheticDataLoader(connection, 256)) {
+                new SyntheticDataGenerator(spec).generate(loader);
+            }
+        }
+    }
+
+    @Test
+    public void testLoadWritesEveryRow() throws Exception {
+        load(spec());
+
+        assertEquals(100, userRepository.count());
+        assertEquals(60, studentRepository.count());
+        assertEquals(40, mentorRepository.count());
+        assertEquals(1500, bookingRepository.count());
+        assertTrue(taskRepository.count() >= 40);
+    }
+
+    @Test
+    public void testSecondLoadAppendsAfterExistingIds() throws Exception {
+        load(spec());
+        load(spec());
+
+        assertEquals(200, userRepository.count());
+        assertEquals(3000, bookingRepository.count());
+    }
+
+    @Test
+    public void testIdentityContinuesAfterLoad() throws Exception {
+        load(spec());
+
+        User user = new User();
+        user.setEmail("after-load@test.com");
+        user.setPassword("hashed");
+        user.setAccountType("student");
+        user = userRepository.save(user);
+
+        assertEquals(101L, user.getUserId());
+    }
+}
@@ -0,0 +1,71 @@
+package com.task_mentor.task_mentor.benchmark;
+
+import com.task_mentor.task_mentor.datagen.SyntheticDataGenerator;
+import com.task_mentor.task_mentor.datagen.SyntheticDataSpec;
+import com.task_mentor.task_mentor.entity.Booking;
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BenchmarkData - Fixed-seed synthetic entities for the JMH benchmarks
+ * Built with SyntheticDataGenerator, so the same size always produces the same rows
+ * and runs on different branches compare like for like
+ */
+final class BenchmarkData {
+
+    // Bookings must be in the future and within six months, so slots start a week from today
+    private static final LocalDateTime FIRST_SLOT = LocalDate.now().plusDays(7).atTime(9, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Mentors with two to four tasks each, ids starting at 1
+     */
+    static List<Mentor> mentors(int count) {
+        SyntheticDataSpec spec = new SyntheticDataSpec();
+        spec.setMentors(count);
+        spec.setStudents(0);
+        spec.setBookings(0);
+        spec.setMinTasksPerMentor(2);
+        spec.setMaxTasksPerMentor(4);
+
+        SyntheticDataGenerator.Collected collected = new SyntheticDataGenerator.Collected();
+        new SyntheticDataGenerator(spec).generate(collected);
+        return collected.getMentors();
+    }
+
+    static List<Task> tasks(List<Mentor> mentors) {
+        List<Task> tasks = new ArrayList<>();
+        for (Mentor mentor : mentors) {
+            tasks.addAll(mentor.getTasks());
+        }
+        return tasks;
+    }
+
+    /**
+     * Accepted bookings for one mentor in consecutive slots
+     */
+    static List<Booking> acceptedBookings(Mentor mentor, Task task, int count) {
+        List<Booking> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Booking booking = new Booking(null, mentor, task, slot(i));
+            booking.setBookingId((long) i + 1);
+            booking.setStatus("accepted");
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    /**
+     * Start time of the n-th booking slot; slots are two hours apart, longer than any task
+     */
+    static LocalDateTime slot(int n) {
+        return FIRST_SLOT.plusHours(2L * n);
+    }
+}
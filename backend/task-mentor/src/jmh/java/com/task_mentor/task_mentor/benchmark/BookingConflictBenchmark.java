@@ -0,0 +1,80 @@
+package com.task_mentor.task_mentor.benchmark;
+
+import com.task_mentor.task_mentor.entity.Booking;
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Student;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import com.task_mentor.task_mentor.repository.MentorRepository;
+import com.task_mentor.task_mentor.repository.StudentRepository;
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import com.task_mentor.task_mentor.service.BookingMetrics;
+import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.MentorCountersService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * BookingConflictBenchmark - Overlap check against a mentor's accepted bookings
+ * Runs createBooking with stub repositories, counters and event publisher; the slot is
+ * after every existing booking, so each call scans the whole accepted list
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingConflictBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int acceptedBookings;
+
+    private BookingService bookingService;
+    private LocalDateTime freeSlot;
+
+    @Setup
+    public void setUp() {
+        Mentor mentor = BenchmarkData.mentors(1).get(0);
+        Task task = mentor.getTasks().get(0);
+        Student student = new Student();
+        student.setStudentId(1L);
+        List<Booking> accepted = BenchmarkData.acceptedBookings(mentor, task, acceptedBookings);
+        freeSlot = BenchmarkData.slot(acceptedBookings + 4);
+
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        MentorRepository mentorRepository = mock(MentorRepository.class);
+        StudentRepository studentRepository = mock(StudentRepository.class);
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(mentorRepository.findById(mentor.getMentorId())).thenReturn(Optional.of(mentor));
+        when(taskRepository.findById(task.getTaskId())).thenReturn(Optional.of(task));
+        when(bookingRepository.findByMentorAndStatus(mentor, "accepted")).thenReturn(accepted);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        bookingService = new BookingService();
+        ReflectionTestUtils.setField(bookingService, "bookingRepository", bookingRepository);
+        ReflectionTestUtils.setField(bookingService, "mentorRepository", mentorRepository);
+        ReflectionTestUtils.setField(bookingService, "studentRepository", studentRepository);
+        ReflectionTestUtils.setField(bookingService, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(bookingService, "bookingMetrics", new BookingMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(bookingService, "mentorCountersService", mock(MentorCountersService.class));
+        ReflectionTestUtils.setField(bookingService, "eventPublisher", (ApplicationEventPublisher) event -> { });
+    }
+
+    @Benchmark
+    public Booking createBookingWithoutConflict() {
+        return bookingService.createBooking(1L, 1L, 1L, freeSlot);
+    }
+}
@@ -0,0 +1,88 @@
+package com.task_mentor.task_mentor.benchmark;
+
+import com.task_mentor.task_mentor.controller.SearchController;
+import com.task_mentor.task_mentor.dto.TaskSearchDTO;
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import com.task_mentor.task_mentor.service.SearchCoalescer;
+import com.task_mentor.task_mentor.service.SearchResultCache;
+import com.task_mentor.task_mentor.service.SearchService;
+import com.task_mentor.task_mentor.service.TaskService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * DtoMappingBenchmark - Entity to DTO conversion for search responses and task statistics
+ * The search service returns every entity unfiltered and the result cache and coalescing
+ * are off, so the controller time is all mapping
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int mentorCount;
+
+    private SearchController searchController;
+    private SearchResultCache searchResultCache;
+    private TaskService taskService;
+
+    @Setup
+    public void setUp() {
+        List<Mentor> mentors = BenchmarkData.mentors(mentorCount);
+        List<Task> tasks = BenchmarkData.tasks(mentors);
+
+        SearchService searchService = mock(SearchService.class);
+        when(searchService.searchMentors(any(), any(), any(), any(), any())).thenReturn(mentors);
+        when(searchService.searchTasks(any(), any(), any(), any(), any())).thenReturn(tasks);
+        searchController = new SearchController();
+        ReflectionTestUtils.setField(searchController, "searchService", searchService);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        searchResultCache = new SearchResultCache(
+                new SearchCoalescer(registry, new StandardEnvironment(), false, 0),
+                mock(PlatformTransactionManager.class), registry, false, 1, 0, 0);
+        ReflectionTestUtils.setField(searchController, "searchResultCache", searchResultCache);
+
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.findAll()).thenReturn(tasks);
+        taskService = new TaskService();
+        ReflectionTestUtils.setField(taskService, "taskRepository", taskRepository);
+    }
+
+    @TearDown
+    public void tearDown() {
+        searchResultCache.shutdown();
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> searchControllerMentors() {
+        return searchController.searchMentors(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> searchControllerTasks() {
+        return searchController.searchTasks(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<TaskSearchDTO> taskServiceAllTaskStatistics() {
+        return taskService.getAllTaskStatistics();
+    }
+}
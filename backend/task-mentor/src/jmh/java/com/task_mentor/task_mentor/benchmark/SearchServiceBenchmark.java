@@ -0,0 +1,74 @@
+package com.task_mentor.task_mentor.benchmark;
+
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.repository.MentorRepository;
+import com.task_mentor.task_mentor.repository.StudentRepository;
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import com.task_mentor.task_mentor.service.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * SearchServiceBenchmark - In-memory filtering in SearchService
+ * Repositories are stubs returning a prebuilt list, so only the stream filters are measured
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int mentorCount;
+
+    private SearchService searchService;
+
+    @Setup
+    public void setUp() {
+        List<Mentor> mentors = BenchmarkData.mentors(mentorCount);
+        List<Task> tasks = BenchmarkData.tasks(mentors);
+
+        MentorRepository mentorRepository = mock(MentorRepository.class);
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(mentorRepository.findAll()).thenReturn(mentors);
+        when(taskRepository.findAll()).thenReturn(tasks);
+        // searchMentorsWithTasks looks up each mentor's tasks separately
+        when(taskRepository.findByMentorId(anyLong()))
+                .thenAnswer(invocation -> mentors.get(invocation.<Long>getArgument(0).intValue() - 1).getTasks());
+
+        searchService = new SearchService();
+        ReflectionTestUtils.setField(searchService, "mentorRepository", mentorRepository);
+        ReflectionTestUtils.setField(searchService, "taskRepository", taskRepository);
+        ReflectionTestUtils.setField(searchService, "studentRepository", mock(StudentRepository.class));
+    }
+
+    @Benchmark
+    public List<Mentor> searchMentorsByNameAndExperience() {
+        return searchService.searchMentors("jordan", null, null, null, 10);
+    }
+
+    @Benchmark
+    public List<Mentor> searchMentorsAllFilters() {
+        return searchService.searchMentors("a", "corp", "software", "java", 5);
+    }
+
+    @Benchmark
+    public List<Task> searchTasksByCategoryAndDuration() {
+        return searchService.searchTasks(null, "interview", null, 30, 60);
+    }
+
+    @Benchmark
+    public List<Mentor> searchMentorsWithTasks() {
+        return searchService.searchMentorsWithTasks(null, "java", "Career Advice", 45);
+    }
+}
@@ -0,0 +1,56 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Account - A login the virtual users act as, with the profile ids resolved during setup
+ */
+class Account {
+
+    private final String email;
+    private final String accountType;
+    private final String authorization;
+    private Long profileId;
+    private final List<Long> taskIds = new ArrayList<>();
+
+    Account(String email, String password, String accountType) {
+        this.email = email;
+        this.accountType = accountType;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((email + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAccountType() {
+        return accountType;
+    }
+
+    boolean isStudent() {
+        return "student".equals(accountType);
+    }
+
+    String getAuthorization() {
+        return authorization;
+    }
+
+    /**
+     * Student id or mentor id, depending on the account type
+     */
+    Long getProfileId() {
+        return profileId;
+    }
+
+    void setProfileId(Long profileId) {
+        this.profileId = profileId;
+    }
+
+    List<Long> getTaskIds() {
+        return taskIds;
+    }
+}
@@ -0,0 +1,166 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * AccountSetup - Provides the student and mentor logins the virtual users act as
+ *
+ * register:  creates fresh accounts, profiles and tasks through the public API,
+ *            so it works against any instance, including an empty H2 database
+ * synthetic: logs in as users a SyntheticDataCli load created
+ *            (student{id}@ / mentor{id}@synthetic.taskmentor.test)
+ *
+ * Either way the profile and task ids are read back through /me, the same way the frontend does.
+ */
+class AccountSetup {
+
+    private static final String LOADTEST_PASSWORD = "loadtest123";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final LatencyRecorder recorder;
+
+    AccountSetup(HttpClient client, String baseUrl, Duration timeout, LatencyRecorder recorder) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.recorder = recorder;
+    }
+
+    List<Account> register(int students, int mentors) {
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<Callable<Account>> tasks = new ArrayList<>();
+        for (int i = 1; i <= students; i++) {
+            String email = "loadtest-" + run + "-student" + i + "@loadtest.taskmentor.test";
+            tasks.add(() -> registerStudent(new Account(email, LOADTEST_PASSWORD, "student")));
+        }
+        for (int i = 1; i <= mentors; i++) {
+            String email = "loadtest-" + run + "-mentor" + i + "@loadtest.taskmentor.test";
+            tasks.add(() -> registerMentor(new Account(email, LOADTEST_PASSWORD, "mentor")));
+        }
+        return runAll(tasks);
+    }
+
+    /**
+     * @param datasetStudents number of students in the synthetic load, which offsets the mentor user ids
+     * @param idBase          the id base the synthetic load used
+     */
+    List<Account> synthetic(int students, int mentors, int datasetStudents, long idBase, String password) {
+        if (students > datasetStudents) {
+            throw new IllegalArgumentException("Only " + datasetStudents + " synthetic students exist");
+        }
+        List<Callable<Account>> tasks = new ArrayList<>();
+        for (int i = 1; i <= students; i++) {
+            Account account = new Account("student" + (idBase + i) + "@synthetic.taskmentor.test", password, "student");
+            tasks.add(() -> resolve(account));
+        }
+        for (int i = 1; i <= mentors; i++) {
+            long userId = idBase + datasetStudents + i;
+            Account account = new Account("mentor" + userId + "@synthetic.taskmentor.test", password, "mentor");
+            tasks.add(() -> resolve(account));
+        }
+        return runAll(tasks);
+    }
+
+    private Account registerStudent(Account account) {
+        register(account);
+        Session session = session(account);
+        expect(session.post("setup.students", "/api/students", Map.of(
+                "name", "Load Test Student",
+                "major", "Computer Science",
+                "graduationYear", 2028,
+                "careerInterests", "Software, Java",
+                "bio", "Load test account")), account);
+        return resolve(account);
+    }
+
+    private Account registerMentor(Account account) {
+        register(account);
+        Session session = session(account);
+        long userId = expect(session.post("setup.login", "/api/auth/login", Map.of()), account)
+                .get("userId").asLong();
+        long mentorId = expect(session.post("setup.mentors", "/api/mentors", Map.of(
+                "userId", userId,
+                "name", "Load Test Mentor",
+                "roleTitle", "Software Engineer",
+                "company", "Acme Corp",
+                "yearsExperience", 8,
+                "industries", "Software",
+                "expertiseAreas", "Java, System Design",
+                "bio", "Load test account")), account).get("mentorId").asLong();
+        for (String category : new String[]{"Career Advice", "Interview Prep"}) {
+            expect(session.post("setup.tasks", "/api/tasks/json", Map.of(
+                    "mentorId", mentorId,
+                    "title", category + " session",
+                    "description", "Load test " + category.toLowerCase() + " task",
+                    "durationMinutes", 30,
+                    "category", category)), account);
+        }
+        return resolve(account);
+    }
+
+    private void register(Account account) {
+        // Sent without credentials: Basic auth for a user that does not exist yet is rejected before the endpoint
+        Session anonymous = new Session(client, baseUrl, timeout, null, recorder, new SplittableRandom());
+        expect(anonymous.post("setup.register", "/api/auth/register", Map.of(
+                "email", account.getEmail(),
+                "password", LOADTEST_PASSWORD,
+                "accountType", account.getAccountType())), account);
+    }
+
+    private Account resolve(Account account) {
+        Session session = session(account);
+        if (account.isStudent()) {
+            JsonNode student = expect(session.get("setup.me", "/api/students/me"), account);
+            account.setProfileId(student.get("studentId").asLong());
+        } else {
+            JsonNode mentor = expect(session.get("setup.me", "/api/mentors/me"), account);
+            account.setProfileId(mentor.get("mentorId").asLong());
+            for (JsonNode task : mentor.path("tasks")) {
+                account.getTaskIds().add(task.get("taskId").asLong());
+            }
+        }
+        return account;
+    }
+
+    private Session session(Account account) {
+        return new Session(client, baseUrl, timeout, account, recorder, new SplittableRandom());
+    }
+
+    private static JsonNode expect(Session.Response response, Account account) {
+        if (!response.ok()) {
+            throw new IllegalStateException("Setup failed for " + account.getEmail()
+                    + " (HTTP " + response.status() + "): " + response.body());
+        }
+        return response.json();
+    }
+
+    private static List<Account> runAll(List<Callable<Account>> tasks) {
+        // Every account costs a few BCrypt checks on the server, so set them up concurrently
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Account> accounts = new ArrayList<>();
+            for (Future<Account> future : executor.invokeAll(tasks)) {
+                accounts.add(future.get());
+            }
+            return accounts;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during account setup", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BookingScenario - Students browse a mentor's tasks and request a session; mentors review pending requests
+ *
+ * Students only book the load-test mentor accounts, so the mentor virtual users
+ * always have pending requests to accept or decline.
+ */
+class BookingScenario implements Scenario {
+
+    // BookingService only takes slots in the future and within six months
+    private static final int MAX_DAYS_AHEAD = 170;
+
+    private final List<Account> mentors;
+
+    BookingScenario(List<Account> mentors) {
+        this.mentors = mentors.stream().filter(m -> !m.getTaskIds().isEmpty()).toList();
+        if (this.mentors.isEmpty()) {
+            throw new IllegalArgumentException("The booking scenario needs at least one mentor account with tasks");
+        }
+    }
+
+    @Override
+    public void iterate(Session session) {
+        if (session.getAccount().isStudent()) {
+            requestBooking(session);
+        } else {
+            reviewPending(session);
+        }
+    }
+
+    private void requestBooking(Session session) {
+        Account mentor = mentors.get(session.getRandom().nextInt(mentors.size()));
+
+        Session.Response response = session.get("tasks.by-mentor", "/api/tasks/mentor/" + mentor.getProfileId());
+        JsonNode tasks = response.ok() ? response.json() : null;
+        long taskId = tasks != null && tasks.size() > 0
+                ? tasks.get(session.getRandom().nextInt(tasks.size())).get("taskId").asLong()
+                : mentor.getTaskIds().get(session.getRandom().nextInt(mentor.getTaskIds().size()));
+
+        // Half-hour slots between 08:00 and 19:30
+        LocalDateTime slot = LocalDate.now().plusDays(1 + session.getRandom().nextInt(MAX_DAYS_AHEAD))
+                .atTime(8, 0).plusMinutes(30L * session.getRandom().nextInt(24));
+
+        session.post("bookings.create", "/api/bookings", Map.of(
+                "studentId", session.getAccount().getProfileId(),
+                "mentorId", mentor.getProfileId(),
+                "taskId", taskId,
+                "proposedDatetime", slot.toString()));
+    }
+
+    private void reviewPending(Session session) {
+        Long mentorId = session.getAccount().getProfileId();
+        Session.Response response = session.get("bookings.pending", "/api/bookings/mentor/" + mentorId + "?status=pending");
+        JsonNode pending = response.ok() ? response.json() : null;
+        if (pending == null || pending.size() == 0) {
+            return;
+        }
+
+        JsonNode booking = pending.get(session.getRandom().nextInt(pending.size()));
+        long bookingId = booking.get("bookingId").asLong();
+        if (session.getRandom().nextInt(10) < 7) {
+            session.put("bookings.accept", "/api/bookings/" + bookingId + "/accept?mentorId=" + mentorId);
+        } else {
+            session.put("bookings.decline", "/api/bookings/" + bookingId + "/decline?mentorId=" + mentorId);
+        }
+    }
+}
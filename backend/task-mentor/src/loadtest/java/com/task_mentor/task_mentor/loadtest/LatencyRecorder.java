@@ -0,0 +1,89 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyRecorder - Per-endpoint HdrHistogram latencies (microseconds) and status counts
+ *
+ * Virtual users record into lock-free HdrHistogram Recorders. drain() swaps out the
+ * interval histograms, adds them to the run totals and returns the interval alone,
+ * so progress lines and the final report come from the same samples.
+ */
+class LatencyRecorder {
+
+    /** Status recorded when no response came back (timeout, connection refused) */
+    static final int NO_RESPONSE = -1;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long startNanos, long endNanos, int status) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.recorder.recordValue(Math.max(1, (endNanos - startNanos) / 1_000));
+        stats.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Discards everything recorded so far, used to drop setup and warmup traffic
+     */
+    synchronized void reset() {
+        for (Endpoint stats : endpoints.values()) {
+            stats.recorder.reset();
+            stats.total.reset();
+            stats.statuses.clear();
+        }
+    }
+
+    /**
+     * Moves samples recorded since the last call into the totals and returns them merged across endpoints
+     */
+    synchronized Histogram drain() {
+        Histogram interval = new Histogram(3);
+        for (Endpoint stats : endpoints.values()) {
+            stats.intervalHistogram = stats.recorder.getIntervalHistogram(stats.intervalHistogram);
+            stats.total.add(stats.intervalHistogram);
+            interval.add(stats.intervalHistogram);
+        }
+        return interval;
+    }
+
+    /**
+     * Endpoint name to its total latency histogram and status counts, sorted by name
+     */
+    synchronized Map<String, EndpointTotals> totals() {
+        drain();
+        Map<String, EndpointTotals> totals = new TreeMap<>();
+        endpoints.forEach((name, stats) -> {
+            Map<Integer, Long> statuses = new TreeMap<>();
+            stats.statuses.forEach((status, count) -> statuses.put(status, count.sum()));
+            totals.put(name, new EndpointTotals(stats.total.copy(), statuses));
+        });
+        return totals;
+    }
+
+    static boolean isError(int status) {
+        return status < 200 || status >= 400;
+    }
+
+    record EndpointTotals(Histogram latency, Map<Integer, Long> statuses) {
+
+        long errors() {
+            return statuses.entrySet().stream()
+                    .filter(e -> isError(e.getKey()))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+        }
+    }
+
+    private static class Endpoint {
+        private final Recorder recorder = new Recorder(3);
+        private final Histogram total = new Histogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private Histogram intervalHistogram;
+    }
+}
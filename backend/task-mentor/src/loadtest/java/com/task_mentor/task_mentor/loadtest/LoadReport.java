@@ -0,0 +1,130 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadReport - Per-endpoint and overall latency percentiles, throughput and error rates for one run
+ */
+class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<String, Object> settings;
+    private final Map<String, LatencyRecorder.EndpointTotals> endpoints = new LinkedHashMap<>();
+    private final Histogram overall = new Histogram(3);
+    private final Duration duration;
+    private final long droppedArrivals;
+    private long requests;
+    private long errors;
+
+    LoadReport(Map<String, Object> settings, Map<String, LatencyRecorder.EndpointTotals> totals,
+               Duration duration, long droppedArrivals) {
+        this.settings = settings;
+        this.duration = duration;
+        this.droppedArrivals = droppedArrivals;
+        totals.forEach((name, endpoint) -> {
+            long count = endpoint.statuses().values().stream().mapToLong(Long::longValue).sum();
+            if (count == 0) {
+                return;
+            }
+            endpoints.put(name, endpoint);
+            overall.add(endpoint.latency());
+            requests += count;
+            errors += endpoint.errors();
+        });
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    /**
+     * Fails the run (and the Maven build running it) when nothing was measured or too much failed
+     */
+    void failIfErrorRateAbove(double maxErrorRate) {
+        if (requests == 0 || errorRate() > maxErrorRate) {
+            throw new IllegalStateException(String.format("Error rate %.4f over %d requests exceeds --max-error-rate %.4f",
+                    errorRate(), requests, maxErrorRate));
+        }
+    }
+
+    void print(PrintStream out) {
+        out.println();
+        out.printf("%-28s %9s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "err %", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        endpoints.forEach((name, endpoint) -> printRow(out, name, endpoint.latency(),
+                endpoint.statuses().values().stream().mapToLong(Long::longValue).sum(), endpoint.errors()));
+        printRow(out, "total", overall, requests, errors);
+
+        out.println();
+        endpoints.forEach((name, endpoint) -> {
+            if (endpoint.errors() > 0) {
+                out.printf("%-28s statuses %s%n", name, endpoint.statuses());
+            }
+        });
+        if (droppedArrivals > 0) {
+            out.printf("Dropped %d arrivals: every in-flight slot was busy, the server could not keep up with the rate%n",
+                    droppedArrivals);
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("settings", settings);
+        json.put("durationSeconds", duration.toSeconds());
+        json.put("droppedArrivals", droppedArrivals);
+        json.put("total", summary(overall, requests, errors));
+        List<Map<String, Object>> rows = new ArrayList<>();
+        endpoints.forEach((name, endpoint) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", name);
+            row.putAll(summary(endpoint.latency(),
+                    endpoint.statuses().values().stream().mapToLong(Long::longValue).sum(), endpoint.errors()));
+            row.put("statuses", endpoint.statuses());
+            rows.add(row);
+        });
+        json.put("endpoints", rows);
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Session.MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), json);
+    }
+
+    private void printRow(PrintStream out, String name, Histogram latency, long count, long errorCount) {
+        out.printf("%-28s %9d %9.1f %7d %9.2f", name, count, count / seconds(), errorCount,
+                count == 0 ? 0 : 100.0 * errorCount / count);
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.1f", latency.getValueAtPercentile(percentile) / 1000.0);
+        }
+        out.printf(" %9.1f%n", latency.getMaxValue() / 1000.0);
+    }
+
+    private Map<String, Object> summary(Histogram latency, long count, long errorCount) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("throughput", count / seconds());
+        summary.put("errors", errorCount);
+        summary.put("errorRate", count == 0 ? 0 : (double) errorCount / count);
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile))
+                    + "Ms", latency.getValueAtPercentile(percentile) / 1000.0);
+        }
+        summary.put("maxMs", latency.getMaxValue() / 1000.0);
+        return summary;
+    }
+
+    private double seconds() {
+        return Math.max(1, duration.toMillis()) / 1000.0;
+    }
+}
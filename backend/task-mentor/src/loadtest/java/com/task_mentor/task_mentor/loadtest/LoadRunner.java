@@ -0,0 +1,182 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadRunner - Drives a scenario with either a closed or an open workload model
+ *
+ * closed (rate = 0): a fixed number of virtual users, each starting its next
+ *   iteration after the previous one and a think time. Throughput drops as the
+ *   server slows down, like a fixed population of real users.
+ * open (rate > 0): iterations start on a fixed schedule regardless of how the
+ *   server is doing, with at most `users` in flight. Arrivals that find every
+ *   slot busy are counted as dropped instead of being queued, so a saturated
+ *   server shows up as drops rather than as hidden waiting time.
+ *
+ * Each virtual user runs on its own virtual thread.
+ */
+class LoadRunner {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Scenario scenario;
+    private final List<Account> accounts;
+    private final LatencyRecorder recorder;
+    private final SplittableRandom random;
+    private final LongAdder droppedArrivals = new LongAdder();
+
+    LoadRunner(HttpClient client, String baseUrl, Duration timeout, Scenario scenario,
+               List<Account> accounts, LatencyRecorder recorder, long seed) {
+        if (accounts.isEmpty()) {
+            throw new IllegalArgumentException("At least one account is required");
+        }
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.scenario = scenario;
+        this.accounts = accounts;
+        this.recorder = recorder;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Runs the closed model for warmup + duration; only the samples after the warmup are kept
+     */
+    void runClosed(int users, Duration thinkTime, Duration warmup, Duration duration, Duration reportInterval) {
+        long deadline = System.nanoTime() + warmup.toNanos() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                Session session = session(accounts.get(i % accounts.size()), random.split());
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        iterate(session);
+                        think(session.getRandom(), thinkTime);
+                    }
+                });
+            }
+            report(warmup, duration, reportInterval);
+        }
+    }
+
+    /**
+     * Runs the open model at a fixed iteration rate for warmup + duration
+     */
+    void runOpen(double rate, int maxInFlight, Duration warmup, Duration duration, Duration reportInterval) {
+        long period = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long deadline = start + warmup.toNanos() + duration.toNanos();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        Thread reporter = Thread.ofVirtual().start(() -> report(warmup, duration, reportInterval));
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long n = 0; ; n++) {
+                long next = start + n * period;
+                if (next >= deadline) {
+                    break;
+                }
+                LockSupport.parkNanos(next - System.nanoTime());
+                if (!inFlight.tryAcquire()) {
+                    droppedArrivals.increment();
+                    continue;
+                }
+                Session session = session(accounts.get((int) (n % accounts.size())), random.split());
+                executor.submit(() -> {
+                    try {
+                        iterate(session);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        try {
+            reporter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getDroppedArrivals() {
+        return droppedArrivals.sum();
+    }
+
+    /**
+     * A scenario that trips over an unexpected response is counted as an error instead of ending the virtual user
+     */
+    private void iterate(Session session) {
+        try {
+            scenario.iterate(session);
+        } catch (RuntimeException e) {
+            long now = System.nanoTime();
+            recorder.record("scenario.failed", now, now, LatencyRecorder.NO_RESPONSE);
+        }
+    }
+
+    private Session session(Account account, SplittableRandom sessionRandom) {
+        return new Session(client, baseUrl, timeout, account, recorder, sessionRandom);
+    }
+
+    /**
+     * Resets the recorder after the warmup, then prints progress until the end
+     */
+    private void report(Duration warmup, Duration duration, Duration interval) {
+        sleep(warmup.toMillis());
+        recorder.reset();
+        droppedArrivals.reset();
+        printProgress(recorder, duration, interval);
+    }
+
+    /**
+     * Prints throughput, p50, p99 and errors of the samples recorded in each interval
+     */
+    static void printProgress(LatencyRecorder recorder, Duration duration, Duration interval) {
+        System.out.printf("%8s %10s %10s %10s %8s%n", "elapsed", "req/s", "p50 ms", "p99 ms", "errors");
+
+        long measuredStart = System.nanoTime();
+        long end = measuredStart + duration.toNanos();
+        long errorsBefore = 0;
+        while (System.nanoTime() < end) {
+            long wait = Math.min(interval.toNanos(), end - System.nanoTime());
+            long intervalStart = System.nanoTime();
+            sleep(TimeUnit.NANOSECONDS.toMillis(wait));
+            Histogram histogram = recorder.drain();
+            long errors = recorder.totals().values().stream().mapToLong(LatencyRecorder.EndpointTotals::errors).sum();
+            double seconds = (System.nanoTime() - intervalStart) / 1e9;
+            System.out.printf("%7ds %10.1f %10.1f %10.1f %8d%n",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - measuredStart),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    errors - errorsBefore);
+            errorsBefore = errors;
+        }
+    }
+
+    private static void think(SplittableRandom random, Duration thinkTime) {
+        if (!thinkTime.isZero()) {
+            // Uniform between half and one and a half times the mean, so users drift out of lockstep
+            long mean = thinkTime.toMillis();
+            sleep(mean / 2 + random.nextLong(mean + 1));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(0, millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
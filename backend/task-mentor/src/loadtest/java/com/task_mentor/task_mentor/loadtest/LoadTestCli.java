@@ -0,0 +1,187 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.task_mentor.task_mentor.TaskMentorApplication;
+import com.task_mentor.task_mentor.datagen.SyntheticDataGenerator;
+import com.task_mentor.task_mentor.datagen.SyntheticDataLoader;
+import com.task_mentor.task_mentor.datagen.SyntheticDataSpec;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * LoadTestCli - HTTP load generator for the search and booking flows
+ *
+ * ./mvnw -Ploadtest test-compile exec:java -Dexec.args="--target=embedded --scenario=mixed --users=50"
+ *
+ * Options (defaults in brackets):
+ *   --target [url]            url: an already running instance at --base-url [http://localhost:8080]
+ *                             embedded: starts the application in this JVM on H2 (test profile)
+ *   --scenario [mixed]        search | booking | mixed
+ *   --search-share [0.7]      share of mixed iterations that search instead of book
+ *   --users [50]              virtual users (closed model) or max in-flight iterations (open model)
+ *   --rate [0]                iterations per second; 0 runs the closed model
+ *   --think-time [0ms]        mean pause between a closed-model user's iterations
+ *   --warmup [10s]  --duration [60s]  --report-interval [10s]  --timeout [30s]  --seed [42]
+ *   --accounts [register]     register: create --students [20] and --mentors [10] through the API
+ *                             synthetic: log in as SyntheticDataCli users; needs --dataset-students,
+ *                             plus --id-base [0] and --password [password123] if the load used others
+ *   --dataset-mentors, --dataset-students, --dataset-bookings [0]
+ *                             embedded only: load a synthetic dataset of this size before the run
+ *   --report [target/loadtest-result.json]
+ *   --max-error-rate [1.0]    fail the run when the overall error rate is higher
+ */
+public class LoadTestCli {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext embedded = startTarget(options);
+        try {
+            run(options, baseUrl(options, embedded));
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    /**
+     * @return the embedded application for --target=embedded, or null for an external instance
+     */
+    static ConfigurableApplicationContext startTarget(LoadTestOptions options) throws Exception {
+        String target = options.string("target", "url");
+        if ("embedded".equals(target)) {
+            return startEmbedded(options);
+        }
+        if (!"url".equals(target)) {
+            throw new IllegalArgumentException("Unknown target '" + target + "', expected url or embedded");
+        }
+        return null;
+    }
+
+    static String baseUrl(LoadTestOptions options, ConfigurableApplicationContext embedded) {
+        return embedded != null
+                ? "http://localhost:" + embedded.getEnvironment().getProperty("local.server.port")
+                : options.string("base-url", "http://localhost:8080");
+    }
+
+    private static void run(LoadTestOptions options, String baseUrl) throws Exception {
+        Duration timeout = options.duration("timeout", "30s");
+        Duration warmup = options.duration("warmup", "10s");
+        Duration duration = options.duration("duration", "60s");
+        Duration reportInterval = options.duration("report-interval", "10s");
+        int users = options.integer("users", 50);
+        double rate = options.decimal("rate", 0);
+        String scenarioName = options.string("scenario", "mixed");
+
+        HttpClient client = httpClient(timeout);
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        int students = options.integer("students", 20);
+        int mentors = options.integer("mentors", 10);
+        List<Account> accounts = accounts(options, new AccountSetup(client, baseUrl, timeout, recorder));
+        List<Account> mentorAccounts = accounts.stream().filter(a -> !a.isStudent()).toList();
+        Scenario scenario = Scenario.named(scenarioName, mentorAccounts, options.decimal("search-share", 0.7));
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", baseUrl);
+        settings.put("scenario", scenarioName);
+        settings.put("model", rate > 0 ? "open" : "closed");
+        settings.put("users", users);
+        settings.put("rate", rate);
+        settings.put("students", students);
+        settings.put("mentors", mentors);
+        settings.put("warmupSeconds", warmup.toSeconds());
+        System.out.println("Load test " + settings);
+
+        LoadRunner runner = new LoadRunner(client, baseUrl, timeout, scenario, accounts, recorder,
+                options.longValue("seed", 42));
+        if (rate > 0) {
+            runner.runOpen(rate, users, warmup, duration, reportInterval);
+        } else {
+            runner.runClosed(users, options.duration("think-time", "0ms"), warmup, duration, reportInterval);
+        }
+
+        LoadReport report = new LoadReport(settings, recorder.totals(), duration, runner.getDroppedArrivals());
+        report.print(System.out);
+        Path reportPath = Path.of(options.string("report", "target/loadtest-result.json"));
+        report.write(reportPath);
+        System.out.println("Wrote " + reportPath);
+
+        report.failIfErrorRateAbove(options.decimal("max-error-rate", 1.0));
+    }
+
+    static HttpClient httpClient(Duration timeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Registers or logs in the --students and --mentors accounts, depending on --accounts
+     */
+    static List<Account> accounts(LoadTestOptions options, AccountSetup setup) {
+        int students = options.integer("students", 20);
+        int mentors = options.integer("mentors", 10);
+        String accountMode = options.string("accounts", "register");
+        return switch (accountMode) {
+            case "register" -> setup.register(students, mentors);
+            case "synthetic" -> setup.synthetic(students, mentors,
+                    options.integer("dataset-students", 0),
+                    options.longValue("id-base", 0),
+                    options.string("password", "password123"));
+            default -> throw new IllegalArgumentException(
+                    "Unknown accounts mode '" + accountMode + "', expected register or synthetic");
+        };
+    }
+
+    /**
+     * Boots the application on a random port against a private in-memory H2 database
+     */
+    private static ConfigurableApplicationContext startEmbedded(LoadTestOptions options) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(TaskMentorApplication.class,
+                "--spring.profiles.active=test",
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.com.task_mentor.task_mentor=WARN");
+
+        int mentors = options.integer("dataset-mentors", 0);
+        int students = options.integer("dataset-students", 0);
+        long bookings = options.longValue("dataset-bookings", 0);
+        if (mentors > 0 || students > 0) {
+            SyntheticDataSpec spec = new SyntheticDataSpec();
+            spec.setSeed(options.longValue("seed", 42));
+            spec.setMentors(mentors);
+            spec.setStudents(students);
+            spec.setBookings(bookings);
+            spec.setAnchorDate(LocalDate.now());
+            spec.setPasswordHash(new BCryptPasswordEncoder().encode(options.string("password", "password123")));
+
+            try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+                spec.setIdBase(SyntheticDataLoader.maxExistingId(connection));
+                try (SyntheticDataLoader loader = new SyntheticDataLoader(connection, 5000)) {
+                    new SyntheticDataGenerator(spec).generate(loader);
+                }
+            }
+            System.out.printf("Loaded %d mentors, %d students and %d bookings into the embedded database%n",
+                    mentors, students, bookings);
+        }
+        return context;
+    }
+}
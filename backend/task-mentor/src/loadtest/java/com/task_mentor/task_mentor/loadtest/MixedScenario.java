@@ -0,0 +1,36 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import java.util.Map;
+
+/**
+ * MixedScenario - Mostly searches with booking traffic in between, plus the occasional fresh login
+ */
+class MixedScenario implements Scenario {
+
+    // Roughly one login per twenty page views, as returning users sign in again
+    private static final double LOGIN_SHARE = 0.05;
+
+    private final Scenario search;
+    private final Scenario booking;
+    private final double searchShare;
+
+    MixedScenario(Scenario search, Scenario booking, double searchShare) {
+        if (searchShare < 0 || searchShare > 1) {
+            throw new IllegalArgumentException("Search share must be between 0 and 1");
+        }
+        this.search = search;
+        this.booking = booking;
+        this.searchShare = searchShare;
+    }
+
+    @Override
+    public void iterate(Session session) {
+        if (session.getRandom().nextDouble() < LOGIN_SHARE) {
+            session.post("auth.login", "/api/auth/login", Map.of());
+        } else if (session.getRandom().nextDouble() < searchShare) {
+            search.iterate(session);
+        } else {
+            booking.iterate(session);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.task_mentor.task_mentor.capture.TrafficLogReader;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReplayCli - Replays a traffic capture (app.traffic-capture.*) against a test instance
+ *
+ * ./mvnw -Ploadtest test-compile exec:java -Dexec.mainClass=com.task_mentor.task_mentor.loadtest.ReplayCli \
+ *     -Dexec.args="--log=traffic-capture --speed=4 --target=embedded --dataset-mentors=1000 --dataset-students=5000"
+ *
+ * Options (defaults in brackets):
+ *   --log                     a capture file, or a directory of them (replayed oldest first)
+ *   --speed [1.0]             2 replays twice as fast as captured
+ *   --max-in-flight [500]     requests due while this many are outstanding are dropped and counted
+ *   --target, --base-url, --accounts, --students, --mentors, --dataset-*, --timeout
+ *                             as for LoadTestCli; captured callers are mapped onto these accounts
+ *   --report [target/replay-result.json]
+ *   --max-error-rate [1.0]    fail the run when the overall error rate is higher
+ *
+ * Captured ids refer to the database the capture was taken from, so replay against
+ * a copy of it, or a synthetic dataset of similar size, for comparable results.
+ */
+public class ReplayCli {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        String log = options.string("log", null);
+        if (log == null) {
+            throw new IllegalArgumentException("--log is required");
+        }
+
+        ConfigurableApplicationContext embedded = LoadTestCli.startTarget(options);
+        try {
+            replay(options, Path.of(log), LoadTestCli.baseUrl(options, embedded));
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private static void replay(LoadTestOptions options, Path log, String baseUrl) throws Exception {
+        Duration timeout = options.duration("timeout", "30s");
+        double speed = options.decimal("speed", 1.0);
+        HttpClient client = LoadTestCli.httpClient(timeout);
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        List<Account> accounts = LoadTestCli.accounts(options, new AccountSetup(client, baseUrl, timeout, recorder));
+        recorder.reset();
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", baseUrl);
+        settings.put("log", log.toString());
+        settings.put("speed", speed);
+        settings.put("accounts", accounts.size());
+        System.out.println("Replay " + settings);
+
+        TrafficReplayer replayer = new TrafficReplayer(client, baseUrl, timeout, accounts, recorder);
+        long start = System.nanoTime();
+        try (TrafficLogReader reader = TrafficLogReader.open(log)) {
+            replayer.replay(reader, speed, options.integer("max-in-flight", 500));
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        settings.put("statusMismatches", replayer.getStatusMismatches());
+        settings.put("skipped", replayer.getSkipped());
+        LoadReport report = new LoadReport(settings, recorder.totals(), elapsed, replayer.getDroppedArrivals());
+        report.print(System.out);
+        System.out.printf("%d responses differed in status class from the capture, %d requests skipped%n",
+                replayer.getStatusMismatches(), replayer.getSkipped());
+        Path reportPath = Path.of(options.string("report", "target/replay-result.json"));
+        report.write(reportPath);
+        System.out.println("Wrote " + reportPath);
+
+        report.failIfErrorRateAbove(options.decimal("max-error-rate", 1.0));
+    }
+}
@@ -0,0 +1,24 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import java.util.List;
+
+/**
+ * Scenario - What one virtual user does per iteration
+ */
+interface Scenario {
+
+    void iterate(Session session);
+
+    static Scenario named(String name, List<Account> mentors, double searchShare) {
+        switch (name) {
+            case "search":
+                return new SearchScenario();
+            case "booking":
+                return new BookingScenario(mentors);
+            case "mixed":
+                return new MixedScenario(new SearchScenario(), new BookingScenario(mentors), searchShare);
+            default:
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected search, booking or mixed");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.task_mentor.task_mentor.loadtest;
+
+/**
+ * SearchScenario - Search requests with the filter mix the frontend sends
+ *
+ * Filter values come from the synthetic dataset's vocabulary, so against a
+ * SyntheticDataCli-loaded database the queries return realistic result sizes.
+ */
+class SearchScenario implements Scenario {
+
+    private static final String[] NAMES = {"Avery", "Jordan", "Riley", "Morgan", "Casey", "Nguyen", "Garcia", "Kim"};
+    private static final String[] COMPANIES = {"Acme Corp", "Globex", "Initech", "Hooli", "Umbrella"};
+    private static final String[] INDUSTRIES = {"Software", "Finance", "Healthcare", "Education"};
+    private static final String[] EXPERTISE = {"Java", "Spring", "React", "System Design", "Interviewing"};
+    private static final String[] CATEGORIES = {"Career Advice", "Programming", "Resume Review", "Interview Prep"};
+    private static final String[] DURATIONS = {"30", "45", "60", "90"};
+
+    @Override
+    public void iterate(Session session) {
+        int roll = session.getRandom().nextInt(100);
+        if (roll < 40) {
+            searchMentors(session);
+        } else if (roll < 70) {
+            session.get("search.tasks", "/api/search/tasks?category=" + Session.encode(session.pick(CATEGORIES))
+                    + "&maxDuration=" + session.pick(DURATIONS));
+        } else if (roll < 90) {
+            session.get("search.mentors-with-tasks", "/api/search/mentors-with-tasks?expertise="
+                    + Session.encode(session.pick(EXPERTISE))
+                    + "&taskCategory=" + Session.encode(session.pick(CATEGORIES)));
+        } else {
+            session.get("search.filter-options", "/api/search/filter-options");
+        }
+    }
+
+    private void searchMentors(Session session) {
+        String filter;
+        switch (session.getRandom().nextInt(4)) {
+            case 0 -> filter = "name=" + Session.encode(session.pick(NAMES));
+            case 1 -> filter = "company=" + Session.encode(session.pick(COMPANIES));
+            case 2 -> filter = "industry=" + Session.encode(session.pick(INDUSTRIES));
+            default -> filter = "expertise=" + Session.encode(session.pick(EXPERTISE)) + "&minYearsExperience=5";
+        }
+        session.get("search.mentors", "/api/search/mentors?" + filter);
+    }
+}
@@ -0,0 +1,132 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Session - One virtual user's view of the API: its account, its random stream and timed requests
+ *
+ * Every request is recorded under a short endpoint name rather than its URL, so
+ * /api/bookings/17/accept and /api/bookings/42/accept land in the same histogram.
+ */
+class Session {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final Account account;
+    private final LatencyRecorder recorder;
+    private final SplittableRandom random;
+
+    Session(HttpClient client, String baseUrl, Duration timeout, Account account,
+            LatencyRecorder recorder, SplittableRandom random) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.account = account;
+        this.recorder = recorder;
+        this.random = random;
+    }
+
+    Account getAccount() {
+        return account;
+    }
+
+    SplittableRandom getRandom() {
+        return random;
+    }
+
+    Response get(String endpoint, String path) {
+        return send(endpoint, request(path).GET());
+    }
+
+    Response post(String endpoint, String path, Object body) {
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body))));
+    }
+
+    Response put(String endpoint, String path) {
+        return send(endpoint, request(path).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    /**
+     * Sends a request with any method and an already serialized JSON body (empty for none)
+     */
+    Response send(String endpoint, String method, String path, String json) {
+        HttpRequest.Builder builder = request(path);
+        if (json.isEmpty()) {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        }
+        return send(endpoint, builder);
+    }
+
+    <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+        if (account != null) {
+            builder.header("Authorization", account.getAuthorization());
+        }
+        return builder;
+    }
+
+    private Response send(String endpoint, HttpRequest.Builder builder) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(endpoint, start, System.nanoTime(), response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            recorder.record(endpoint, start, System.nanoTime(), LatencyRecorder.NO_RESPONSE);
+            return new Response(LatencyRecorder.NO_RESPONSE, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(LatencyRecorder.NO_RESPONSE, "interrupted");
+        }
+    }
+
+    private static String toJson(Object body) {
+        try {
+            return MAPPER.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return !LatencyRecorder.isError(status);
+        }
+
+        JsonNode json() {
+            try {
+                return MAPPER.readTree(body);
+            } catch (IOException e) {
+                throw new IllegalStateException("Response is not JSON: " + body, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.task_mentor.task_mentor.loadtest;
+
+import com.task_mentor.task_mentor.capture.CapturedRequest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TrafficReplayer - Re-issues captured requests with their original spacing, optionally sped up
+ *
+ * Requests are sent at (captured start - first start) / speed after the replay
+ * starts, each on its own virtual thread, so slow responses never delay later
+ * requests. The log is written in completion order, so a look-ahead buffer puts
+ * records back into start order.
+ *
+ * Each captured caller is mapped to one replay account of the same role, in order
+ * of first appearance, so a replay keeps per-user concurrency and is repeatable.
+ * Requests are recorded as "METHOD pattern", and responses whose status class
+ * differs from the captured one are counted.
+ */
+class TrafficReplayer {
+
+    // Captured requests that finished up to this long after a later-starting one are still put back in order
+    private static final long REORDER_WINDOW_MS = 60_000;
+
+    private static final String REGISTER = "/api/auth/register";
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration timeout;
+    private final LatencyRecorder recorder;
+    private final Map<String, List<Account>> accountsByRole = new HashMap<>();
+    private final Map<Integer, Account> accountsByCaller = new HashMap<>();
+    private final Map<String, Integer> nextAccount = new HashMap<>();
+    private final LongAdder droppedArrivals = new LongAdder();
+    private final LongAdder statusMismatches = new LongAdder();
+    private long skipped;
+
+    TrafficReplayer(HttpClient client, String baseUrl, Duration timeout, List<Account> accounts,
+                    LatencyRecorder recorder) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.recorder = recorder;
+        for (Account account : accounts) {
+            accountsByRole.computeIfAbsent(account.getAccountType(), role -> new ArrayList<>()).add(account);
+        }
+    }
+
+    /**
+     * Replays every request from the iterator and returns once all of them completed
+     */
+    void replay(Iterator<CapturedRequest> requests, double speed, int maxInFlight) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Speed must be positive");
+        }
+        PriorityQueue<CapturedRequest> pending =
+                new PriorityQueue<>(Comparator.comparingLong(CapturedRequest::getStartedAtMillis));
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long replayStart = System.nanoTime();
+        long firstStart = -1;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (requests.hasNext() || !pending.isEmpty()) {
+                if (requests.hasNext()) {
+                    CapturedRequest read = requests.next();
+                    pending.add(read);
+                    if (read.getStartedAtMillis() - pending.peek().getStartedAtMillis() < REORDER_WINDOW_MS
+                            && requests.hasNext()) {
+                        continue;
+                    }
+                }
+
+                CapturedRequest request = pending.poll();
+                if (firstStart < 0) {
+                    firstStart = request.getStartedAtMillis();
+                }
+                if (REGISTER.equals(request.getPattern())) {
+                    // Emails are never captured, so there is nothing to register with
+                    skipped++;
+                    continue;
+                }
+
+                long due = replayStart
+                        + (long) (TimeUnit.MILLISECONDS.toNanos(request.getStartedAtMillis() - firstStart) / speed);
+                LockSupport.parkNanos(due - System.nanoTime());
+                if (!inFlight.tryAcquire()) {
+                    droppedArrivals.increment();
+                    continue;
+                }
+                Session session = new Session(client, baseUrl, timeout, account(request), recorder,
+                        new SplittableRandom(request.getCaller()));
+                executor.submit(() -> {
+                    try {
+                        send(session, request);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    long getDroppedArrivals() {
+        return droppedArrivals.sum();
+    }
+
+    long getStatusMismatches() {
+        return statusMismatches.sum();
+    }
+
+    long getSkipped() {
+        return skipped;
+    }
+
+    private void send(Session session, CapturedRequest request) {
+        String endpoint = request.getMethod() + " "
+                + (request.getPattern().isEmpty() ? request.getPath() : request.getPattern());
+        Session.Response response = session.send(endpoint, request.getMethod(), url(request), request.getBody());
+        if (response.status() / 100 != request.getStatus() / 100) {
+            statusMismatches.increment();
+        }
+    }
+
+    private Account account(CapturedRequest request) {
+        List<Account> candidates = accountsByRole.get(request.getRole());
+        if (CapturedRequest.ANONYMOUS.equals(request.getRole()) || candidates == null) {
+            return null;
+        }
+        return accountsByCaller.computeIfAbsent(request.getCaller(), caller -> {
+            int next = nextAccount.merge(request.getRole(), 1, Integer::sum) - 1;
+            return candidates.get(next % candidates.size());
+        });
+    }
+
+    private static String url(CapturedRequest request) {
+        if (request.getParams().isEmpty()) {
+            return request.getPath();
+        }
+        StringJoiner query = new StringJoiner("&", request.getPath() + "?", "");
+        request.getParams().forEach((name, value) -> query.add(Session.encode(name) + "=" + Session.encode(value)));
+        return query.toString();
+    }
+}
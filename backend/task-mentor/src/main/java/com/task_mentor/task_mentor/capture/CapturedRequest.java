@@ -0,0 +1,97 @@
+package com.task_mentor.task_mentor.capture;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CapturedRequest - Sanitized metadata of one API request, as stored in the traffic log
+ *
+ * No credentials, emails or free text are kept: the caller is only a role and a
+ * salted pseudonym, and string values in query parameters and bodies are masked
+ * by TrafficSanitizer before a CapturedRequest is built.
+ */
+public class CapturedRequest {
+
+    public static final String ANONYMOUS = "anonymous";
+    public static final String STUDENT = "student";
+    public static final String MENTOR = "mentor";
+
+    private final long startedAtMillis;
+    private final String method;
+    private final String path;
+    private final String pattern;
+    private final Map<String, String> params;
+    private final String body;
+    private final String role;
+    private final int caller;
+    private final int status;
+    private final long durationMicros;
+
+    public CapturedRequest(long startedAtMillis, String method, String path, String pattern,
+                           Map<String, String> params, String body, String role, int caller,
+                           int status, long durationMicros) {
+        this.startedAtMillis = startedAtMillis;
+        this.method = method;
+        this.path = path;
+        this.pattern = pattern == null ? "" : pattern;
+        this.params = Collections.unmodifiableMap(new LinkedHashMap<>(params));
+        this.body = body == null ? "" : body;
+        this.role = role;
+        this.caller = caller;
+        this.status = status;
+        this.durationMicros = durationMicros;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Concrete request path, e.g. /api/bookings/17/accept
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Matched handler pattern, e.g. /api/bookings/{id}/accept, or empty when no handler matched
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Map<String, String> getParams() {
+        return params;
+    }
+
+    /**
+     * Sanitized JSON body, or empty when the request had none
+     */
+    public String getBody() {
+        return body;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Salted hash of the caller's login; equal within one capture run, meaningless across runs
+     */
+    public int getCaller() {
+        return caller;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+}
@@ -0,0 +1,105 @@
+package com.task_mentor.task_mentor.capture;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * TrafficLog - Binary format of the traffic capture files
+ *
+ * A file starts with the magic "TMCAP", a version byte and the capture start
+ * time (epoch millis, 8 bytes). Each record is a varint payload length followed by:
+ *
+ *   zigzag varint  start time relative to the file's start time (ms)
+ *   byte           method (index into METHODS)
+ *   string         path
+ *   string         handler pattern
+ *   varint         parameter count, then key and value strings
+ *   string         sanitized JSON body
+ *   byte           caller role (index into ROLES)
+ *   int (4 bytes)  caller pseudonym
+ *   varint         status
+ *   varint         duration (microseconds)
+ *
+ * Strings are a varint byte length followed by UTF-8. The length prefix lets a
+ * reader stop cleanly at a record that was cut off by a crash.
+ */
+final class TrafficLog {
+
+    static final byte[] MAGIC = "TMCAP".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final String FILE_PREFIX = "traffic-";
+    static final String FILE_SUFFIX = ".tmcap";
+
+    static final List<String> METHODS = List.of("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
+    static final List<String> ROLES = List.of(
+            CapturedRequest.ANONYMOUS, CapturedRequest.STUDENT, CapturedRequest.MENTOR);
+
+    private TrafficLog() {
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeZigZag(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readZigZag(InputStream in) throws IOException {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(InputStream in) throws IOException {
+        int length = (int) readVarLong(in);
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int code(List<String> values, String value) {
+        int index = values.indexOf(value);
+        if (index < 0) {
+            throw new IllegalArgumentException("Cannot encode '" + value + "', expected one of " + values);
+        }
+        return index;
+    }
+
+    static String decode(List<String> values, int code) throws IOException {
+        if (code < 0 || code >= values.size()) {
+            throw new IOException("Unknown code " + code + " in traffic log");
+        }
+        return values.get(code);
+    }
+}
@@ -0,0 +1,144 @@
+package com.task_mentor.task_mentor.capture;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * TrafficLogReader - Streams captured requests back out of one or more traffic log files
+ *
+ * Files are read in the order given (TrafficLogWriter.files returns them oldest
+ * first). A record cut short at the end of a file, as left by a crash, ends that
+ * file instead of failing the read.
+ */
+public class TrafficLogReader implements Iterator<CapturedRequest>, Closeable {
+
+    private final Iterator<Path> files;
+    private DataInputStream in;
+    private long fileStartMillis;
+    private CapturedRequest next;
+
+    public TrafficLogReader(List<Path> files) {
+        this.files = files.iterator();
+    }
+
+    /**
+     * Reads a single log file, or every log file in a directory
+     */
+    public static TrafficLogReader open(Path fileOrDirectory) throws IOException {
+        return new TrafficLogReader(Files.isDirectory(fileOrDirectory)
+                ? TrafficLogWriter.files(fileOrDirectory)
+                : List.of(fileOrDirectory));
+    }
+
+    public static List<CapturedRequest> readAll(Path fileOrDirectory) throws IOException {
+        List<CapturedRequest> requests = new ArrayList<>();
+        try (TrafficLogReader reader = open(fileOrDirectory)) {
+            reader.forEachRemaining(requests::add);
+        }
+        return requests;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (next == null) {
+                if (in == null && !openNextFile()) {
+                    return false;
+                }
+                next = readRecord();
+                if (next == null) {
+                    in.close();
+                    in = null;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CapturedRequest next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        CapturedRequest request = next;
+        next = null;
+        return request;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+
+    private boolean openNextFile() throws IOException {
+        if (!files.hasNext()) {
+            return false;
+        }
+        Path file = files.next();
+        in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024));
+        byte[] magic = in.readNBytes(TrafficLog.MAGIC.length);
+        if (!Arrays.equals(magic, TrafficLog.MAGIC)) {
+            throw new IOException(file + " is not a traffic log");
+        }
+        int version = in.read();
+        if (version != TrafficLog.VERSION) {
+            throw new IOException(file + " has unsupported traffic log version " + version);
+        }
+        fileStartMillis = in.readLong();
+        return true;
+    }
+
+    /**
+     * @return the next record, or null at the end of the file (including a truncated last record)
+     */
+    private CapturedRequest readRecord() throws IOException {
+        byte[] payload;
+        try {
+            int length = (int) TrafficLog.readVarLong(in);
+            payload = in.readNBytes(length);
+            if (payload.length < length) {
+                return null;
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+
+        InputStream record = new ByteArrayInputStream(payload);
+        long startedAt = fileStartMillis + TrafficLog.readZigZag(record);
+        String method = TrafficLog.decode(TrafficLog.METHODS, record.read());
+        String path = TrafficLog.readString(record);
+        String pattern = TrafficLog.readString(record);
+        int paramCount = (int) TrafficLog.readVarLong(record);
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < paramCount; i++) {
+            params.put(TrafficLog.readString(record), TrafficLog.readString(record));
+        }
+        String body = TrafficLog.readString(record);
+        String role = TrafficLog.decode(TrafficLog.ROLES, record.read());
+        int caller = new DataInputStream(record).readInt();
+        int status = (int) TrafficLog.readVarLong(record);
+        long durationMicros = TrafficLog.readVarLong(record);
+
+        return new CapturedRequest(startedAt, method, path, pattern, params, body, role, caller, status, durationMicros);
+    }
+}
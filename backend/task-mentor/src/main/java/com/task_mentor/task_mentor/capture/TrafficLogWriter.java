@@ -0,0 +1,124 @@
+package com.task_mentor.task_mentor.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * TrafficLogWriter - Appends captured requests to size-rotated traffic log files
+ *
+ * A new file is started once the current one reaches maxFileBytes, and the oldest
+ * files are deleted so that at most maxFiles remain. Not thread-safe: the capture
+ * filter hands records to a single writer thread (TrafficRecorder).
+ */
+public class TrafficLogWriter implements Closeable {
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream(512);
+
+    private OutputStream out;
+    private long fileStartMillis;
+    private long fileBytes;
+    private int sequence;
+
+    public TrafficLogWriter(Path directory, long maxFileBytes, int maxFiles) throws IOException {
+        if (maxFileBytes < 1024) {
+            throw new IllegalArgumentException("Traffic log files must be allowed at least 1 KB");
+        }
+        if (maxFiles < 1) {
+            throw new IllegalArgumentException("At least one traffic log file must be kept");
+        }
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        Files.createDirectories(directory);
+    }
+
+    public void append(CapturedRequest request) throws IOException {
+        if (out == null || fileBytes >= maxFileBytes) {
+            rotate(request.getStartedAtMillis());
+        }
+
+        record.reset();
+        TrafficLog.writeZigZag(record, request.getStartedAtMillis() - fileStartMillis);
+        record.write(TrafficLog.code(TrafficLog.METHODS, request.getMethod()));
+        TrafficLog.writeString(record, request.getPath());
+        TrafficLog.writeString(record, request.getPattern());
+        TrafficLog.writeVarLong(record, request.getParams().size());
+        for (Map.Entry<String, String> param : request.getParams().entrySet()) {
+            TrafficLog.writeString(record, param.getKey());
+            TrafficLog.writeString(record, param.getValue());
+        }
+        TrafficLog.writeString(record, request.getBody());
+        record.write(TrafficLog.code(TrafficLog.ROLES, request.getRole()));
+        new DataOutputStream(record).writeInt(request.getCaller());
+        TrafficLog.writeVarLong(record, request.getStatus());
+        TrafficLog.writeVarLong(record, request.getDurationMicros());
+
+        ByteArrayOutputStream length = new ByteArrayOutputStream(5);
+        TrafficLog.writeVarLong(length, record.size());
+        length.writeTo(out);
+        record.writeTo(out);
+        fileBytes += length.size() + record.size();
+    }
+
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Log files in the directory, oldest first
+     */
+    public static List<Path> files(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            return entries
+                    .filter(p -> p.getFileName().toString().startsWith(TrafficLog.FILE_PREFIX)
+                            && p.getFileName().toString().endsWith(TrafficLog.FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private void rotate(long startMillis) throws IOException {
+        close();
+
+        // Zero-padded so that name order is creation order
+        Path file = directory.resolve(String.format("%s%013d-%04d%s",
+                TrafficLog.FILE_PREFIX, startMillis, sequence++ % 10_000, TrafficLog.FILE_SUFFIX));
+        out = new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW), 64 * 1024);
+        out.write(TrafficLog.MAGIC);
+        out.write(TrafficLog.VERSION);
+        new DataOutputStream(out).writeLong(startMillis);
+        fileStartMillis = startMillis;
+        fileBytes = TrafficLog.MAGIC.length + 1 + Long.BYTES;
+
+        List<Path> files = files(directory);
+        for (int i = 0; i < files.size() - maxFiles; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.task_mentor.task_mentor.capture;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrafficRecorder - Hands captured requests from request threads to a single log writer thread
+ *
+ * Request threads only offer to a bounded queue; when the writer falls behind, new
+ * records are dropped (and counted) rather than slowing requests down.
+ */
+public class TrafficRecorder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficRecorder.class);
+
+    private static final long FLUSH_INTERVAL_MS = 1000;
+
+    private final TrafficLogWriter writer;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final Counter recorded;
+    private final Counter dropped;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public TrafficRecorder(TrafficLogWriter writer, int queueCapacity, MeterRegistry registry) {
+        this.writer = writer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recorded = Counter.builder("traffic.capture.recorded")
+                .description("Requests written to the traffic capture log")
+                .register(registry);
+        this.dropped = Counter.builder("traffic.capture.dropped")
+                .description("Captured requests dropped because the log writer fell behind or failed")
+                .register(registry);
+        this.thread = new Thread(this::run, "traffic-capture-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Never blocks; returns false when the record was dropped
+     */
+    public boolean offer(CapturedRequest request) {
+        if (running && queue.offer(request)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        writer.close();
+    }
+
+    private void run() {
+        long lastFlush = System.currentTimeMillis();
+        while (running || !queue.isEmpty()) {
+            try {
+                CapturedRequest request = queue.poll(FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (request != null) {
+                    writer.append(request);
+                    recorded.increment();
+                }
+                long now = System.currentTimeMillis();
+                if (request == null || (queue.isEmpty() && now - lastFlush >= FLUSH_INTERVAL_MS)) {
+                    writer.flush();
+                    lastFlush = now;
+                }
+            } catch (IOException e) {
+                dropped.increment();
+                logger.error("Failed to write traffic capture log: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            logger.error("Failed to flush traffic capture log: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.task_mentor.task_mentor.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * TrafficSanitizer - Strips personal data from captured query parameters and JSON bodies
+ *
+ * Credentials are dropped outright. Numbers, booleans and dates are kept because
+ * they decide what the server does (ids, durations, booking slots). Other strings
+ * are replaced by x's of the same length, up to 64, so the request keeps its size
+ * without its text, except for fields listed as safe (enum-like values such as a
+ * task category). Query parameter values are kept unless the parameter is listed
+ * as masked, since search filters are what make captured traffic realistic.
+ */
+public class TrafficSanitizer {
+
+    private static final Pattern SENSITIVE = Pattern.compile("(?i).*(password|token|secret|authorization|email).*");
+    private static final int MAX_MASK_LENGTH = 64;
+    private static final int MAX_PARAM_LENGTH = 100;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Set<String> maskedParams;
+    private final Set<String> keptBodyFields;
+
+    public TrafficSanitizer(Set<String> maskedParams, Set<String> keptBodyFields) {
+        this.maskedParams = maskedParams;
+        this.keptBodyFields = keptBodyFields;
+    }
+
+    public Map<String, String> params(Map<String, String[]> parameters) {
+        Map<String, String> sanitized = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            if (SENSITIVE.matcher(name).matches()) {
+                continue;
+            }
+            String value = String.join(",", parameter.getValue());
+            if (maskedParams.contains(name)) {
+                value = mask(value);
+            } else if (value.length() > MAX_PARAM_LENGTH) {
+                value = value.substring(0, MAX_PARAM_LENGTH);
+            }
+            sanitized.put(name, value);
+        }
+        return sanitized;
+    }
+
+    /**
+     * @return the sanitized JSON, or an empty string when the body is empty or not JSON
+     */
+    public String body(byte[] json) {
+        if (json == null || json.length == 0) {
+            return "";
+        }
+        try {
+            JsonNode root = mapper.readTree(json);
+            if (root == null || !(root.isObject() || root.isArray())) {
+                return "";
+            }
+            return mapper.writeValueAsString(sanitize(root, null));
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private JsonNode sanitize(JsonNode node, String field) {
+        if (node instanceof ObjectNode object) {
+            Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                if (SENSITIVE.matcher(entry.getKey()).matches()) {
+                    fields.remove();
+                } else {
+                    entry.setValue(sanitize(entry.getValue(), entry.getKey()));
+                }
+            }
+            return object;
+        }
+        if (node instanceof ArrayNode array) {
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, sanitize(array.get(i), field));
+            }
+            return array;
+        }
+        if (node.isTextual() && !keptBodyFields.contains(field) && !isDate(node.asText())) {
+            return TextNode.valueOf(mask(node.asText()));
+        }
+        return node;
+    }
+
+    private static boolean isDate(String value) {
+        try {
+            if (value.length() > 10) {
+                LocalDateTime.parse(value);
+            } else {
+                LocalDate.parse(value);
+            }
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String mask(String value) {
+        return "x".repeat(Math.max(1, Math.min(value.length(), MAX_MASK_LENGTH)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.task_mentor.task_mentor.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import javax.cache.CacheManager;
+import java.io.IOException;
+
+/**
+ * HibernateCacheConfig - Second-level and query cache setup
+ * Entities marked with @Cache are kept in the JCache (Ehcache) regions defined in ehcache.xml,
+ * and Hibernate evicts them on every save/delete that goes through the entity manager
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Cache manager owned by this application context
+     * A dedicated provider instance keeps it from being shared with (and closed by) other contexts
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(
+            @Value("${app.cache.config-location:classpath:ehcache.xml}") Resource cacheConfig) throws IOException {
+        return new EhcacheCachingProvider().getCacheManager(cacheConfig.getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            ObjectProvider<CacheManager> hibernateCacheManager,
+            @Value("${app.cache.statistics.enabled:true}") boolean statisticsEnabled) {
+
+        return properties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            boolean cacheEnabled = cacheManager != null;
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, cacheEnabled);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, cacheEnabled);
+            if (cacheEnabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put("hibernate.javax.cache.cache_manager", cacheManager);
+                properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+                // Task inserts only touch the inverse side of Mentor.tasks, so evict that collection explicitly
+                properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            }
+            // Hit/miss/put counts per region, read by CacheStatisticsService
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+            // Statistics would otherwise log a "Session Metrics" block at INFO for every session
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+}
@@ -0,0 +1,246 @@
+package com.task_mentor.task_mentor.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_mentor.task_mentor.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * IdempotencyConfig - Idempotency-Key support for the create endpoints (app.idempotency.enabled)
+ *
+ * A POST to /api/bookings or /api/tasks that carries an Idempotency-Key header executes
+ * once per caller and key; retries get the stored response back, marked with
+ * Idempotent-Replayed, without reaching the controller. Reusing a key for a different
+ * body is rejected with 422. Server errors are not stored, so those can be retried.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * Runs inside Spring Security, so keys are scoped to the authenticated caller and
+     * unauthenticated requests never claim one
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> idempotencyFilter(IdempotencyService idempotencyService,
+                                                                          ObjectMapper objectMapper) {
+
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+            }
+
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                String clientKey = request.getHeader(HEADER).trim();
+                if (clientKey.isEmpty() || clientKey.length() > MAX_KEY_LENGTH) {
+                    writeError(response, HttpStatus.BAD_REQUEST,
+                            HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+                    return;
+                }
+
+                HttpServletRequest target = request;
+                String requestHash;
+                String contentType = request.getContentType();
+                if (contentType != null && contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+                    requestHash = hashParts(request);
+                } else {
+                    byte[] body = request.getInputStream().readAllBytes();
+                    requestHash = HexFormat.of().formatHex(digest().digest(body));
+                    target = new CachedBodyRequest(request, body);
+                }
+
+                String key = HexFormat.of().formatHex(digest().digest(
+                        (caller() + "\n" + request.getMethod() + "\n" + request.getRequestURI() + "\n" + clientKey)
+                                .getBytes(StandardCharsets.UTF_8)));
+
+                IdempotencyService.Claim claim = idempotencyService.begin(key, requestHash);
+                switch (claim.outcome()) {
+                    case REPLAY -> {
+                        IdempotencyService.StoredResponse stored = claim.response();
+                        response.setStatus(stored.status());
+                        if (stored.contentType() != null) {
+                            response.setContentType(stored.contentType());
+                        }
+                        response.setHeader(REPLAYED_HEADER, "true");
+                        response.setContentLength(stored.body().length);
+                        response.getOutputStream().write(stored.body());
+                    }
+                    case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                            HEADER + " was already used for a different request");
+                    case IN_PROGRESS -> writeError(response, HttpStatus.CONFLICT,
+                            "A request with this " + HEADER + " is still being processed");
+                    case ACQUIRED -> execute(key, target, response, chain);
+                }
+            }
+
+            private void execute(String key, HttpServletRequest request, HttpServletResponse response,
+                                 FilterChain chain) throws ServletException, IOException {
+                ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+                boolean completed = false;
+                try {
+                    chain.doFilter(request, wrapper);
+                    if (wrapper.getStatus() < 500) {
+                        idempotencyService.complete(key, wrapper.getStatus(), wrapper.getContentType(),
+                                wrapper.getContentAsByteArray());
+                        completed = true;
+                    }
+                } finally {
+                    if (!completed) {
+                        idempotencyService.abandon(key);
+                    }
+                    wrapper.copyBodyToResponse();
+                }
+            }
+
+            // Hashes each part's name, filename and content without buffering whole uploads
+            private String hashParts(HttpServletRequest request) throws ServletException, IOException {
+                MessageDigest digest = digest();
+                byte[] buffer = new byte[8192];
+                for (Part part : request.getParts()) {
+                    digest.update((part.getName() + "\n" + part.getSubmittedFileName() + "\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                    try (InputStream in = part.getInputStream()) {
+                        int read;
+                        while ((read = in.read(buffer)) != -1) {
+                            digest.update(buffer, 0, read);
+                        }
+                    }
+                }
+                return HexFormat.of().formatHex(digest.digest());
+            }
+
+            private String caller() {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "";
+            }
+
+            private void writeError(HttpServletResponse response, HttpStatus status, String message)
+                    throws IOException {
+                response.setStatus(status.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), Map.of("error", message));
+            }
+        };
+
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/bookings", "/api/tasks", "/api/tasks/json");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 20);
+        return registration;
+    }
+
+    private static MessageDigest digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Serves a body that was already read for hashing to the rest of the chain
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The body is already in memory, so all of it is available as soon as a listener is set
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.task_mentor.task_mentor.config;
+
+import com.task_mentor.task_mentor.service.HotImageCache;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * MetricsConfig - Micrometer meters exported on /actuator/prometheus
+ *
+ * http_server_requests_seconds gets a "handler" tag (Controller.method) and
+ * client-side p50/p95/p99. Setting
+ * management.metrics.distribution.percentiles-histogram.http.server.requests=true
+ * switches to Prometheus histogram buckets instead, which can be aggregated across
+ * instances (the registry then drops the quantiles). Hibernate, Hikari and JVM meters
+ * come from Spring Boot's auto-configuration; statements per request are recorded by
+ * QueryCountConfig and booking counters live in BookingMetrics.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    @Bean
+    public ServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context)
+                        .and(KeyValue.of("handler", handlerName(context.getCarrier())));
+            }
+        };
+    }
+
+    @Bean
+    public MeterFilter requestLatencyPercentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith(HTTP_SERVER_REQUESTS)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(PERCENTILES)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder hotImageCacheMetrics(HotImageCache hotImageCache) {
+        return registry -> {
+            FunctionCounter.builder("images.hot_cache.hits", hotImageCache, HotImageCache::getHitCount)
+                    .register(registry);
+            FunctionCounter.builder("images.hot_cache.misses", hotImageCache, HotImageCache::getMissCount)
+                    .register(registry);
+            FunctionCounter.builder("images.hot_cache.evictions", hotImageCache, HotImageCache::getEvictionCount)
+                    .register(registry);
+            Gauge.builder("images.hot_cache.entries", hotImageCache, HotImageCache::getEntryCount)
+                    .register(registry);
+            Gauge.builder("images.hot_cache.bytes", hotImageCache, HotImageCache::getCurrentBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,156 @@
+package com.task_mentor.task_mentor.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * QueryCountConfig - Per-request SQL statement counting
+ *
+ * The application DataSource is wrapped in a datasource-proxy that feeds
+ * RequestStatementCounter. Every request records http_server_requests_statements
+ * and logs a warning when it runs more than app.query-count.warn-threshold statements,
+ * or repeats the same statement app.query-count.repeat-threshold times (usually an N+1).
+ * With app.query-count.response-header=true (local development and tests) the count is
+ * also returned in the X-Query-Count header; that buffers response bodies, so it stays
+ * off in production.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+
+    public static final String HEADER = "X-Query-Count";
+    static final String STATEMENTS_PER_REQUEST = "http.server.requests.statements";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountConfig.class);
+
+    @Bean
+    public static RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    /**
+     * Wraps only the bean named "dataSource" so the replica router's own pools stay unproxied
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(RequestStatementCounter requestStatementCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name("counting")
+                            .listener(requestStatementCounter)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Runs ahead of Spring Security so statements issued while authenticating are counted too
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> statementCountFilter(
+            RequestStatementCounter requestStatementCounter,
+            MeterRegistry registry,
+            @Value("${app.query-count.response-header:false}") boolean exposeHeader,
+            @Value("${app.query-count.warn-threshold:30}") int warnThreshold,
+            @Value("${app.query-count.repeat-threshold:10}") int repeatThreshold) {
+
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected boolean shouldNotFilterAsyncDispatch() {
+                // The buffered body of an async request is written out on its last dispatch
+                return false;
+            }
+
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                boolean asyncDispatch = isAsyncDispatch(request);
+                // Buffering an event stream would hold back every event until the stream ends
+                HttpServletResponse target = exposeHeader && !asyncDispatch && !acceptsEventStream(request)
+                        ? new ContentCachingResponseWrapper(response) : response;
+
+                if (!asyncDispatch) {
+                    requestStatementCounter.start();
+                }
+                try {
+                    chain.doFilter(request, target);
+                } finally {
+                    if (!asyncDispatch) {
+                        RequestStatementCounter.Statements statements = requestStatementCounter.stop();
+                        // Async handlers finish on another thread, so their count would be incomplete
+                        if (!isAsyncStarted(request)) {
+                            record(request, statements);
+                            if (exposeHeader) {
+                                target.setHeader(HEADER, String.valueOf(statements.getCount()));
+                            }
+                        }
+                    }
+                    ContentCachingResponseWrapper buffered =
+                            WebUtils.getNativeResponse(target, ContentCachingResponseWrapper.class);
+                    if (buffered != null && !isAsyncStarted(request)) {
+                        buffered.copyBodyToResponse();
+                    }
+                }
+            }
+
+            private boolean acceptsEventStream(HttpServletRequest request) {
+                String accept = request.getHeader(HttpHeaders.ACCEPT);
+                return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+            }
+
+            private void record(HttpServletRequest request, RequestStatementCounter.Statements statements) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+                DistributionSummary.builder(STATEMENTS_PER_REQUEST)
+                        .description("SQL statements executed while handling a request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .tag("handler", MetricsConfig.handlerName(request))
+                        .register(registry)
+                        .record(statements.getCount());
+
+                Map.Entry<String, Integer> mostRepeated = statements.getMostRepeated();
+                if (mostRepeated != null && mostRepeated.getValue() >= repeatThreshold) {
+                    QueryCountConfig.logger.warn("{} {} ran the same statement {} times (possible N+1): {}",
+                            request.getMethod(), uri, mostRepeated.getValue(), mostRepeated.getKey());
+                } else if (statements.getCount() > warnThreshold) {
+                    QueryCountConfig.logger.warn("{} {} executed {} SQL statements (threshold {})",
+                            request.getMethod(), uri, statements.getCount(), warnThreshold);
+                }
+            }
+        };
+
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,63 @@
+package com.task_mentor.task_mentor.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * ReactiveSearchConfig - R2DBC connection pool for the reactive search endpoints
+ * Only active when app.search.reactive.enabled=true; every other endpoint keeps using JPA.
+ * The pool is not registered as a ConnectionFactory bean, since that would make
+ * Spring Boot back off from creating the JDBC DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.search.reactive.enabled", havingValue = "true")
+public class ReactiveSearchConfig implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient searchDatabaseClient(
+            @Value("${app.search.reactive.url}") String url,
+            @Value("${app.search.reactive.username:${spring.datasource.username:}}") String username,
+            @Value("${app.search.reactive.password:${spring.datasource.password:}}") String password,
+            @Value("${app.search.reactive.pool.initial-size:2}") int initialSize,
+            @Value("${app.search.reactive.pool.max-size:20}") int maxSize,
+            @Value("${app.search.reactive.pool.max-acquire-time-ms:5000}") long maxAcquireTimeMs) {
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        ConnectionPoolConfiguration configuration = ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("search-r2dbc")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(Duration.ofMillis(maxAcquireTimeMs))
+                .build();
+
+        connectionPool = new ConnectionPool(configuration);
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.task_mentor.task_mentor.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * ReplicaRoutingDataSource - Hands out read-only connections from the replica pools
+ *
+ * Used as the read-only target of a LazyConnectionDataSourceProxy, so it only sees
+ * connections for @Transactional(readOnly = true) work. Replicas are picked round-robin
+ * among those whose last lag check passed; when none are healthy, or a replica refuses
+ * a connection, the read falls back to the primary pool.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final String lagQuery;
+    private final long maxLagMs;
+
+    // 1 = healthy; replicas start at 0 so reads stay on the primary until the first lag check passes
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    String lagQuery, long maxLagMs) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.healthy = new AtomicIntegerArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(count, 1));
+
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % count;
+            if (!isHealthy(index)) {
+                continue;
+            }
+            try {
+                return replicas.get(index).getConnection();
+            } catch (SQLException e) {
+                log.warn("Replica pool {} unavailable, marking unhealthy: {}",
+                        replicas.get(index).getPoolName(), e.getMessage());
+                setHealthy(index, false);
+            }
+        }
+
+        return primary.getConnection();
+    }
+
+    /**
+     * Not supported: Hikari pools are bound to their configured credentials and reject
+     * per-call ones the same way
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica routing uses the configured pool credentials");
+    }
+
+    /**
+     * Run the lag query against every replica and update which ones may serve reads
+     * A replica is healthy when the query succeeds and reports at most maxLagMs of lag
+     */
+    public void checkReplicaLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(i);
+            boolean wasHealthy = isHealthy(i);
+            boolean nowHealthy;
+
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+                long lagMs = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                nowHealthy = lagMs <= maxLagMs;
+                if (!nowHealthy && wasHealthy) {
+                    log.warn("Replica pool {} is {} ms behind (limit {} ms), routing reads elsewhere",
+                            replica.getPoolName(), lagMs, maxLagMs);
+                }
+            } catch (SQLException e) {
+                nowHealthy = false;
+                if (wasHealthy) {
+                    log.warn("Lag check failed for replica pool {}: {}", replica.getPoolName(), e.getMessage());
+                }
+            }
+
+            if (nowHealthy && !wasHealthy) {
+                log.info("Replica pool {} is serving reads", replica.getPoolName());
+            }
+            setHealthy(i, nowHealthy);
+        }
+    }
+
+    public boolean isHealthy(int replicaIndex) {
+        return healthy.get(replicaIndex) == 1;
+    }
+
+    void setHealthy(int replicaIndex, boolean value) {
+        healthy.set(replicaIndex, value ? 1 : 0);
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Connection counts for every pool, keyed by Hikari pool name
+     * Pools that have not opened a connection yet are reported with zero counts
+     */
+    public Map<String, Map<String, Object>> getPoolStatistics() {
+        List<HikariDataSource> pools = new ArrayList<>();
+        pools.add(primary);
+        pools.addAll(replicas);
+
+        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();
+        for (int i = 0; i < pools.size(); i++) {
+            HikariDataSource pool = pools.get(i);
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("role", i == 0 ? "primary" : "replica");
+            values.put("healthy", i == 0 || isHealthy(i - 1));
+            values.put("active", bean == null ? 0 : bean.getActiveConnections());
+            values.put("idle", bean == null ? 0 : bean.getIdleConnections());
+            values.put("total", bean == null ? 0 : bean.getTotalConnections());
+            values.put("pending", bean == null ? 0 : bean.getThreadsAwaitingConnection());
+            statistics.put(pool.getPoolName(), values);
+        }
+        return statistics;
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
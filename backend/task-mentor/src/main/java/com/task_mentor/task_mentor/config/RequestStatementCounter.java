@@ -0,0 +1,84 @@
+package com.task_mentor.task_mentor.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RequestStatementCounter - Counts the JDBC statements executed on the current thread
+ * Registered as a datasource-proxy listener; counting only happens between start() and
+ * stop(), which QueryCountConfig calls around each request
+ */
+public class RequestStatementCounter implements QueryExecutionListener {
+
+    // Distinct statements remembered per request for repeated-query detection
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private static final ThreadLocal<Statements> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Statements statements = CURRENT.get();
+        if (statements == null) {
+            return;
+        }
+        statements.count++;
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            if (statements.executions.containsKey(sql) || statements.executions.size() < MAX_TRACKED_STATEMENTS) {
+                statements.executions.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    public void start() {
+        CURRENT.set(new Statements());
+    }
+
+    /**
+     * Statements executed so far in the current request, or 0 when not counting
+     */
+    public int currentCount() {
+        Statements statements = CURRENT.get();
+        return statements == null ? 0 : statements.count;
+    }
+
+    /**
+     * Stop counting and return what was executed since start()
+     */
+    public Statements stop() {
+        Statements statements = CURRENT.get();
+        CURRENT.remove();
+        return statements == null ? new Statements() : statements;
+    }
+
+    /**
+     * Statement count for one request plus how often each distinct SQL string ran
+     */
+    public static class Statements {
+
+        private int count;
+        private final Map<String, Integer> executions = new HashMap<>();
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * The SQL string executed most often, or null when nothing ran
+         */
+        public Map.Entry<String, Integer> getMostRepeated() {
+            return executions.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .orElse(null);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.task_mentor.task_mentor.config;
 
 import com.task_mentor.task_mentor.service.CustomUserDetailsService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -22,10 +24,13 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final Environment environment;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, CorsConfigurationSource corsConfigurationSource) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, CorsConfigurationSource corsConfigurationSource,
+                          Environment environment) {
         this.userDetailsService = userDetailsService;
         this.corsConfigurationSource = corsConfigurationSource;
+        this.environment = environment;
     }
 
     @Bean
@@ -59,6 +64,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/tasks/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/files/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/search/**").permitAll()
+                        // Health checks, also as /livez and /readyz when actuator has its own port
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/livez", "/readyz").permitAll()
+                        // Metrics and Prometheus scraping only on the internal management port
+                        .requestMatchers(this::isActuatorOnManagementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         // All other requests need authentication
                         .anyRequest().authenticated()
                 )
@@ -67,4 +77,12 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    // management.server.port may be 0 (random), in which case Boot publishes the bound port
+    private boolean isActuatorOnManagementPort(HttpServletRequest request) {
+        Integer port = environment.getProperty("local.management.port", Integer.class,
+                environment.getProperty("management.server.port", Integer.class));
+        return port != null && port > 0 && request.getLocalPort() == port
+                && request.getRequestURI().startsWith("/actuator/");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.task_mentor.task_mentor.config;
+
+import com.task_mentor.task_mentor.capture.CapturedRequest;
+import com.task_mentor.task_mentor.capture.TrafficLogWriter;
+import com.task_mentor.task_mentor.capture.TrafficRecorder;
+import com.task_mentor.task_mentor.capture.TrafficSanitizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TrafficCaptureConfig - Opt-in recording of sanitized API traffic for replay (app.traffic-capture.enabled)
+ *
+ * Each sampled /api/ request is written to a rotating binary log in app.traffic-capture.dir
+ * with its path, handler pattern, sanitized parameters and JSON body, caller role,
+ * status and timing. The loadtest profile's ReplayCli re-issues a log against a test
+ * instance. Callers are only kept as a salted hash that changes on every restart.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.traffic-capture.enabled", havingValue = "true")
+public class TrafficCaptureConfig {
+
+    private static final String API_PREFIX = "/api/";
+
+    @Bean
+    public TrafficRecorder trafficRecorder(
+            MeterRegistry registry,
+            @Value("${app.traffic-capture.dir:./traffic-capture}") String directory,
+            @Value("${app.traffic-capture.max-file-size:67108864}") long maxFileBytes,
+            @Value("${app.traffic-capture.max-files:10}") int maxFiles,
+            @Value("${app.traffic-capture.queue-capacity:10000}") int queueCapacity) throws IOException {
+        return new TrafficRecorder(new TrafficLogWriter(Path.of(directory), maxFileBytes, maxFiles),
+                queueCapacity, registry);
+    }
+
+    @Bean
+    public TrafficSanitizer trafficSanitizer(
+            @Value("${app.traffic-capture.masked-params:name,mentorName}") Set<String> maskedParams,
+            @Value("${app.traffic-capture.kept-body-fields:category,accountType,status,userType}") Set<String> keptBodyFields) {
+        return new TrafficSanitizer(maskedParams, keptBodyFields);
+    }
+
+    /**
+     * Runs just inside Spring Security, so the caller's role is known; requests rejected
+     * during authentication are not captured
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> trafficCaptureFilter(
+            TrafficRecorder trafficRecorder,
+            TrafficSanitizer trafficSanitizer,
+            @Value("${app.traffic-capture.sample-rate:1.0}") double sampleRate,
+            @Value("${app.traffic-capture.max-body-bytes:16384}") int maxBodyBytes) {
+
+        byte[] salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return !request.getRequestURI().startsWith(API_PREFIX)
+                        || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate);
+            }
+
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                ContentCachingRequestWrapper cached = new ContentCachingRequestWrapper(request, maxBodyBytes);
+                long startedAt = System.currentTimeMillis();
+                long start = System.nanoTime();
+                try {
+                    chain.doFilter(cached, response);
+                } finally {
+                    long durationMicros = (System.nanoTime() - start) / 1_000;
+                    capture(cached, response.getStatus(), startedAt, durationMicros);
+                }
+            }
+
+            private void capture(ContentCachingRequestWrapper request, int status, long startedAt, long durationMicros) {
+                String method = request.getMethod();
+                if ("TRACE".equals(method) || "CONNECT".equals(method)) {
+                    return;
+                }
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                String contentType = request.getContentType();
+                boolean json = contentType != null && contentType.contains("json");
+                // A body over the limit is only partly cached and would not parse
+                String body = json && request.getContentLength() <= maxBodyBytes
+                        ? trafficSanitizer.body(request.getContentAsByteArray()) : "";
+
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                trafficRecorder.offer(new CapturedRequest(
+                        startedAt,
+                        method,
+                        request.getRequestURI(),
+                        pattern != null ? pattern.toString() : "",
+                        trafficSanitizer.params(request.getParameterMap()),
+                        body,
+                        role(authentication),
+                        caller(authentication),
+                        status,
+                        durationMicros));
+            }
+
+            private String role(Authentication authentication) {
+                if (authentication == null || !authentication.isAuthenticated()) {
+                    return CapturedRequest.ANONYMOUS;
+                }
+                for (GrantedAuthority authority : authentication.getAuthorities()) {
+                    if ("ROLE_STUDENT".equals(authority.getAuthority())) {
+                        return CapturedRequest.STUDENT;
+                    }
+                    if ("ROLE_MENTOR".equals(authority.getAuthority())) {
+                        return CapturedRequest.MENTOR;
+                    }
+                }
+                return CapturedRequest.ANONYMOUS;
+            }
+
+            private int caller(Authentication authentication) {
+                if (CapturedRequest.ANONYMOUS.equals(role(authentication))) {
+                    return 0;
+                }
+                try {
+                    MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                    digest.update(salt);
+                    return ByteBuffer.wrap(digest.digest(authentication.getName().getBytes(StandardCharsets.UTF_8)))
+                            .getInt();
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException("SHA-256 is not available", e);
+                }
+            }
+        };
+
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 10);
+        return registration;
+    }
+}
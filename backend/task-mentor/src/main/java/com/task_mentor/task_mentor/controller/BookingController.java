@@ -2,14 +2,25 @@ package com.task_mentor.task_mentor.controller;
 
 import com.task_mentor.task_mentor.dto.BookingRequest;
 import com.task_mentor.task_mentor.dto.BookingResponse;
+import com.task_mentor.task_mentor.dto.BookingReviewRequest;
+import com.task_mentor.task_mentor.dto.BookingReviewResult;
 import com.task_mentor.task_mentor.entity.Booking;
+import com.task_mentor.task_mentor.service.BookingArchiveService;
 import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.BookingStreamService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +35,12 @@ public class BookingController {
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingStreamService bookingStreamService;
+
+    @Autowired
+    private BookingArchiveService bookingArchiveService;
+
     @PreAuthorize("hasRole('STUDENT')")
     @PostMapping
     public ResponseEntity<?> createBooking(@RequestBody BookingRequest request) {
@@ -80,6 +97,23 @@ public class BookingController {
         }
     }
 
+    /**
+     * POST /api/bookings/review
+     * Accepts and declines several pending bookings in one transaction; returns one result
+     * per decision, with the new status or the reason it was not applied
+     */
+    @PreAuthorize("hasRole('MENTOR')")
+    @PostMapping("/review")
+    public ResponseEntity<?> reviewBookings(@Valid @RequestBody BookingReviewRequest request) {
+        try {
+            List<BookingReviewResult> results = bookingService.reviewBookings(
+                    request.getMentorId(), request.getDecisions());
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @PutMapping("/{id}/cancel")
     public ResponseEntity<?> cancelBooking(
@@ -98,6 +132,28 @@ public class BookingController {
         }
     }
 
+    /**
+     * GET /api/bookings/stream
+     * Server-Sent Events for the signed-in user's bookings: a "booking" event with the
+     * booking's ids and new status after each create, accept, decline or cancel, a
+     * "reminder" event ahead of each accepted session, and a "resync" event when events
+     * were dropped and the booking lists should be reloaded
+     */
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamBookings(Authentication authentication, HttpServletResponse response) {
+        try {
+            SseEmitter emitter = bookingStreamService.subscribe(authentication.getName());
+            // Stops nginx-style proxies from buffering the stream
+            response.setHeader("X-Accel-Buffering", "no");
+            return ResponseEntity.ok(emitter);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/{id}")
     public ResponseEntity<?> getBookingById(@PathVariable Long id) {
@@ -117,12 +173,16 @@ public class BookingController {
             @RequestParam(required = false) Long studentId,
             @RequestParam(required = false) Long mentorId,
             @RequestParam(required = false) Long taskId,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
 
         try {
             List<Booking> bookings;
 
-            if (studentId != null) {
+            if (from != null || to != null) {
+                bookings = getBookingsBetween(studentId, mentorId, taskId, status, from, to);
+            } else if (studentId != null) {
                 bookings = bookingService.getBookingsByStudent(studentId);
             } else if (mentorId != null && status != null) {
                 bookings = bookingService.getBookingsByMentorAndStatus(mentorId, status);
@@ -148,9 +208,14 @@ public class BookingController {
 
     @PreAuthorize("hasRole('STUDENT')")
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<?> getBookingsByStudent(@PathVariable Long studentId) {
+    public ResponseEntity<?> getBookingsByStudent(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
         try {
-            List<Booking> bookings = bookingService.getBookingsByStudent(studentId);
+            List<Booking> bookings = from != null || to != null
+                    ? bookingService.getBookingsByStudent(studentId, from, to)
+                    : bookingService.getBookingsByStudent(studentId);
             List<BookingResponse> responses = bookings.stream()
                     .map(BookingResponse::fromEntity)
                     .collect(Collectors.toList());
@@ -164,11 +229,15 @@ public class BookingController {
     @GetMapping("/mentor/{mentorId}")
     public ResponseEntity<?> getBookingsByMentor(
             @PathVariable Long mentorId,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
         try {
             List<Booking> bookings;
 
-            if (status != null) {
+            if (from != null || to != null) {
+                bookings = getBookingsBetween(null, mentorId, null, status, from, to);
+            } else if (status != null) {
                 bookings = bookingService.getBookingsByMentorAndStatus(mentorId, status);
             } else {
                 bookings = bookingService.getBookingsByMentor(mentorId);
@@ -183,6 +252,30 @@ public class BookingController {
         }
     }
 
+    /**
+     * Finished bookings moved out of the live table by the archive job, for a student or
+     * a mentor and a date range
+     */
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/archive")
+    public ResponseEntity<?> getArchivedBookings(
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) Long mentorId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            if (studentId != null) {
+                return ResponseEntity.ok(bookingArchiveService.getArchivedByStudent(studentId, from, to));
+            }
+            if (mentorId != null) {
+                return ResponseEntity.ok(bookingArchiveService.getArchivedByMentor(mentorId, from, to));
+            }
+            return ResponseEntity.badRequest().body(createErrorResponse("studentId or mentorId is required"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(createErrorResponse(e.getMessage()));
+        }
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/task/{taskId}")
     public ResponseEntity<?> getBookingsByTask(@PathVariable Long taskId) {
@@ -213,6 +306,25 @@ public class BookingController {
     }
 
 
+    // Date-bounded lists are served for a student, a mentor or a status
+    private List<Booking> getBookingsBetween(Long studentId, Long mentorId, Long taskId, String status,
+                                             LocalDateTime from, LocalDateTime to) {
+        if (studentId != null) {
+            return bookingService.getBookingsByStudent(studentId, from, to);
+        }
+        if (mentorId != null && status != null) {
+            return bookingService.getBookingsByMentorAndStatus(mentorId, status, from, to);
+        }
+        if (mentorId != null) {
+            return bookingService.getBookingsByMentor(mentorId, from, to);
+        }
+        if (taskId == null && status != null) {
+            return bookingService.getBookingsByStatus(status, from, to);
+        }
+        throw new IllegalArgumentException("A date range needs a studentId, mentorId or status");
+    }
+
+
     private Map<String, String> createErrorResponse(String message) {
         Map<String, String> error = new HashMap<>();
         error.put("error", message);
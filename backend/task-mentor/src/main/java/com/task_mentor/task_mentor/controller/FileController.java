@@ -1,6 +1,9 @@
 package com.task_mentor.task_mentor.controller;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.task_mentor.task_mentor.service.FileStorageService;
+import com.task_mentor.task_mentor.service.HotImageCache;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -8,6 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 
 /**
@@ -22,9 +26,11 @@ import java.nio.file.Path;
 public class FileController {
     
     private final FileStorageService fileStorageService;
+    private final HotImageCache hotImageCache;
     
-    public FileController(FileStorageService fileStorageService) {
+    public FileController(FileStorageService fileStorageService, HotImageCache hotImageCache) {
         this.fileStorageService = fileStorageService;
+        this.hotImageCache = hotImageCache;
     }
     
     /**
@@ -38,6 +44,19 @@ public class FileController {
         try {
             // Get file path
             Path filePath = fileStorageService.getFilePath(filename);
+            
+            // Serve hot images from memory when the cache is enabled
+            if (hotImageCache.isEnabled()) {
+                ByteBuffer cached = hotImageCache.get(filename, filePath);
+                if (cached != null) {
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(determineContentType(filename)))
+                            .contentLength(cached.remaining())
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
+                            .body(new InputStreamResource(new ByteBufferBackedInputStream(cached)));
+                }
+            }
+            
             Resource resource = new UrlResource(filePath.toUri());
             
             // Check if file exists and is readable
@@ -4,8 +4,10 @@ import com.task_mentor.task_mentor.dto.MentorCreateRequest;
 import com.task_mentor.task_mentor.dto.MentorUpdateRequest;
 import com.task_mentor.task_mentor.dto.MentorSearchDTO;
 import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.MentorCounters;
 import com.task_mentor.task_mentor.entity.User;
 import com.task_mentor.task_mentor.repository.UserRepository;
+import com.task_mentor.task_mentor.service.MentorCountersService;
 import com.task_mentor.task_mentor.service.MentorService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -30,6 +32,9 @@ public class MentorController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
     @PreAuthorize("hasRole('MENTOR')")
     @PostMapping
     public ResponseEntity<?> createMentor(@RequestBody MentorCreateRequest request) {
@@ -70,6 +75,23 @@ public class MentorController {
         }
     }
 
+    /**
+     * GET /api/mentors/me/counters
+     * Pending requests, accepted upcoming sessions and task count for the dashboard badges,
+     * read from the mentor_counters read model instead of loading bookings
+     */
+    @GetMapping("/me/counters")
+    @PreAuthorize("hasRole('MENTOR')")
+    public ResponseEntity<?> getMyCounters(Authentication authentication) {
+        try {
+            MentorCounters counters = mentorCountersService.getCountersForEmail(authentication.getName());
+            return ResponseEntity.ok(counters);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(createErrorResponse("Mentor profile not found. Please create your profile first."));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getMentorById(@PathVariable Long id) {
         try {
@@ -0,0 +1,196 @@
+package com.task_mentor.task_mentor.controller;
+
+import com.task_mentor.task_mentor.dto.MentorSearchDTO;
+import com.task_mentor.task_mentor.dto.TaskSearchDTO;
+import com.task_mentor.task_mentor.entity.Student;
+import com.task_mentor.task_mentor.service.ReactiveSearchService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ReactiveSearchController - /api/search/* served from ReactiveSearchService
+ *
+ * Replaces SearchController when app.search.reactive.enabled=true. Plain JSON requests
+ * get the same response bodies as SearchController. Clients that send
+ * Accept: application/x-ndjson on the list endpoints get one result per line,
+ * written as rows come back from the database. The request thread is released while
+ * the query runs.
+ */
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin(origins = "http://localhost:5173")
+@ConditionalOnProperty(name = "app.search.reactive.enabled", havingValue = "true")
+public class ReactiveSearchController {
+
+    private final ReactiveSearchService reactiveSearchService;
+
+    public ReactiveSearchController(ReactiveSearchService reactiveSearchService) {
+        this.reactiveSearchService = reactiveSearchService;
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping(value = "/mentors", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MentorSearchDTO> streamMentors(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String expertise,
+            @RequestParam(required = false) Integer minYearsExperience) {
+        return reactiveSearchService.searchMentors(name, company, industry, expertise, minYearsExperience);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/mentors")
+    public Mono<ResponseEntity<Map<String, Object>>> searchMentors(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String industry,
+            @RequestParam(required = false) String expertise,
+            @RequestParam(required = false) Integer minYearsExperience) {
+        return toResponse("mentors",
+                reactiveSearchService.searchMentors(name, company, industry, expertise, minYearsExperience),
+                filters("name", name, "company", company, "industry", industry, "expertise", expertise,
+                        "minYearsExperience", minYearsExperience));
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping(value = "/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskSearchDTO> streamTasks(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long mentorId,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration) {
+        return reactiveSearchService.searchTasks(title, category, mentorId, minDuration, maxDuration);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/tasks")
+    public Mono<ResponseEntity<Map<String, Object>>> searchTasks(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Long mentorId,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration) {
+        return toResponse("tasks",
+                reactiveSearchService.searchTasks(title, category, mentorId, minDuration, maxDuration),
+                filters("title", title, "category", category, "mentorId", mentorId,
+                        "minDuration", minDuration, "maxDuration", maxDuration));
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping(value = "/students", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Student> streamStudents(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String major,
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) Integer minGraduationYear,
+            @RequestParam(required = false) String careerInterests) {
+        return reactiveSearchService.searchStudents(name, major, graduationYear, minGraduationYear, careerInterests);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/students")
+    public Mono<ResponseEntity<Map<String, Object>>> searchStudents(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String major,
+            @RequestParam(required = false) Integer graduationYear,
+            @RequestParam(required = false) Integer minGraduationYear,
+            @RequestParam(required = false) String careerInterests) {
+        return toResponse("students",
+                reactiveSearchService.searchStudents(name, major, graduationYear, minGraduationYear, careerInterests),
+                filters("name", name, "major", major, "graduationYear", graduationYear,
+                        "minGraduationYear", minGraduationYear, "careerInterest", careerInterests));
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping(value = "/mentors-with-tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<MentorSearchDTO> streamMentorsWithTasks(
+            @RequestParam(required = false) String mentorName,
+            @RequestParam(required = false) String expertise,
+            @RequestParam(required = false) String taskCategory,
+            @RequestParam(required = false) Integer maxDuration) {
+        return reactiveSearchService.searchMentorsWithTasks(mentorName, expertise, taskCategory, maxDuration);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/mentors-with-tasks")
+    public Mono<ResponseEntity<Map<String, Object>>> searchMentorsWithTasks(
+            @RequestParam(required = false) String mentorName,
+            @RequestParam(required = false) String expertise,
+            @RequestParam(required = false) String taskCategory,
+            @RequestParam(required = false) Integer maxDuration) {
+        return toResponse("mentors",
+                reactiveSearchService.searchMentorsWithTasks(mentorName, expertise, taskCategory, maxDuration),
+                filters("mentorName", mentorName, "expertise", expertise, "taskCategory", taskCategory,
+                        "maxDuration", maxDuration));
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/categories")
+    public Mono<ResponseEntity<Map<String, Object>>> getAllCategories() {
+        return toResponse("tasks", reactiveSearchService.getAllCategories(), null);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/companies")
+    public Mono<ResponseEntity<Map<String, Object>>> getAllCompanies() {
+        return toResponse("companies", reactiveSearchService.getAllCompanies(), null);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("/majors")
+    public Mono<ResponseEntity<Map<String, Object>>> getAllMajors() {
+        return toResponse("majors", reactiveSearchService.getAllMajors(), null);
+    }
+
+    @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
+    @GetMapping("filter-options")
+    public Mono<ResponseEntity<Map<String, Object>>> getFilterOptions() {
+        return Mono.zip(
+                reactiveSearchService.getAllCategories().collectList(),
+                reactiveSearchService.getAllCompanies().collectList(),
+                reactiveSearchService.getAllMajors().collectList()
+        ).map(options -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("categories", options.getT1());
+            response.put("companies", options.getT2());
+            response.put("majors", options.getT3());
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    private <T> Mono<ResponseEntity<Map<String, Object>>> toResponse(String key, Flux<T> results,
+                                                                    Map<String, Object> filters) {
+        return results.collectList().map(list -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put(key, list);
+            response.put("count", list.size());
+            if (filters != null) {
+                response.put("filters", filters);
+            }
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    /**
+     * Build the echoed filter map from name/value pairs, leaving out filters that were not supplied
+     */
+    private Map<String, Object> filters(Object... namesAndValues) {
+        Map<String, Object> filters = new HashMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            if (namesAndValues[i + 1] != null) {
+                filters.put((String) namesAndValues[i], namesAndValues[i + 1]);
+            }
+        }
+        return filters;
+    }
+}
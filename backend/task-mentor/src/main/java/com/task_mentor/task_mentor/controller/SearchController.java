@@ -2,12 +2,16 @@ package com.task_mentor.task_mentor.controller;
 
 
 import com.task_mentor.task_mentor.dto.MentorSearchDTO;
+import com.task_mentor.task_mentor.dto.StudentSearchDTO;
 import com.task_mentor.task_mentor.dto.TaskSearchDTO;
 import com.task_mentor.task_mentor.entity.Mentor;
-import com.task_mentor.task_mentor.entity.Student;
 import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.service.SearchCoalescer.SearchKey;
+import com.task_mentor.task_mentor.service.SearchResultCache;
+import com.task_mentor.task_mentor.service.SearchResultCache.Source;
 import com.task_mentor.task_mentor.service.SearchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -15,16 +19,28 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/search")
 @CrossOrigin(origins = "http://localhost:5173")
+@ConditionalOnProperty(name = "app.search.reactive.enabled", havingValue = "false", matchIfMissing = true)
 public class SearchController {
 
+    // Tables each kind of result is built from; a write to one of them makes it stale
+    private static final Set<Source> MENTOR_SOURCES = Set.of(Source.MENTORS, Source.TASKS);
+    private static final Set<Source> TASK_SOURCES = Set.of(Source.TASKS, Source.MENTORS);
+    private static final Set<Source> STUDENT_SOURCES = Set.of(Source.STUDENTS);
+    private static final Set<Source> ALL_SOURCES = Set.of(Source.values());
+
     @Autowired
     private SearchService searchService;
 
+    // Cached results, shared with identical searches running at the same time (DTOs, never entities)
+    @Autowired
+    private SearchResultCache searchResultCache;
+
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/mentors")
     public ResponseEntity<Map<String, Object>> searchMentors(
@@ -34,13 +50,13 @@ public class SearchController {
             @RequestParam(required = false) String expertise,
             @RequestParam(required = false) Integer minYearsExperience) {
 
-        List<Mentor> mentors = searchService.searchMentors(
-                name, company, industry, expertise, minYearsExperience);
-
         // Convert entities to DTOs to avoid circular references and control exposed data
-        List<MentorSearchDTO> mentorDTOs = mentors.stream()
-                .map(this::convertMentorToDTO)
-                .collect(Collectors.toList());
+        List<MentorSearchDTO> mentorDTOs = search(
+                SearchKey.of("mentors", name, company, industry, expertise, minYearsExperience), MENTOR_SOURCES,
+                () -> searchService.searchMentors(name, company, industry, expertise, minYearsExperience)
+                        .stream()
+                        .map(this::convertMentorToDTO)
+                        .toList());
 
         Map<String, Object> response = new HashMap<>();
         response.put("mentors", mentorDTOs);
@@ -59,13 +75,12 @@ public class SearchController {
             @RequestParam(required = false) Integer minDuration,
             @RequestParam(required = false) Integer maxDuration) {
 
-        List<Task> tasks = searchService.searchTasks(
-                title, category, mentorId, minDuration, maxDuration);
-
-
-        List<TaskSearchDTO> taskDTOs = tasks.stream()
-                .map(this::convertTaskToDTO)
-                .collect(Collectors.toList());
+        List<TaskSearchDTO> taskDTOs = search(
+                SearchKey.of("tasks", title, category, mentorId, minDuration, maxDuration), TASK_SOURCES,
+                () -> searchService.searchTasks(title, category, mentorId, minDuration, maxDuration)
+                        .stream()
+                        .map(this::convertTaskToDTO)
+                        .toList());
 
         Map<String, Object> response = new HashMap<>();
         response.put("tasks", taskDTOs);
@@ -84,8 +99,13 @@ public class SearchController {
             @RequestParam(required = false) Integer minGraduationYear,
             @RequestParam(required = false) String careerInterests){
 
-        List<Student> students = searchService.searchStudents(
-                name,major, graduationYear, minGraduationYear, careerInterests);
+        List<StudentSearchDTO> students = search(
+                SearchKey.of("students", name, major, graduationYear, minGraduationYear, careerInterests),
+                STUDENT_SOURCES,
+                () -> searchService.searchStudents(name, major, graduationYear, minGraduationYear, careerInterests)
+                        .stream()
+                        .map(StudentSearchDTO::fromEntity)
+                        .toList());
 
         Map<String, Object> Response = new HashMap<>();
         Response.put("students", students);
@@ -105,13 +125,13 @@ public class SearchController {
             @RequestParam(required = false) String taskCategory,
             @RequestParam(required = false) Integer maxDuration) {
 
-        List<Mentor> mentors = searchService.searchMentorsWithTasks(
-                mentorName, expertise, taskCategory, maxDuration);
-
         // Convert entities to DTOs
-        List<MentorSearchDTO> mentorDTOs = mentors.stream()
-                .map(this::convertMentorToDTO)
-                .collect(Collectors.toList());
+        List<MentorSearchDTO> mentorDTOs = search(
+                SearchKey.of("mentors-with-tasks", mentorName, expertise, taskCategory, maxDuration), MENTOR_SOURCES,
+                () -> searchService.searchMentorsWithTasks(mentorName, expertise, taskCategory, maxDuration)
+                        .stream()
+                        .map(this::convertMentorToDTO)
+                        .toList());
 
         Map<String, Object> response = new HashMap<>();
         response.put("mentors", mentorDTOs);
@@ -124,7 +144,8 @@ public class SearchController {
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/categories")
     public ResponseEntity<Map<String, Object>> getAllCategories(){
-        List<String> tasks = searchService.getAllCategories();
+        List<String> tasks = search(SearchKey.of("categories"), Set.of(Source.TASKS),
+                searchService::getAllCategories);
 
         Map<String, Object> response = new HashMap<>();
         response.put("tasks", tasks);
@@ -135,7 +156,8 @@ public class SearchController {
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/companies")
     public ResponseEntity<Map<String, Object>> getAllCompanies(){
-        List<String> companies = searchService.getAllCompanies();
+        List<String> companies = search(SearchKey.of("companies"), Set.of(Source.MENTORS),
+                searchService::getAllCompanies);
 
         Map<String, Object> response = new HashMap<>();
         response.put("companies", companies);
@@ -148,7 +170,8 @@ public class SearchController {
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("/majors")
     public ResponseEntity<Map<String, Object>> getAllMajors(){
-        List<String> majors = searchService.getAllMajors();
+        List<String> majors = search(SearchKey.of("majors"), Set.of(Source.STUDENTS),
+                searchService::getAllMajors);
 
         Map<String, Object> response = new HashMap<>();
         response.put("majors", majors);
@@ -160,15 +183,20 @@ public class SearchController {
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     @GetMapping("filter-options")
     public ResponseEntity<Map<String, Object>> getFilterOptions(){
-        Map<String, Object> response = new HashMap<>();
-
-        response.put("categories", searchService.getAllCategories());
-        response.put("companies", searchService.getAllCompanies());
-        response.put("majors", searchService.getAllMajors());
+        Map<String, Object> response = new HashMap<>(search(SearchKey.of("filter-options"), ALL_SOURCES,
+                () -> Map.of(
+                        "categories", searchService.getAllCategories(),
+                        "companies", searchService.getAllCompanies(),
+                        "majors", searchService.getAllMajors())));
 
         return ResponseEntity.ok(response);
     }
 
+    // Cached when possible; a miss is shared with identical searches already running
+    private <T> T search(SearchKey key, Set<Source> sources, Supplier<T> search) {
+        return searchResultCache.get(key, sources, search);
+    }
+
     @PreAuthorize("hasAnyRole('STUDENT', 'MENTOR')")
     private Map<String, Object> buildMentorsFiltersMap(String name, String company, String industry,
                                                        String expertise, Integer minYearsExperience){
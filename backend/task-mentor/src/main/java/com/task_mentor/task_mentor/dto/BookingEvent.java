@@ -0,0 +1,27 @@
+package com.task_mentor.task_mentor.dto;
+
+import com.task_mentor.task_mentor.entity.Booking;
+
+import java.time.LocalDateTime;
+
+/**
+ * BookingEvent - A booking's new status, published by BookingService when a change commits
+ * and pushed to the student and mentor on /api/bookings/stream
+ *
+ * Only ids are included: clients that need names or task details already have them
+ * from the booking lists, or fetch GET /api/bookings/{id}.
+ */
+public record BookingEvent(Long bookingId, Long studentId, Long mentorId, Long taskId, String status,
+                           LocalDateTime proposedDatetime, LocalDateTime occurredAt) {
+
+    public static BookingEvent of(Booking booking) {
+        return new BookingEvent(
+                booking.getBookingId(),
+                booking.getStudent().getStudentId(),
+                booking.getMentor().getMentorId(),
+                booking.getTask().getTaskId(),
+                booking.getStatus(),
+                booking.getProposedDatetime(),
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,74 @@
+package com.task_mentor.task_mentor.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * BookingReviewRequest - A mentor's accept/decline decisions for several pending bookings,
+ * applied in one transaction by POST /api/bookings/review
+ */
+public class BookingReviewRequest {
+
+    @NotNull(message = "Mentor ID is required")
+    private Long mentorId;
+
+    @NotEmpty(message = "At least one decision is required")
+    private List<Decision> decisions;
+
+    public BookingReviewRequest() {}
+
+    public BookingReviewRequest(Long mentorId, List<Decision> decisions) {
+        this.mentorId = mentorId;
+        this.decisions = decisions;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public List<Decision> getDecisions() {
+        return decisions;
+    }
+
+    public void setDecisions(List<Decision> decisions) {
+        this.decisions = decisions;
+    }
+
+    /**
+     * One booking and what to do with it: "accept" or "decline"
+     */
+    public static class Decision {
+
+        private Long bookingId;
+        private String action;
+
+        public Decision() {}
+
+        public Decision(Long bookingId, String action) {
+            this.bookingId = bookingId;
+            this.action = action;
+        }
+
+        public Long getBookingId() {
+            return bookingId;
+        }
+
+        public void setBookingId(Long bookingId) {
+            this.bookingId = bookingId;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public void setAction(String action) {
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.task_mentor.task_mentor.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.task_mentor.task_mentor.entity.Booking;
+
+/**
+ * BookingReviewResult - Outcome of one decision in a batch review
+ * status is the booking's new status when the decision was applied; error explains
+ * why it was not (other decisions in the batch are still applied)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingReviewResult {
+
+    private final Long bookingId;
+    private final String action;
+    private final String status;
+    private final String error;
+
+    private BookingReviewResult(Long bookingId, String action, String status, String error) {
+        this.bookingId = bookingId;
+        this.action = action;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static BookingReviewResult applied(Booking booking, String action) {
+        return new BookingReviewResult(booking.getBookingId(), action, booking.getStatus(), null);
+    }
+
+    public static BookingReviewResult rejected(Long bookingId, String action, String error) {
+        return new BookingReviewResult(bookingId, action, null, error);
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isApplied() {
+        return error == null;
+    }
+}
@@ -0,0 +1,156 @@
+package com.task_mentor.task_mentor.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * BookingSummary - Booking counts for one student or mentor, computed in the database
+ * by the aggregate queries in BookingRepository
+ */
+public class BookingSummary {
+
+    private Long profileId;
+    private long pending;
+    private long accepted;
+    private long declined;
+    private long cancelled;
+    private long expired;
+    private long bookedMinutes;
+    private LocalDateTime nextSession;
+
+    public BookingSummary() {}
+
+    public BookingSummary(Long profileId, Long pending, Long accepted, Long declined, Long cancelled,
+                          Long expired, Long bookedMinutes, LocalDateTime nextSession) {
+        this.profileId = profileId;
+        this.pending = valueOf(pending);
+        this.accepted = valueOf(accepted);
+        this.declined = valueOf(declined);
+        this.cancelled = valueOf(cancelled);
+        this.expired = valueOf(expired);
+        this.bookedMinutes = valueOf(bookedMinutes);
+        this.nextSession = nextSession;
+    }
+
+    /**
+     * Summary for a profile that has no bookings at all
+     */
+    public static BookingSummary empty(Long profileId) {
+        BookingSummary summary = new BookingSummary();
+        summary.setProfileId(profileId);
+        return summary;
+    }
+
+    /**
+     * This summary with the archived bookings of the same profile added in
+     */
+    public BookingSummary withArchived(BookingSummary archived) {
+        if (archived == null) {
+            return this;
+        }
+        BookingSummary total = new BookingSummary();
+        total.setProfileId(profileId);
+        total.setPending(pending + archived.getPending());
+        total.setAccepted(accepted + archived.getAccepted());
+        total.setDeclined(declined + archived.getDeclined());
+        total.setCancelled(cancelled + archived.getCancelled());
+        total.setExpired(expired + archived.getExpired());
+        total.setBookedMinutes(bookedMinutes + archived.getBookedMinutes());
+        total.setNextSession(nextSession);
+        return total;
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(Long profileId) {
+        this.profileId = profileId;
+    }
+
+    public long getPending() {
+        return pending;
+    }
+
+    public void setPending(long pending) {
+        this.pending = pending;
+    }
+
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        this.accepted = accepted;
+    }
+
+    public long getDeclined() {
+        return declined;
+    }
+
+    public void setDeclined(long declined) {
+        this.declined = declined;
+    }
+
+    public long getCancelled() {
+        return cancelled;
+    }
+
+    public void setCancelled(long cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Pending bookings whose time passed without an answer
+     */
+    public long getExpired() {
+        return expired;
+    }
+
+    public void setExpired(long expired) {
+        this.expired = expired;
+    }
+
+    public long getTotal() {
+        return pending + accepted + declined + cancelled + expired;
+    }
+
+    /**
+     * Sum of task durations over accepted bookings
+     */
+    public long getBookedMinutes() {
+        return bookedMinutes;
+    }
+
+    public void setBookedMinutes(long bookedMinutes) {
+        this.bookedMinutes = bookedMinutes;
+    }
+
+    /**
+     * Earliest accepted booking that has not started yet, or null
+     */
+    public LocalDateTime getNextSession() {
+        return nextSession;
+    }
+
+    public void setNextSession(LocalDateTime nextSession) {
+        this.nextSession = nextSession;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingSummary{" +
+                "profileId=" + profileId +
+                ", pending=" + pending +
+                ", accepted=" + accepted +
+                ", declined=" + declined +
+                ", cancelled=" + cancelled +
+                ", expired=" + expired +
+                ", bookedMinutes=" + bookedMinutes +
+                ", nextSession=" + nextSession +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.task_mentor.task_mentor.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class MentorSearchDTO {
 
     private Long mentorId;
@@ -12,6 +14,9 @@ public class MentorSearchDTO {
     private String expertiseAreas;
     private String profilePhotoUrl;
     private Integer taskCount;
+    // Only filled in by MentorService statistics, left out of search results
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BookingSummary bookings;
 
 
     public MentorSearchDTO() {}
@@ -113,6 +118,14 @@ public class MentorSearchDTO {
         this.taskCount = taskCount;
     }
 
+    public BookingSummary getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(BookingSummary bookings) {
+        this.bookings = bookings;
+    }
+
     @Override
     public String toString() {
         return "MentorSearchDTO{" +
@@ -0,0 +1,11 @@
+package com.task_mentor.task_mentor.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * SessionReminderEvent - An accepted session is about to start; published by
+ * SessionReminderService and pushed to the student and mentor on /api/bookings/stream
+ */
+public record SessionReminderEvent(Long bookingId, Long studentId, Long mentorId, Long taskId,
+                                   LocalDateTime proposedDatetime, LocalDateTime occurredAt) {
+}
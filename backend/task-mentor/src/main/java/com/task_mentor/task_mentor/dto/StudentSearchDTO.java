@@ -0,0 +1,123 @@
+package com.task_mentor.task_mentor.dto;
+
+import com.task_mentor.task_mentor.entity.Student;
+
+import java.time.LocalDateTime;
+
+/**
+ * StudentSearchDTO - Student as returned by /api/search/students
+ * Same fields the Student entity serialized to, without tying results to a persistence context
+ */
+public class StudentSearchDTO {
+
+    private Long studentId;
+    private String name;
+    private String bio;
+    private String major;
+    private Integer graduationYear;
+    private String careerInterests;
+    private String profilePhotoUrl;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public StudentSearchDTO() {}
+
+    public StudentSearchDTO(Long studentId, String name, String bio, String major, Integer graduationYear,
+                            String careerInterests, String profilePhotoUrl, LocalDateTime createdAt) {
+        this.studentId = studentId;
+        this.name = name;
+        this.bio = bio;
+        this.major = major;
+        this.graduationYear = graduationYear;
+        this.careerInterests = careerInterests;
+        this.profilePhotoUrl = profilePhotoUrl;
+        this.createdAt = createdAt;
+    }
+
+    public static StudentSearchDTO fromEntity(Student student) {
+        return new StudentSearchDTO(
+                student.getStudentId(),
+                student.getName(),
+                student.getBio(),
+                student.getMajor(),
+                student.getGraduationYear(),
+                student.getCareerInterests(),
+                student.getProfilePhotoUrl(),
+                student.getCreatedAt());
+    }
+
+    // Getters and Setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBio() {
+        return bio;
+    }
+
+    public void setBio(String bio) {
+        this.bio = bio;
+    }
+
+    public String getMajor() {
+        return major;
+    }
+
+    public void setMajor(String major) {
+        this.major = major;
+    }
+
+    public Integer getGraduationYear() {
+        return graduationYear;
+    }
+
+    public void setGraduationYear(Integer graduationYear) {
+        this.graduationYear = graduationYear;
+    }
+
+    public String getCareerInterests() {
+        return careerInterests;
+    }
+
+    public void setCareerInterests(String careerInterests) {
+        this.careerInterests = careerInterests;
+    }
+
+    public String getProfilePhotoUrl() {
+        return profilePhotoUrl;
+    }
+
+    public void setProfilePhotoUrl(String profilePhotoUrl) {
+        this.profilePhotoUrl = profilePhotoUrl;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "StudentSearchDTO{" +
+                "studentId=" + studentId +
+                ", name='" + name + '\'' +
+                ", major='" + major + '\'' +
+                ", graduationYear=" + graduationYear +
+                '}';
+    }
+}
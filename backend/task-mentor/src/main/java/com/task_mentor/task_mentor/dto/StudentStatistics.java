@@ -8,6 +8,7 @@ public class StudentStatistics {
     private Integer graduationYear;
     private String careerInterests;
     private String profilePhotoUrl;
+    private BookingSummary bookings;
 
 
     public StudentStatistics() {}
@@ -80,6 +81,14 @@ public class StudentStatistics {
         this.profilePhotoUrl = profilePhotoUrl;
     }
 
+    public BookingSummary getBookings() {
+        return bookings;
+    }
+
+    public void setBookings(BookingSummary bookings) {
+        this.bookings = bookings;
+    }
+
     @Override
     public String toString() {
         return "StudentStatistics{" +
@@ -11,7 +11,12 @@ import java.time.LocalDateTime;
  * @author James No
  */
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        // Date-bounded reads seek to their range instead of scanning the profile's whole history
+        @Index(name = "idx_bookings_student_proposed", columnList = "student_id, proposed_datetime"),
+        @Index(name = "idx_bookings_mentor_proposed", columnList = "mentor_id, proposed_datetime"),
+        @Index(name = "idx_bookings_status_proposed", columnList = "status, proposed_datetime")
+})
 public class Booking {
 
     @Id
@@ -35,7 +40,7 @@ public class Booking {
     private LocalDateTime proposedDatetime;
 
     @Column(name = "status", length = 20)
-    private String status; // 'pending', 'accepted', 'declined', 'cancelled'
+    private String status; // 'pending', 'accepted', 'declined', 'cancelled', 'expired'
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -43,6 +48,10 @@ public class Booking {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set once the session reminder has gone out, so a restarted scheduler does not resend it
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
     // Constructors
     public Booking() {
         this.status = "pending";
@@ -126,6 +135,14 @@ public class Booking {
         this.updatedAt = updatedAt;
     }
 
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,172 @@
+package com.task_mentor.task_mentor.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * BookingArchive Entity - A finished booking moved out of the 'bookings' table
+ * Rows in the 'booking_archive' table are written by BookingArchiveService. The columns
+ * needed to find and count archived bookings are kept as plain values (no foreign keys,
+ * so old history never blocks deleting a task or profile); everything else is a
+ * gzip-compressed JSON snapshot of the booking as the API returned it.
+ */
+@Entity
+@Table(name = "booking_archive", indexes = {
+        @Index(name = "idx_booking_archive_student_proposed", columnList = "student_id, proposed_datetime"),
+        @Index(name = "idx_booking_archive_mentor_proposed", columnList = "mentor_id, proposed_datetime")
+})
+public class BookingArchive implements Persistable<Long> {
+
+    // The booking's own id, kept so links to an archived booking still resolve
+    @Id
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "mentor_id", nullable = false)
+    private Long mentorId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "proposed_datetime", nullable = false)
+    private LocalDateTime proposedDatetime;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    // Task duration at archive time, for booked-minutes statistics
+    @Column(name = "duration_minutes", nullable = false)
+    private int durationMinutes;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Gzip-compressed BookingResponse JSON
+    @Column(name = "payload", nullable = false, length = 65535)
+    private byte[] payload;
+
+    // The id is assigned, so tell Spring Data a new row is new instead of letting save() merge
+    @Transient
+    private boolean isNew = true;
+
+    public BookingArchive() {
+    }
+
+    public BookingArchive(Booking booking, byte[] payload, LocalDateTime archivedAt) {
+        this.bookingId = booking.getBookingId();
+        this.studentId = booking.getStudent().getStudentId();
+        this.mentorId = booking.getMentor().getMentorId();
+        this.taskId = booking.getTask().getTaskId();
+        this.proposedDatetime = booking.getProposedDatetime();
+        this.status = booking.getStatus();
+        this.durationMinutes = booking.getTask().getDurationMinutes() != null
+                ? booking.getTask().getDurationMinutes() : 0;
+        this.payload = payload;
+        this.archivedAt = archivedAt;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return bookingId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getProposedDatetime() {
+        return proposedDatetime;
+    }
+
+    public void setProposedDatetime(LocalDateTime proposedDatetime) {
+        this.proposedDatetime = proposedDatetime;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public void setDurationMinutes(int durationMinutes) {
+        this.durationMinutes = durationMinutes;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public void setPayload(byte[] payload) {
+        this.payload = payload;
+    }
+
+    @Override
+    public String toString() {
+        return "BookingArchive{" +
+                "bookingId=" + bookingId +
+                ", studentId=" + studentId +
+                ", mentorId=" + mentorId +
+                ", proposedDatetime=" + proposedDatetime +
+                ", status='" + status + '\'' +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
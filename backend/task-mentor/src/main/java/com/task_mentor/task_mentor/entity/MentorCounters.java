@@ -0,0 +1,93 @@
+package com.task_mentor.task_mentor.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * MentorCounters Entity - Read model behind the mentor dashboard badges
+ * One row per mentor in the 'mentor_counters' table, kept in step with bookings and
+ * tasks by MentorCountersService in the same transaction as each change
+ */
+@Entity
+@Table(name = "mentor_counters")
+public class MentorCounters {
+
+    @Id
+    @Column(name = "mentor_id")
+    private Long mentorId;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "accepted_upcoming_count", nullable = false)
+    private long acceptedUpcomingCount;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MentorCounters() {
+    }
+
+    public MentorCounters(Long mentorId, long pendingCount, long acceptedUpcomingCount, long taskCount) {
+        this.mentorId = mentorId;
+        this.pendingCount = pendingCount;
+        this.acceptedUpcomingCount = acceptedUpcomingCount;
+        this.taskCount = taskCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public Long getMentorId() {
+        return mentorId;
+    }
+
+    public void setMentorId(Long mentorId) {
+        this.mentorId = mentorId;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(long pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+
+    public long getAcceptedUpcomingCount() {
+        return acceptedUpcomingCount;
+    }
+
+    public void setAcceptedUpcomingCount(long acceptedUpcomingCount) {
+        this.acceptedUpcomingCount = acceptedUpcomingCount;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "MentorCounters{" +
+                "mentorId=" + mentorId +
+                ", pendingCount=" + pendingCount +
+                ", acceptedUpcomingCount=" + acceptedUpcomingCount +
+                ", taskCount=" + taskCount +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -2,6 +2,8 @@ package com.task_mentor.task_mentor.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
  * @author James No
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "student")
 @Table(name = "students")
 public class Student {
 
@@ -3,6 +3,8 @@ package com.task_mentor.task_mentor.entity;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -12,7 +14,11 @@ import java.time.LocalDateTime;
  * @author James No
  */
 @Entity
-@Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_image_file_name", columnList = "image_file_name")
+})
 public class Task {
 
     @Id
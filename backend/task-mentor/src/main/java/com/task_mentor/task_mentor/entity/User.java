@@ -2,6 +2,8 @@ package com.task_mentor.task_mentor.entity;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -12,6 +14,8 @@ import java.util.List;
  * @author James No
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users")
 public class User {
 
@@ -33,25 +37,17 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    @OneToOne(mappedBy = "user")
-    private Student student;
-
-    @OneToOne(mappedBy = "user")
-    private Mentor mentor;
-
     // Constructors
     public User() {
 
     }
 
-    public User(Long userId, String email, String password, String accountType, LocalDateTime createdAt, Student student, Mentor mentor) {
+    public User(Long userId, String email, String password, String accountType, LocalDateTime createdAt) {
         this.userId = userId;
         this.email = email;
         this.password = password;
         this.accountType = accountType;
         this.createdAt = createdAt;
-        this.student = student;
-        this.mentor = mentor;
     }
 
     public Long getUserId() {
@@ -94,22 +90,6 @@ public class User {
         this.createdAt = createdAt;
     }
 
-    public Student getStudent() {
-        return student;
-    }
-
-    public void setStudent(Student student) {
-        this.student = student;
-    }
-
-    public Mentor getMentor() {
-        return mentor;
-    }
-
-    public void setMentor(Mentor mentor) {
-        this.mentor = mentor;
-    }
-
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,58 @@
+package com.task_mentor.task_mentor.repository;
+
+import com.task_mentor.task_mentor.dto.BookingSummary;
+import com.task_mentor.task_mentor.entity.BookingArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BookingArchiveRepository - Spring Data JPA repository for the booking_archive table
+ */
+@Repository
+public interface BookingArchiveRepository extends JpaRepository<BookingArchive, Long> {
+
+    @Query("SELECT a FROM BookingArchive a WHERE a.studentId = :studentId " +
+            "AND a.proposedDatetime >= :from AND a.proposedDatetime < :to ORDER BY a.proposedDatetime")
+    List<BookingArchive> findByStudentIdBetween(@Param("studentId") Long studentId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query("SELECT a FROM BookingArchive a WHERE a.mentorId = :mentorId " +
+            "AND a.proposedDatetime >= :from AND a.proposedDatetime < :to ORDER BY a.proposedDatetime")
+    List<BookingArchive> findByMentorIdBetween(@Param("mentorId") Long mentorId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to);
+
+    // Same shape as BookingRepository.SUMMARY_COLUMNS; archived bookings are never pending
+    // or upcoming, so only the finished counts and booked minutes can be non-zero
+    String SUMMARY_COLUMNS =
+            "SUM(CASE WHEN a.status = 'pending' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'accepted' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'declined' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'cancelled' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'expired' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.status = 'accepted' THEN a.durationMinutes ELSE 0 END), " +
+            "CAST(NULL AS LocalDateTime)) FROM BookingArchive a ";
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(a.studentId, " + SUMMARY_COLUMNS +
+            "WHERE a.studentId = :studentId GROUP BY a.studentId")
+    Optional<BookingSummary> summarizeByStudent(@Param("studentId") Long studentId);
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(a.studentId, " + SUMMARY_COLUMNS +
+            "GROUP BY a.studentId")
+    List<BookingSummary> summarizeAllStudents();
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(a.mentorId, " + SUMMARY_COLUMNS +
+            "WHERE a.mentorId = :mentorId GROUP BY a.mentorId")
+    Optional<BookingSummary> summarizeByMentor(@Param("mentorId") Long mentorId);
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(a.mentorId, " + SUMMARY_COLUMNS +
+            "GROUP BY a.mentorId")
+    List<BookingSummary> summarizeAllMentors();
+}
@@ -0,0 +1,52 @@
+package com.task_mentor.task_mentor.repository;
+
+import com.task_mentor.task_mentor.entity.BookingOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * BookingOutboxRepository - Spring Data JPA repository for the booking_outbox table
+ */
+@Repository
+public interface BookingOutboxRepository extends JpaRepository<BookingOutboxEvent, Long> {
+
+    String UNDISPATCHED = "o.dispatchedAt IS NULL AND o.attempts < :maxAttempts";
+
+    /**
+     * Oldest due events, locked FOR UPDATE SKIP LOCKED so dispatchers on other nodes
+     * claim the rows after these instead of waiting for them. Native because Hibernate
+     * only renders SKIP LOCKED for some dialects; PostgreSQL and H2 both accept this form.
+     */
+    @Query(value = "SELECT * FROM booking_outbox WHERE dispatched_at IS NULL AND attempts < :maxAttempts " +
+            "AND available_at <= :now ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BookingOutboxEvent> claimDue(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts,
+                                      @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE BookingOutboxEvent o SET o.dispatchedAt = :now, o.attempts = o.attempts + 1, o.lastError = NULL " +
+            "WHERE o.id IN :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(o) FROM BookingOutboxEvent o WHERE " + UNDISPATCHED)
+    long countUndispatched(@Param("maxAttempts") int maxAttempts);
+
+    @Query("SELECT MIN(o.createdAt) FROM BookingOutboxEvent o WHERE " + UNDISPATCHED)
+    LocalDateTime findOldestUndispatched(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Events that used up their attempts; they stay in the table until someone looks at them
+     */
+    @Query("SELECT COUNT(o) FROM BookingOutboxEvent o WHERE o.dispatchedAt IS NULL AND o.attempts >= :maxAttempts")
+    long countFailed(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM BookingOutboxEvent o WHERE o.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,17 +1,23 @@
 package com.task_mentor.task_mentor.repository;
 
 
+import com.task_mentor.task_mentor.dto.BookingSummary;
 import com.task_mentor.task_mentor.entity.Booking;
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.Student;
 import com.task_mentor.task_mentor.entity.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * BookingRepository - Spring Data JPA repository for Booking entity
@@ -37,4 +43,147 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Custom JPQL example: find bookings for a mentor by status
     @Query("SELECT b FROM Booking b WHERE b.mentor = :mentor AND b.status = :status")
     List<Booking> findByMentorAndStatus(@Param("mentor") Mentor mentor, @Param("status") String status);
-}
\ No newline at end of file
+
+    // Date-bounded variants: the time range is read through the (profile, proposed_datetime)
+    // indexes, so recent bookings cost the same however much history a profile has
+    @Query("SELECT b FROM Booking b WHERE b.student = :student " +
+            "AND b.proposedDatetime >= :from AND b.proposedDatetime < :to")
+    List<Booking> findByStudentBetween(@Param("student") Student student, @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query("SELECT b FROM Booking b WHERE b.mentor = :mentor " +
+            "AND b.proposedDatetime >= :from AND b.proposedDatetime < :to")
+    List<Booking> findByMentorBetween(@Param("mentor") Mentor mentor, @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    @Query("SELECT b FROM Booking b WHERE b.mentor = :mentor AND b.status = :status " +
+            "AND b.proposedDatetime >= :from AND b.proposedDatetime < :to")
+    List<Booking> findByMentorAndStatusBetween(@Param("mentor") Mentor mentor, @Param("status") String status,
+                                               @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT b FROM Booking b WHERE b.status = :status " +
+            "AND b.proposedDatetime >= :from AND b.proposedDatetime < :to")
+    List<Booking> findByStatusBetween(@Param("status") String status, @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    // Status changes: the row stays locked until commit, so accept, decline, cancel and
+    // BookingExpiryJob apply one at a time and each one checks the status the last one left
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.bookingId = :bookingId")
+    Optional<Booking> findByIdForUpdate(@Param("bookingId") Long bookingId);
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = :mentorId AND b.status = :status")
+    long countByMentorIdAndStatus(@Param("mentorId") Long mentorId, @Param("status") String status);
+
+    @Query("SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = :mentorId AND b.status = :status " +
+            "AND b.proposedDatetime > :now")
+    long countUpcomingByMentorIdAndStatus(@Param("mentorId") Long mentorId, @Param("status") String status,
+                                          @Param("now") LocalDateTime now);
+
+    // Batch review: the selected bookings with their tasks (durations) in one query, locked
+    // in id order like lockStalePending so a review and an expiry chunk cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.task WHERE b.bookingId IN :bookingIds ORDER BY b.bookingId")
+    List<Booking> findAllWithTaskByIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // Batch review: accepted bookings that start in a window, for conflict checks in memory
+    @Query("SELECT b FROM Booking b JOIN FETCH b.task WHERE b.mentor.mentorId = :mentorId " +
+            "AND b.status = 'accepted' AND b.proposedDatetime >= :from AND b.proposedDatetime < :to")
+    List<Booking> findAcceptedByMentorIdStartingBetween(@Param("mentorId") Long mentorId,
+                                                        @Param("from") LocalDateTime from,
+                                                        @Param("to") LocalDateTime to);
+
+    // Native selects of BookingRef columns
+    String REF_COLUMNS = "SELECT booking_id AS bookingId, student_id AS studentId, mentor_id AS mentorId, " +
+            "task_id AS taskId, proposed_datetime AS proposedDatetime FROM bookings ";
+
+    /**
+     * Ids of the oldest pending bookings whose time is before the cutoff, locked so a
+     * concurrent accept, decline or cancel (which lock the row too, see findByIdForUpdate)
+     * waits for the expiry and then finds the booking expired
+     */
+    @Query(value = REF_COLUMNS +
+            "WHERE status = 'pending' AND proposed_datetime < :cutoff ORDER BY booking_id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<BookingRef> lockStalePending(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :status, b.updatedAt = :now " +
+            "WHERE b.bookingId IN :bookingIds AND b.status = 'pending'")
+    int updatePendingStatus(@Param("bookingIds") Collection<Long> bookingIds, @Param("status") String status,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of the oldest finished bookings (anything but pending) proposed before the cutoff,
+     * locked so they cannot change while they are copied to the archive
+     */
+    @Query(value = "SELECT booking_id FROM bookings WHERE status <> 'pending' AND proposed_datetime < :cutoff " +
+            "ORDER BY booking_id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Archival: the locked bookings with everything their archive snapshot needs, in one query
+    @Query("SELECT b FROM Booking b JOIN FETCH b.student JOIN FETCH b.mentor JOIN FETCH b.task " +
+            "WHERE b.bookingId IN :bookingIds")
+    List<Booking> findAllForArchiveByIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.bookingId IN :bookingIds")
+    int deleteAllByIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    // Session reminders: accepted sessions in a time window whose reminder has not gone out
+    @Query(value = REF_COLUMNS + "WHERE status = 'accepted' AND reminder_sent_at IS NULL " +
+            "AND proposed_datetime >= :from AND proposed_datetime < :to", nativeQuery = true)
+    List<BookingRef> findAwaitingReminder(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * The given bookings that still need their reminder, locked so a scheduler that lost
+     * its lease mid-send cannot send them a second time
+     */
+    @Query(value = REF_COLUMNS + "WHERE booking_id IN (:bookingIds) AND status = 'accepted' " +
+            "AND reminder_sent_at IS NULL AND proposed_datetime > :now FOR UPDATE", nativeQuery = true)
+    List<BookingRef> lockAwaitingReminder(@Param("bookingIds") Collection<Long> bookingIds,
+                                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.reminderSentAt = :now WHERE b.bookingId IN :bookingIds")
+    int markReminderSent(@Param("bookingIds") Collection<Long> bookingIds, @Param("now") LocalDateTime now);
+
+    /**
+     * A booking's ids without loading the entity or its associations
+     */
+    interface BookingRef {
+        Long getBookingId();
+        Long getStudentId();
+        Long getMentorId();
+        Long getTaskId();
+        LocalDateTime getProposedDatetime();
+    }
+
+    // Booking counts per student/mentor in one pass over the bookings table: the
+    // statistics endpoints used to load every booking to count them
+    String SUMMARY_COLUMNS =
+            "SUM(CASE WHEN b.status = 'pending' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'accepted' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'declined' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'cancelled' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'expired' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN b.status = 'accepted' THEN t.durationMinutes ELSE 0 END), " +
+            "MIN(CASE WHEN b.status = 'accepted' AND b.proposedDatetime > :now THEN b.proposedDatetime END)) " +
+            "FROM Booking b JOIN b.task t ";
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(b.student.studentId, " + SUMMARY_COLUMNS +
+            "WHERE b.student.studentId = :studentId GROUP BY b.student.studentId")
+    Optional<BookingSummary> summarizeByStudent(@Param("studentId") Long studentId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(b.student.studentId, " + SUMMARY_COLUMNS +
+            "GROUP BY b.student.studentId")
+    List<BookingSummary> summarizeAllStudents(@Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(b.mentor.mentorId, " + SUMMARY_COLUMNS +
+            "WHERE b.mentor.mentorId = :mentorId GROUP BY b.mentor.mentorId")
+    Optional<BookingSummary> summarizeByMentor(@Param("mentorId") Long mentorId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.task_mentor.task_mentor.dto.BookingSummary(b.mentor.mentorId, " + SUMMARY_COLUMNS +
+            "GROUP BY b.mentor.mentorId")
+    List<BookingSummary> summarizeAllMentors(@Param("now") LocalDateTime now);
+}
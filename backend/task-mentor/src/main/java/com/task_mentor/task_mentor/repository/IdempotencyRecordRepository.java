@@ -0,0 +1,59 @@
+package com.task_mentor.task_mentor.repository;
+
+import com.task_mentor.task_mentor.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyRecordRepository - Spring Data JPA repository for the idempotency_keys table
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claims a key whose record has expired, or whose in-progress claim was abandoned
+     * by a node that stopped before completing it
+     *
+     * @return 1 when the caller now holds the claim
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'in_progress', r.requestHash = :requestHash, " +
+            "r.responseStatus = NULL, r.contentType = NULL, r.responseBody = NULL, " +
+            "r.createdAt = :now, r.expiresAt = :expiresAt WHERE r.key = :key " +
+            "AND (r.expiresAt < :now OR (r.status = 'in_progress' AND r.createdAt < :staleBefore))")
+    int takeOver(@Param("key") String key, @Param("requestHash") String requestHash, @Param("now") LocalDateTime now,
+                 @Param("expiresAt") LocalDateTime expiresAt, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Stores the response of the claim made at claimedAt; a claim taken over since then
+     * belongs to another request and is left alone
+     *
+     * @return 1 when the response was stored
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'completed', r.responseStatus = :responseStatus, " +
+            "r.contentType = :contentType, r.responseBody = :responseBody WHERE r.key = :key " +
+            "AND r.status = 'in_progress' AND r.requestHash = :requestHash AND r.createdAt = :claimedAt")
+    int complete(@Param("key") String key, @Param("requestHash") String requestHash,
+                 @Param("claimedAt") LocalDateTime claimedAt, @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType, @Param("responseBody") byte[] responseBody);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.key = :key AND r.status = 'in_progress' " +
+            "AND r.createdAt = :claimedAt")
+    int deleteInProgress(@Param("key") String key, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,83 @@
+package com.task_mentor.task_mentor.repository;
+
+import com.task_mentor.task_mentor.entity.MentorCounters;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MentorCountersRepository - Spring Data JPA repository for the mentor_counters read model
+ */
+@Repository
+public interface MentorCountersRepository extends JpaRepository<MentorCounters, Long> {
+
+    String PENDING = "(SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = c.mentorId AND b.status = 'pending')";
+    String ACCEPTED_UPCOMING = "(SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = c.mentorId " +
+            "AND b.status = 'accepted' AND b.proposedDatetime > :now)";
+    String TASKS = "(SELECT COUNT(t) FROM Task t WHERE t.mentor.mentorId = c.mentorId)";
+
+    /**
+     * Counters of the mentor signed in with this email, by primary key through the unique user email
+     */
+    @Query("SELECT c FROM MentorCounters c WHERE c.mentorId = " +
+            "(SELECT m.mentorId FROM Mentor m WHERE m.user.email = :email)")
+    Optional<MentorCounters> findByMentorEmail(@Param("email") String email);
+
+    /**
+     * Adds the deltas in place, so concurrent transitions for one mentor queue on the row lock
+     * instead of overwriting each other
+     *
+     * @return 0 when the mentor has no counters row yet
+     */
+    @Modifying
+    @Query("UPDATE MentorCounters c SET c.pendingCount = c.pendingCount + :pending, " +
+            "c.acceptedUpcomingCount = c.acceptedUpcomingCount + :acceptedUpcoming, " +
+            "c.taskCount = c.taskCount + :tasks, c.updatedAt = :now WHERE c.mentorId = :mentorId")
+    int adjust(@Param("mentorId") Long mentorId, @Param("pending") long pending,
+               @Param("acceptedUpcoming") long acceptedUpcoming, @Param("tasks") long tasks,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * Adds zeroed rows for mentors that have none; recount fills them in
+     */
+    @Modifying
+    @Query("INSERT INTO MentorCounters (mentorId, pendingCount, acceptedUpcomingCount, taskCount, updatedAt) " +
+            "SELECT m.mentorId, 0L, 0L, 0L, :now FROM Mentor m " +
+            "WHERE NOT EXISTS (SELECT c.mentorId FROM MentorCounters c WHERE c.mentorId = m.mentorId)")
+    int insertMissing(@Param("now") LocalDateTime now);
+
+    /**
+     * Adds the mentor's row counted from bookings and tasks, unless it already has one.
+     * Two transactions racing past the NOT EXISTS still collide on the primary key
+     */
+    @Modifying
+    @Query("INSERT INTO MentorCounters (mentorId, pendingCount, acceptedUpcomingCount, taskCount, updatedAt) " +
+            "SELECT m.mentorId, " +
+            "(SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = m.mentorId AND b.status = 'pending'), " +
+            "(SELECT COUNT(b) FROM Booking b WHERE b.mentor.mentorId = m.mentorId " +
+            "AND b.status = 'accepted' AND b.proposedDatetime > :now), " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.mentor.mentorId = m.mentorId), :now FROM Mentor m " +
+            "WHERE m.mentorId = :mentorId " +
+            "AND NOT EXISTS (SELECT c.mentorId FROM MentorCounters c WHERE c.mentorId = m.mentorId)")
+    int insertCounted(@Param("mentorId") Long mentorId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM MentorCounters c WHERE NOT EXISTS (SELECT m.mentorId FROM Mentor m WHERE m.mentorId = c.mentorId)")
+    int deleteOrphaned();
+
+    /**
+     * Recomputes every counter from bookings and tasks, only writing rows that drifted
+     * or whose accepted sessions have started since
+     */
+    @Modifying
+    @Query("UPDATE MentorCounters c SET c.pendingCount = " + PENDING + ", " +
+            "c.acceptedUpcomingCount = " + ACCEPTED_UPCOMING + ", c.taskCount = " + TASKS + ", c.updatedAt = :now " +
+            "WHERE c.pendingCount <> " + PENDING + " OR c.acceptedUpcomingCount <> " + ACCEPTED_UPCOMING +
+            " OR c.taskCount <> " + TASKS)
+    int recount(@Param("now") LocalDateTime now);
+}
@@ -1,8 +1,11 @@
 package com.task_mentor.task_mentor.repository;
 
 import com.task_mentor.task_mentor.entity.Mentor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -22,9 +25,16 @@ public interface MentorRepository extends JpaRepository<Mentor, Long> {
      * Find a mentor by user ID
      * Used to get mentor profile when user logs in
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT m FROM Mentor m WHERE m.user.userId = :userId")
     Optional<Mentor> findByUserId(@Param("userId") Long userId);
 
+    /**
+     * Find a mentor by the email of their user account
+     */
+    @Query("SELECT m FROM Mentor m WHERE m.user.email = :email")
+    Optional<Mentor> findByUserEmail(@Param("email") String email);
+
     /**
      * Find all mentors by company name
      * Useful for filtering mentors by their company
@@ -1,8 +1,11 @@
 package com.task_mentor.task_mentor.repository;
 
 import com.task_mentor.task_mentor.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -22,6 +25,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * Find a student by user ID
      * Used to get student profile when user logs in
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT s FROM Student s WHERE s.user.userId = :userId")
     Optional<Student> findByUserId(@Param("userId") Long userId);
 
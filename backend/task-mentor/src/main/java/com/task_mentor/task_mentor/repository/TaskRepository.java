@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -61,6 +62,12 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT COUNT(t) FROM Task t WHERE t.mentor.mentorId = :mentorId")
     long countByMentorId(@Param("mentorId") Long mentorId);
+
+    /**
+     * Longest task of a mentor, or null when the mentor has none
+     */
+    @Query("SELECT MAX(t.durationMinutes) FROM Task t WHERE t.mentor.mentorId = :mentorId")
+    Integer findMaxDurationMinutesByMentorId(@Param("mentorId") Long mentorId);
     
     /**
      * Find tasks that have image attachments
@@ -80,4 +87,11 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT t FROM Task t WHERE t.mentor.mentorId = :mentorId AND t.imageUrl IS NOT NULL AND t.imageUrl <> ''")
     List<Task> findTasksWithImagesByMentorId(@Param("mentorId") Long mentorId);
+
+    /**
+     * Find which of the given image file names are still referenced by a task
+     * Used by the orphaned upload sweeper to check directory entries in batches
+     */
+    @Query("SELECT t.imageFileName FROM Task t WHERE t.imageFileName IN :fileNames")
+    List<String> findImageFileNamesIn(@Param("fileNames") Collection<String> fileNames);
 }
@@ -2,7 +2,10 @@ package com.task_mentor.task_mentor.repository;
 
 
 import com.task_mentor.task_mentor.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,7 +23,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /**
      * Find a user by email address
      * Used for login and checking if email already exists during registration
+     * Cached in the query cache since it runs on every authenticated request
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     Optional<User> findById(Long userId);
@@ -0,0 +1,52 @@
+package com.task_mentor.task_mentor.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * AdvisoryLockService - Database advisory locks for jobs that only one node should run at a time
+ *
+ * On PostgreSQL this is pg_try_advisory_xact_lock: the lock belongs to the caller's
+ * transaction and is released when it commits or rolls back, so a node that dies
+ * cannot leave it held. Other databases (H2 in tests and local runs) have no advisory
+ * locks and only ever serve one node, so there the lock is always granted.
+ */
+@Service
+public class AdvisoryLockService {
+
+    // Keys are shared by every node; keep them distinct per job
+    public static final long BOOKING_EXPIRY = 0x544D_0001L;
+    public static final long BOOKING_ARCHIVE = 0x544D_0002L;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean supported;
+
+    public AdvisoryLockService(EntityManagerFactory entityManagerFactory) {
+        this.supported = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Takes the lock for the rest of the current transaction without waiting
+     *
+     * @return false when another transaction, usually on another node, holds it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockForTransaction(long key) {
+        if (!supported) {
+            return true;
+        }
+        Object locked = entityManager.createNativeQuery("SELECT pg_try_advisory_xact_lock(:key)")
+                .setParameter("key", key)
+                .getSingleResult();
+        return Boolean.TRUE.equals(locked);
+    }
+}
@@ -0,0 +1,97 @@
+package com.task_mentor.task_mentor.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * BookingArchiveJob - Periodically moves finished bookings older than the retention
+ * window into the booking archive
+ *
+ * Runs like BookingExpiryJob: bounded chunks, one short transaction each with a pause
+ * in between, and only on the node that holds the archive advisory lock.
+ */
+@Component
+public class BookingArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingArchiveJob.class);
+
+    private final BookingArchiveService bookingArchiveService;
+
+    private final boolean enabled;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMillis;
+
+    public BookingArchiveJob(
+            BookingArchiveService bookingArchiveService,
+            @Value("${app.booking-archive.enabled:true}") boolean enabled,
+            @Value("${app.booking-archive.retention-days:365}") long retentionDays,
+            @Value("${app.booking-archive.chunk-size:500}") int chunkSize,
+            @Value("${app.booking-archive.max-chunks-per-run:20}") int maxChunksPerRun,
+            @Value("${app.booking-archive.chunk-pause-ms:100}") long chunkPauseMillis) {
+
+        this.bookingArchiveService = bookingArchiveService;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(Math.max(1, retentionDays));
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+        this.chunkPauseMillis = Math.max(0, chunkPauseMillis);
+    }
+
+    @Scheduled(initialDelayString = "${app.booking-archive.initial-delay-ms:600000}",
+            fixedDelayString = "${app.booking-archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int archived = archiveOld();
+            if (archived > 0) {
+                logger.info("Archived {} finished booking(s)", archived);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Booking archival failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Archives finished bookings older than the retention window until none are left
+     * or the per-run limit is hit
+     * Returns the number of bookings archived
+     */
+    public int archiveOld() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int archived = bookingArchiveService.archiveChunk(cutoff, chunkSize);
+            if (archived == BookingArchiveService.LOCK_HELD_ELSEWHERE) {
+                logger.debug("Booking archival is running on another node, skipping");
+                break;
+            }
+            total += archived;
+            if (archived < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (chunkPauseMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
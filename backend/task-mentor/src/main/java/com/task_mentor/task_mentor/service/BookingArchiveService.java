@@ -0,0 +1,112 @@
+package com.task_mentor.task_mentor.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_mentor.task_mentor.dto.BookingResponse;
+import com.task_mentor.task_mentor.entity.BookingArchive;
+import com.task_mentor.task_mentor.repository.BookingArchiveRepository;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * BookingArchiveService - Moves finished bookings out of the live 'bookings' table
+ *
+ * Bookings that are no longer pending and were proposed before the retention cutoff
+ * are copied to booking_archive as compressed snapshots and deleted from bookings, a
+ * chunk per transaction, so the live table (and every per-profile query on it) only
+ * holds recent history. Archived bookings are read back on demand by profile and date
+ * range, and still count towards the student and mentor statistics.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingArchiveService {
+
+    // archiveChunk result when another node is archiving
+    public static final int LOCK_HELD_ELSEWHERE = -1;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private AdvisoryLockService advisoryLockService;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Archives up to chunkSize finished bookings proposed before the cutoff, in one transaction
+     *
+     * @return the number archived, or LOCK_HELD_ELSEWHERE without touching anything
+     */
+    @Transactional
+    public int archiveChunk(LocalDateTime cutoff, int chunkSize) {
+        if (!advisoryLockService.tryLockForTransaction(AdvisoryLockService.BOOKING_ARCHIVE)) {
+            return LOCK_HELD_ELSEWHERE;
+        }
+
+        List<Long> bookingIds = bookingRepository.lockArchivable(cutoff, chunkSize);
+        if (bookingIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingArchive> rows = bookingRepository.findAllForArchiveByIdIn(bookingIds).stream()
+                .map(booking -> new BookingArchive(booking, compress(BookingResponse.fromEntity(booking)), now))
+                .toList();
+        bookingArchiveRepository.saveAll(rows);
+        bookingRepository.deleteAllByIdIn(bookingIds);
+
+        bookingMetrics.bookingsArchived(rows.size());
+        return rows.size();
+    }
+
+    public List<BookingResponse> getArchivedByStudent(Long studentId, LocalDateTime from, LocalDateTime to) {
+        BookingService.validateRange(from, to);
+        return bookingArchiveRepository.findByStudentIdBetween(studentId, from, to).stream()
+                .map(this::decompress)
+                .toList();
+    }
+
+    public List<BookingResponse> getArchivedByMentor(Long mentorId, LocalDateTime from, LocalDateTime to) {
+        BookingService.validateRange(from, to);
+        return bookingArchiveRepository.findByMentorIdBetween(mentorId, from, to).stream()
+                .map(this::decompress)
+                .toList();
+    }
+
+    private byte[] compress(BookingResponse snapshot) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, snapshot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot archive booking " + snapshot.getBookingId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private BookingResponse decompress(BookingArchive row) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(row.getPayload()))) {
+            return objectMapper.readValue(in, BookingResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read archived booking " + row.getBookingId(), e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.task_mentor.task_mentor.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * BookingExpiryJob - Periodically expires pending bookings that were never answered
+ *
+ * Pending bookings proposed more than the grace period ago are expired in chunks,
+ * one short transaction each, with a pause in between so the row locks never hold up
+ * live accepts for long. Every chunk takes the expiry advisory lock; when another
+ * node holds it, this node skips the run.
+ */
+@Component
+public class BookingExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingExpiryJob.class);
+
+    private final BookingExpiryService bookingExpiryService;
+    private final BookingMetrics bookingMetrics;
+
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMillis;
+
+    public BookingExpiryJob(
+            BookingExpiryService bookingExpiryService,
+            BookingMetrics bookingMetrics,
+            @Value("${app.booking-expiry.enabled:true}") boolean enabled,
+            @Value("${app.booking-expiry.grace-minutes:0}") long graceMinutes,
+            @Value("${app.booking-expiry.chunk-size:500}") int chunkSize,
+            @Value("${app.booking-expiry.max-chunks-per-run:20}") int maxChunksPerRun,
+            @Value("${app.booking-expiry.chunk-pause-ms:50}") long chunkPauseMillis) {
+
+        this.bookingExpiryService = bookingExpiryService;
+        this.bookingMetrics = bookingMetrics;
+        this.enabled = enabled;
+        this.gracePeriod = Duration.ofMinutes(Math.max(0, graceMinutes));
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxChunksPerRun = Math.max(1, maxChunksPerRun);
+        this.chunkPauseMillis = Math.max(0, chunkPauseMillis);
+    }
+
+    @Scheduled(initialDelayString = "${app.booking-expiry.initial-delay-ms:120000}",
+            fixedDelayString = "${app.booking-expiry.interval-ms:300000}")
+    public void scheduledExpiry() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int expired = expireStale();
+            if (expired > 0) {
+                logger.info("Expired {} stale pending booking(s)", expired);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Booking expiry failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Expires stale pending bookings until none are left or the per-run limit is hit
+     * Returns the number of bookings expired
+     */
+    public int expireStale() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(gracePeriod);
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int expired = bookingExpiryService.expireChunk(cutoff, chunkSize);
+            if (expired == BookingExpiryService.LOCK_HELD_ELSEWHERE) {
+                bookingMetrics.expirySkipped();
+                logger.debug("Booking expiry is running on another node, skipping");
+                break;
+            }
+            total += expired;
+            if (expired < chunkSize) {
+                break;
+            }
+            pause();
+        }
+        return total;
+    }
+
+    private void pause() {
+        if (chunkPauseMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * BookingExpiryService - Moves pending bookings whose time has passed to 'expired'
+ *
+ * Works on ids only: each chunk locks the next ids, expires them with one bulk UPDATE
+ * and adjusts the mentor counters once per mentor. The student and mentor still get
+ * a BookingEvent per booking, through the outbox and the booking stream.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingExpiryService {
+
+    // expireChunk result when another node is expiring
+    public static final int LOCK_HELD_ELSEWHERE = -1;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private AdvisoryLockService advisoryLockService;
+
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Expires up to chunkSize pending bookings proposed before the cutoff, in one transaction
+     *
+     * @return the number expired, or LOCK_HELD_ELSEWHERE without touching anything
+     */
+    @Transactional
+    public int expireChunk(LocalDateTime cutoff, int chunkSize) {
+        if (!advisoryLockService.tryLockForTransaction(AdvisoryLockService.BOOKING_EXPIRY)) {
+            return LOCK_HELD_ELSEWHERE;
+        }
+
+        List<BookingRepository.BookingRef> stale = bookingRepository.lockStalePending(cutoff, chunkSize);
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int expired = bookingRepository.updatePendingStatus(
+                stale.stream().map(BookingRepository.BookingRef::getBookingId).toList(),
+                BookingService.STATUS_EXPIRED, now);
+
+        Map<Long, Long> perMentor = stale.stream()
+                .collect(Collectors.groupingBy(BookingRepository.BookingRef::getMentorId, Collectors.counting()));
+        perMentor.forEach((mentorId, count) -> mentorCountersService.pendingBookingsExpired(mentorId, count.intValue()));
+
+        for (BookingRepository.BookingRef ref : stale) {
+            eventPublisher.publishEvent(new BookingEvent(ref.getBookingId(), ref.getStudentId(), ref.getMentorId(),
+                    ref.getTaskId(), BookingService.STATUS_EXPIRED, ref.getProposedDatetime(), now));
+        }
+        bookingMetrics.bookingsExpired(expired);
+        return expired;
+    }
+}
@@ -0,0 +1,87 @@
+package com.task_mentor.task_mentor.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * BookingMetrics - Counters for booking lifecycle events
+ * Exported as bookings_created_total, bookings_accepted_total,
+ * bookings_conflicts_total{operation="create|accept"}, bookings_expired_total,
+ * bookings_expiry_skipped_total (runs skipped because another node held the lock),
+ * bookings_archived_total and bookings_reminders_sent_total
+ */
+@Component
+public class BookingMetrics {
+
+    private final Counter created;
+    private final Counter accepted;
+    private final Counter createConflicts;
+    private final Counter acceptConflicts;
+    private final Counter expired;
+    private final Counter expirySkipped;
+    private final Counter archived;
+    private final Counter remindersSent;
+
+    public BookingMetrics(MeterRegistry registry) {
+        this.created = Counter.builder("bookings.created")
+                .description("Bookings created by students")
+                .register(registry);
+        this.accepted = Counter.builder("bookings.accepted")
+                .description("Bookings accepted by mentors")
+                .register(registry);
+        this.createConflicts = conflictCounter(registry, "create");
+        this.acceptConflicts = conflictCounter(registry, "accept");
+        this.expired = Counter.builder("bookings.expired")
+                .description("Pending bookings expired because their time passed without an answer")
+                .register(registry);
+        this.expirySkipped = Counter.builder("bookings.expiry.skipped")
+                .description("Expiry runs skipped because another node held the expiry lock")
+                .register(registry);
+        this.archived = Counter.builder("bookings.archived")
+                .description("Finished bookings moved to the booking archive")
+                .register(registry);
+        this.remindersSent = Counter.builder("bookings.reminders.sent")
+                .description("Reminders sent before accepted sessions")
+                .register(registry);
+    }
+
+    private static Counter conflictCounter(MeterRegistry registry, String operation) {
+        return Counter.builder("bookings.conflicts")
+                .description("Booking requests rejected because the mentor already has a booking at that time")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    public void bookingCreated() {
+        created.increment();
+    }
+
+    public void bookingAccepted() {
+        accepted.increment();
+    }
+
+    public void createConflict() {
+        createConflicts.increment();
+    }
+
+    public void acceptConflict() {
+        acceptConflicts.increment();
+    }
+
+    public void bookingsExpired(int count) {
+        expired.increment(count);
+    }
+
+    public void expirySkipped() {
+        expirySkipped.increment();
+    }
+
+    public void bookingsArchived(int count) {
+        archived.increment(count);
+    }
+
+    public void remindersSent(int count) {
+        remindersSent.increment(count);
+    }
+}
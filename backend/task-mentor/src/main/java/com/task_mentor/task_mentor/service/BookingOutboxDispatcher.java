@@ -0,0 +1,97 @@
+package com.task_mentor.task_mentor.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BookingOutboxDispatcher - Polls the booking outbox and dispatches it in batches
+ *
+ * Each poll dispatches batches, one transaction each, until a batch comes back short
+ * or max-batches-per-run is reached, then refreshes the backlog gauges. Dispatched
+ * rows are deleted once they are older than the retention period.
+ */
+@Component
+public class BookingOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOutboxDispatcher.class);
+
+    private final BookingOutboxService outboxService;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private LocalDateTime lastPurge = LocalDateTime.MIN;
+
+    public BookingOutboxDispatcher(
+            BookingOutboxService outboxService,
+            @Value("${app.booking-outbox.dispatch-enabled:true}") boolean enabled,
+            @Value("${app.booking-outbox.batch-size:100}") int batchSize,
+            @Value("${app.booking-outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${app.booking-outbox.retention-hours:168}") long retentionHours) {
+
+        this.outboxService = outboxService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.retention = Duration.ofHours(Math.max(1, retentionHours));
+    }
+
+    @Scheduled(initialDelayString = "${app.booking-outbox.initial-delay-ms:5000}",
+            fixedDelayString = "${app.booking-outbox.poll-interval-ms:1000}")
+    public void scheduledDispatch() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            dispatch();
+        } catch (RuntimeException ex) {
+            logger.warn("Booking outbox dispatch failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Dispatches due events until the outbox is drained or the per-run limit is hit
+     * Returns the number of events claimed
+     */
+    public int dispatch() {
+        // A lock rather than synchronized, so a virtual thread running the dispatch is not pinned during I/O
+        runLock.lock();
+        try {
+            int claimed = 0;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int count = outboxService.dispatchBatch(batchSize);
+                claimed += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+            outboxService.refreshBacklog();
+            purgeIfDue();
+            return claimed;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastPurge.isAfter(now.minusHours(1))) {
+            return;
+        }
+        lastPurge = now;
+        int purged = outboxService.purgeDispatchedBefore(now.minus(retention));
+        if (purged > 0) {
+            logger.info("Purged {} dispatched booking outbox event(s)", purged);
+        }
+    }
+}
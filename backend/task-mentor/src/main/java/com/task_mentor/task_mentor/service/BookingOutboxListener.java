@@ -0,0 +1,17 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.dto.BookingEvent;
+
+/**
+ * BookingOutboxListener - Receives booking events from the outbox dispatcher
+ *
+ * Delivery is at least once: an event is handed out again when any listener threw
+ * for it or the dispatching node died before marking it, so implementations must
+ * tolerate duplicates (for example by keying on bookingId and status). Listeners
+ * run in a new transaction per event, committed before the event is marked
+ * dispatched, and should return quickly: the claimed batch stays locked meanwhile.
+ */
+public interface BookingOutboxListener {
+
+    void onBookingEvent(BookingEvent event);
+}
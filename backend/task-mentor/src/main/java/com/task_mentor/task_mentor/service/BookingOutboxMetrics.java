@@ -0,0 +1,64 @@
+package com.task_mentor.task_mentor.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BookingOutboxMetrics - Backlog and lag of the booking outbox
+ * Exported as bookings_outbox_pending, bookings_outbox_lag_seconds (age of the oldest
+ * undispatched event), bookings_outbox_failed, bookings_outbox_dispatched_total,
+ * bookings_outbox_delivery_failures_total and bookings_outbox_dispatch_delay_seconds
+ */
+@Component
+public class BookingOutboxMetrics {
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter deliveryFailures;
+    private final Timer dispatchDelay;
+
+    public BookingOutboxMetrics(MeterRegistry registry) {
+        Gauge.builder("bookings.outbox.pending", pending, AtomicLong::get)
+                .description("Booking events waiting to be dispatched")
+                .register(registry);
+        Gauge.builder("bookings.outbox.lag", lagMillis, value -> value.get() / 1000.0)
+                .description("Age of the oldest booking event waiting to be dispatched")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("bookings.outbox.failed", failed, AtomicLong::get)
+                .description("Booking events that used up their delivery attempts")
+                .register(registry);
+        this.dispatched = Counter.builder("bookings.outbox.dispatched")
+                .description("Booking events delivered to every outbox listener")
+                .register(registry);
+        this.deliveryFailures = Counter.builder("bookings.outbox.delivery.failures")
+                .description("Booking event deliveries that threw and were scheduled for a retry")
+                .register(registry);
+        this.dispatchDelay = Timer.builder("bookings.outbox.dispatch.delay")
+                .description("Time from a booking change committing to its event being delivered")
+                .register(registry);
+    }
+
+    public void dispatched(Duration delay) {
+        dispatched.increment();
+        dispatchDelay.record(delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    public void deliveryFailed() {
+        deliveryFailures.increment();
+    }
+
+    public void backlog(long pendingEvents, Duration oldestAge, long failedEvents) {
+        pending.set(pendingEvents);
+        lagMillis.set(Math.max(0, oldestAge.toMillis()));
+        failed.set(failedEvents);
+    }
+}
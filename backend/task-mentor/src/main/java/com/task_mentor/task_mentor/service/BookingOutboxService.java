@@ -0,0 +1,165 @@
+package com.task_mentor.task_mentor.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.entity.BookingOutboxEvent;
+import com.task_mentor.task_mentor.repository.BookingOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * BookingOutboxService - Transactional outbox for booking events
+ *
+ * Every BookingEvent published by BookingService is written to booking_outbox by the
+ * publishing thread, inside the booking transaction: the row commits exactly when the
+ * status change does, and the write path only pays for one insert. BookingOutboxDispatcher
+ * later claims due rows in batches and hands them to the BookingOutboxListener beans.
+ *
+ * A claimed batch stays locked until its transaction ends, and claims skip locked rows,
+ * so several nodes can dispatch at once without delivering the same row concurrently.
+ * Each row is delivered in a transaction of its own: a listener that fails inside a
+ * transactional call rolls back its delivery only, not the claim and the outcomes
+ * recorded for the rest of the batch.
+ * A row whose delivery throws is retried with exponential backoff until it has used
+ * max-attempts; it then stays in the table, counted by bookings_outbox_failed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BookingOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingOutboxService.class);
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final BookingOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<BookingOutboxListener> listeners;
+    private final BookingOutboxMetrics metrics;
+    private final TransactionTemplate deliveryTransaction;
+
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public BookingOutboxService(
+            BookingOutboxRepository outboxRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<BookingOutboxListener> listeners,
+            BookingOutboxMetrics metrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.booking-outbox.max-attempts:10}") int maxAttempts,
+            @Value("${app.booking-outbox.retry-backoff-ms:5000}") long retryBackoffMillis) {
+
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.listeners = listeners;
+        this.metrics = metrics;
+        this.deliveryTransaction = new TransactionTemplate(transactionManager);
+        this.deliveryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = Duration.ofMillis(Math.max(0, retryBackoffMillis));
+    }
+
+    /**
+     * Records the event in the publisher's transaction; a booking change without its
+     * event must not commit, so a serialization failure rolls the change back
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(BookingEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize booking event for booking " + event.bookingId(), e);
+        }
+        outboxRepository.save(new BookingOutboxEvent(event.bookingId(), "booking." + event.status(), payload,
+                event.occurredAt()));
+    }
+
+    /**
+     * Claims up to batchSize due events, delivers them and records the outcome in one
+     * transaction; listeners run in a separate transaction per event
+     *
+     * @return the number of events claimed; less than batchSize when the outbox is drained
+     */
+    @Transactional
+    public int dispatchBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingOutboxEvent> claimed = outboxRepository.claimDue(now, maxAttempts, batchSize);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(claimed.size());
+        for (BookingOutboxEvent row : claimed) {
+            try {
+                BookingEvent event = objectMapper.readValue(row.getPayload(), BookingEvent.class);
+                deliveryTransaction.executeWithoutResult(status ->
+                        listeners.orderedStream().forEach(listener -> listener.onBookingEvent(event)));
+                delivered.add(row.getId());
+                metrics.dispatched(Duration.between(row.getCreatedAt(), now));
+            } catch (JsonProcessingException | RuntimeException e) {
+                scheduleRetry(row, now, e);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxRepository.markDispatched(delivered, now);
+        }
+        return claimed.size();
+    }
+
+    /**
+     * Refreshes the backlog gauges; reads the primary so replica lag does not hide a backlog
+     */
+    @Transactional
+    public void refreshBacklog() {
+        long pending = outboxRepository.countUndispatched(maxAttempts);
+        LocalDateTime oldest = pending > 0 ? outboxRepository.findOldestUndispatched(maxAttempts) : null;
+        Duration lag = oldest != null ? Duration.between(oldest, LocalDateTime.now()) : Duration.ZERO;
+        metrics.backlog(pending, lag, outboxRepository.countFailed(maxAttempts));
+    }
+
+    @Transactional
+    public int purgeDispatchedBefore(LocalDateTime cutoff) {
+        return outboxRepository.deleteDispatchedBefore(cutoff);
+    }
+
+    private void scheduleRetry(BookingOutboxEvent row, LocalDateTime now, Exception e) {
+        int attempts = row.getAttempts() + 1;
+        row.setAttempts(attempts);
+        row.setAvailableAt(now.plus(backoff(attempts)));
+        String error = e.toString();
+        row.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        metrics.deliveryFailed();
+
+        if (attempts >= maxAttempts) {
+            logger.error("Giving up on booking outbox event {} for booking {} after {} attempts: {}",
+                    row.getId(), row.getBookingId(), attempts, error);
+        } else {
+            logger.warn("Booking outbox event {} for booking {} failed (attempt {}), retrying: {}",
+                    row.getId(), row.getBookingId(), attempts, error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+    }
+}
@@ -1,5 +1,8 @@
 package com.task_mentor.task_mentor.service;
 
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.dto.BookingReviewRequest;
+import com.task_mentor.task_mentor.dto.BookingReviewResult;
 import com.task_mentor.task_mentor.entity.Booking;
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.Student;
@@ -8,16 +11,22 @@ import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.MentorRepository;
 import com.task_mentor.task_mentor.repository.StudentRepository;
 import com.task_mentor.task_mentor.repository.TaskRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class BookingService {
 
     @Autowired
@@ -32,13 +41,32 @@ public class BookingService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    // BookingEvents are written to the outbox in this transaction (BookingOutboxService)
+    // and reach BookingStreamService once it commits
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
 
     public static final String STATUS_PENDING = "pending";
     public static final String STATUS_ACCEPTED = "accepted";
     public static final String STATUS_DECLINED = "declined";
     public static final String STATUS_CANCELLED = "cancelled";
+    // Set by BookingExpiryJob on pending bookings whose time has passed
+    public static final String STATUS_EXPIRED = "expired";
 
+    public static final String ACTION_ACCEPT = "accept";
+    public static final String ACTION_DECLINE = "decline";
 
+    public static final int MAX_REVIEW_DECISIONS = 100;
+
+
+    @Transactional
     public Booking createBooking(Long studentId, Long mentorId, Long taskId, LocalDateTime proposedDatetime) {
 
         Student student = studentRepository.findById(studentId)
@@ -60,18 +88,24 @@ public class BookingService {
 
 
         if (hasConflictingBooking(mentorId, proposedDatetime, task.getDurationMinutes())) {
+            bookingMetrics.createConflict();
             throw new IllegalStateException(
                     "Mentor already has a confirmed booking at this time. Please choose another time slot.");
         }
 
 
         Booking booking = new Booking(student, mentor, task, proposedDatetime);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        bookingMetrics.bookingCreated();
+        mentorCountersService.bookingCreated(mentorId);
+        eventPublisher.publishEvent(BookingEvent.of(saved));
+        return saved;
     }
 
 
+    @Transactional
     public Booking acceptBooking(Long bookingId, Long mentorId) {
-        Booking booking = getBookingById(bookingId);
+        Booking booking = lockBookingById(bookingId);
 
         if (!booking.getMentor().getMentorId().equals(mentorId)) {
             throw new IllegalStateException("Only the assigned mentor can accept this booking");
@@ -85,17 +119,23 @@ public class BookingService {
 
         if (hasConflictingBooking(mentorId, booking.getProposedDatetime(),
                 booking.getTask().getDurationMinutes(), bookingId)) {
+            bookingMetrics.acceptConflict();
             throw new IllegalStateException(
                     "Cannot accept: Another booking was confirmed for this time slot");
         }
 
         booking.setStatus(STATUS_ACCEPTED);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        bookingMetrics.bookingAccepted();
+        mentorCountersService.bookingAccepted(mentorId, booking.getProposedDatetime());
+        eventPublisher.publishEvent(BookingEvent.of(saved));
+        return saved;
     }
 
 
+    @Transactional
     public Booking declineBooking(Long bookingId, Long mentorId) {
-        Booking booking = getBookingById(bookingId);
+        Booking booking = lockBookingById(bookingId);
 
 
         if (!booking.getMentor().getMentorId().equals(mentorId)) {
@@ -108,12 +148,86 @@ public class BookingService {
         }
 
         booking.setStatus(STATUS_DECLINED);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        mentorCountersService.pendingBookingClosed(mentorId);
+        eventPublisher.publishEvent(BookingEvent.of(saved));
+        return saved;
+    }
+
+
+    /**
+     * Accepts and declines several of a mentor's pending bookings in one transaction
+     *
+     * The selected bookings and the mentor's accepted bookings around them are loaded
+     * once, and accepts are checked for conflicts in memory, in request order, against
+     * both the accepted bookings and the ones accepted earlier in the batch. Decisions
+     * that cannot be applied are reported in their result and do not stop the others.
+     * The status changes are flushed together as JDBC batches (hibernate.jdbc.batch_size).
+     *
+     * @throws IllegalArgumentException when the mentor does not exist or the decisions are malformed
+     */
+    @Transactional
+    public List<BookingReviewResult> reviewBookings(Long mentorId, List<BookingReviewRequest.Decision> decisions) {
+        validateDecisions(decisions);
+        mentorRepository.findById(mentorId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found with ID: " + mentorId));
+
+        Map<Long, Booking> selected = new HashMap<>();
+        for (Booking booking : bookingRepository.findAllWithTaskByIdIn(
+                decisions.stream().map(BookingReviewRequest.Decision::getBookingId).toList())) {
+            selected.put(booking.getBookingId(), booking);
+        }
+        List<Booking> accepted = acceptedBookingsAround(mentorId, decisions.stream()
+                .filter(decision -> ACTION_ACCEPT.equals(normalizeAction(decision.getAction())))
+                .map(decision -> selected.get(decision.getBookingId()))
+                .filter(booking -> isPendingFor(booking, mentorId))
+                .toList());
+
+        List<BookingReviewResult> results = new ArrayList<>(decisions.size());
+        List<Booking> changed = new ArrayList<>();
+        List<LocalDateTime> acceptedDatetimes = new ArrayList<>();
+        int declined = 0;
+
+        for (BookingReviewRequest.Decision decision : decisions) {
+            String action = normalizeAction(decision.getAction());
+            Booking booking = selected.get(decision.getBookingId());
+            String error = reviewError(booking, decision.getBookingId(), mentorId, action);
+
+            if (error == null && ACTION_ACCEPT.equals(action)) {
+                if (conflictsWithAny(booking, accepted)) {
+                    bookingMetrics.acceptConflict();
+                    error = "Cannot accept: Another booking was confirmed for this time slot";
+                } else {
+                    booking.setStatus(STATUS_ACCEPTED);
+                    accepted.add(booking);
+                    acceptedDatetimes.add(booking.getProposedDatetime());
+                    bookingMetrics.bookingAccepted();
+                }
+            } else if (error == null) {
+                booking.setStatus(STATUS_DECLINED);
+                declined++;
+            }
+
+            if (error != null) {
+                results.add(BookingReviewResult.rejected(decision.getBookingId(), action, error));
+            } else {
+                changed.add(booking);
+                results.add(BookingReviewResult.applied(booking, action));
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            // Managed entities: the updates are flushed at commit, batched with the outbox inserts
+            mentorCountersService.bookingsReviewed(mentorId, acceptedDatetimes, declined);
+            changed.forEach(booking -> eventPublisher.publishEvent(BookingEvent.of(booking)));
+        }
+        return results;
     }
 
 
+    @Transactional
     public Booking cancelBooking(Long bookingId, Long userId, String userType) {
-        Booking booking = getBookingById(bookingId);
+        Booking booking = lockBookingById(bookingId);
 
 
         if ("student".equalsIgnoreCase(userType)) {
@@ -129,12 +243,22 @@ public class BookingService {
         }
 
 
-        if (STATUS_CANCELLED.equals(booking.getStatus()) || STATUS_DECLINED.equals(booking.getStatus())) {
+        if (STATUS_CANCELLED.equals(booking.getStatus()) || STATUS_DECLINED.equals(booking.getStatus())
+                || STATUS_EXPIRED.equals(booking.getStatus())) {
             throw new IllegalStateException("Booking is already " + booking.getStatus());
         }
 
+        String previousStatus = booking.getStatus();
         booking.setStatus(STATUS_CANCELLED);
-        return bookingRepository.save(booking);
+        Booking saved = bookingRepository.save(booking);
+        if (STATUS_PENDING.equals(previousStatus)) {
+            mentorCountersService.pendingBookingClosed(booking.getMentor().getMentorId());
+        } else if (STATUS_ACCEPTED.equals(previousStatus)) {
+            mentorCountersService.acceptedBookingCancelled(booking.getMentor().getMentorId(),
+                    booking.getProposedDatetime());
+        }
+        eventPublisher.publishEvent(BookingEvent.of(saved));
+        return saved;
     }
 
 
@@ -144,6 +268,13 @@ public class BookingService {
     }
 
 
+    // For status changes: holds the row lock until commit, see BookingRepository.findByIdForUpdate
+    private Booking lockBookingById(Long bookingId) {
+        return bookingRepository.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new IllegalArgumentException("Booking not found with ID: " + bookingId));
+    }
+
+
     public List<Booking> getBookingsByStudent(Long studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
@@ -167,6 +298,37 @@ public class BookingService {
     }
 
 
+    /**
+     * The student's bookings proposed in [from, to); finished bookings older than the
+     * archive retention are not in this table, see BookingArchiveService
+     */
+    public List<Booking> getBookingsByStudent(Long studentId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("Student not found with ID: " + studentId));
+        return bookingRepository.findByStudentBetween(student, from, to);
+    }
+
+
+    public List<Booking> getBookingsByMentor(Long mentorId, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        Mentor mentor = mentorRepository.findById(mentorId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found with ID: " + mentorId));
+        return bookingRepository.findByMentorBetween(mentor, from, to);
+    }
+
+
+    public List<Booking> getBookingsByMentorAndStatus(Long mentorId, String status, LocalDateTime from,
+                                                      LocalDateTime to) {
+        validateRange(from, to);
+        Mentor mentor = mentorRepository.findById(mentorId)
+                .orElseThrow(() -> new IllegalArgumentException("Mentor not found with ID: " + mentorId));
+
+        validateStatus(status);
+        return bookingRepository.findByMentorAndStatusBetween(mentor, status, from, to);
+    }
+
+
     public List<Booking> getBookingsByTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
@@ -180,13 +342,21 @@ public class BookingService {
     }
 
 
+    public List<Booking> getBookingsByStatus(String status, LocalDateTime from, LocalDateTime to) {
+        validateRange(from, to);
+        validateStatus(status);
+        return bookingRepository.findByStatusBetween(status, from, to);
+    }
+
+
     public List<Booking> getAllBookings() {
         return bookingRepository.findAll();
     }
 
 
+    @Transactional
     public void deleteBooking(Long bookingId) {
-        Booking booking = getBookingById(bookingId);
+        Booking booking = lockBookingById(bookingId);
 
 
         if (STATUS_ACCEPTED.equals(booking.getStatus())) {
@@ -194,6 +364,9 @@ public class BookingService {
         }
 
         bookingRepository.deleteById(bookingId);
+        if (STATUS_PENDING.equals(booking.getStatus())) {
+            mentorCountersService.pendingBookingClosed(booking.getMentor().getMentorId());
+        }
     }
 
 
@@ -233,6 +406,94 @@ public class BookingService {
     }
 
 
+    /**
+     * Accepted bookings of the mentor that could overlap any of the given ones: those
+     * starting before the last one ends and at most the mentor's longest task before the first
+     */
+    private List<Booking> acceptedBookingsAround(Long mentorId, List<Booking> toAccept) {
+        if (toAccept.isEmpty()) {
+            return new ArrayList<>();
+        }
+        LocalDateTime firstStart = toAccept.stream().map(Booking::getProposedDatetime)
+                .min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime lastEnd = toAccept.stream()
+                .map(booking -> booking.getProposedDatetime().plusMinutes(booking.getTask().getDurationMinutes()))
+                .max(LocalDateTime::compareTo).orElseThrow();
+        Integer longestTask = taskRepository.findMaxDurationMinutesByMentorId(mentorId);
+        LocalDateTime from = firstStart.minusMinutes(longestTask != null ? longestTask : 0);
+        return new ArrayList<>(bookingRepository.findAcceptedByMentorIdStartingBetween(mentorId, from, lastEnd));
+    }
+
+
+    private boolean conflictsWithAny(Booking booking, List<Booking> accepted) {
+        LocalDateTime start = booking.getProposedDatetime();
+        LocalDateTime end = start.plusMinutes(booking.getTask().getDurationMinutes());
+        for (Booking existing : accepted) {
+            LocalDateTime existingStart = existing.getProposedDatetime();
+            LocalDateTime existingEnd = existingStart.plusMinutes(existing.getTask().getDurationMinutes());
+            if (timesOverlap(start, end, existingStart, existingEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static boolean isPendingFor(Booking booking, Long mentorId) {
+        return booking != null && booking.getMentor().getMentorId().equals(mentorId)
+                && STATUS_PENDING.equals(booking.getStatus());
+    }
+
+
+    /**
+     * Why a decision cannot be applied, in the words of the single accept and decline endpoints,
+     * or null when it can
+     */
+    private static String reviewError(Booking booking, Long bookingId, Long mentorId, String action) {
+        if (booking == null) {
+            return "Booking not found with ID: " + bookingId;
+        }
+        if (!booking.getMentor().getMentorId().equals(mentorId)) {
+            return "Only the assigned mentor can " + action + " this booking";
+        }
+        if (!STATUS_PENDING.equals(booking.getStatus())) {
+            return ACTION_ACCEPT.equals(action)
+                    ? "Only pending bookings can be accepted" : "Only pending bookings can be declined";
+        }
+        return null;
+    }
+
+
+    private static void validateDecisions(List<BookingReviewRequest.Decision> decisions) {
+        if (decisions == null || decisions.isEmpty()) {
+            throw new IllegalArgumentException("At least one decision is required");
+        }
+        if (decisions.size() > MAX_REVIEW_DECISIONS) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_REVIEW_DECISIONS + " bookings can be reviewed at once");
+        }
+        Set<Long> bookingIds = new HashSet<>();
+        for (BookingReviewRequest.Decision decision : decisions) {
+            if (decision == null || decision.getBookingId() == null) {
+                throw new IllegalArgumentException("Every decision needs a booking ID");
+            }
+            String action = normalizeAction(decision.getAction());
+            if (!ACTION_ACCEPT.equals(action) && !ACTION_DECLINE.equals(action)) {
+                throw new IllegalArgumentException("Invalid action for booking " + decision.getBookingId()
+                        + ". Must be one of: " + ACTION_ACCEPT + ", " + ACTION_DECLINE);
+            }
+            if (!bookingIds.add(decision.getBookingId())) {
+                throw new IllegalArgumentException("Booking " + decision.getBookingId() + " appears more than once");
+            }
+        }
+    }
+
+
+    private static String normalizeAction(String action) {
+        return action == null ? null : action.trim().toLowerCase();
+    }
+
+
     private boolean timesOverlap(LocalDateTime start1, LocalDateTime end1,
                                  LocalDateTime start2, LocalDateTime end2) {
         return start1.isBefore(end2) && start2.isBefore(end1);
@@ -257,12 +518,23 @@ public class BookingService {
     }
 
 
+    static void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required for a date range");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+
     private void validateStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
             throw new IllegalArgumentException("Status is required");
         }
 
-        List<String> validStatuses = List.of(STATUS_PENDING, STATUS_ACCEPTED, STATUS_DECLINED, STATUS_CANCELLED);
+        List<String> validStatuses = List.of(STATUS_PENDING, STATUS_ACCEPTED, STATUS_DECLINED, STATUS_CANCELLED,
+                STATUS_EXPIRED);
         if (!validStatuses.contains(status.toLowerCase())) {
             throw new IllegalArgumentException(
                     "Invalid status. Must be one of: " + String.join(", ", validStatuses));
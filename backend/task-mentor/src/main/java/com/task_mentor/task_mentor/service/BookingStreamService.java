@@ -0,0 +1,265 @@
+package com.task_mentor.task_mentor.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.dto.SessionReminderEvent;
+import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.MentorRepository;
+import com.task_mentor.task_mentor.repository.StudentRepository;
+import com.task_mentor.task_mentor.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BookingStreamService - Pushes booking status changes to the student and mentor involved
+ * over Server-Sent Events (/api/bookings/stream)
+ *
+ * BookingService publishes a BookingEvent for every create, accept, decline and cancel;
+ * it is delivered here only once the transaction commits, so rolled-back changes are
+ * never pushed. Session reminders are pushed the same way, as "reminder" events.
+ * Delivery only appends to each subscriber's bounded buffer. Writing to the connections
+ * happens on virtual threads, one drain at a time per connection, so a slow client
+ * never holds up the committing request or other clients.
+ *
+ * Open connections are parked async requests and use no thread while idle. A comment
+ * line is sent to connections that have been quiet for a heartbeat interval, which keeps
+ * proxies from closing them and finds connections whose client has gone away.
+ */
+@Service
+public class BookingStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingStreamService.class);
+
+    static final String EVENT_NAME = "booking";
+    static final String REMINDER_EVENT_NAME = "reminder";
+    static final String READY = "ready";
+
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final MentorRepository mentorRepository;
+    private final ObjectMapper objectMapper;
+
+    private final long timeoutMillis;
+    private final long heartbeatNanos;
+    private final int bufferCapacity;
+    private final int maxConnectionsPerUser;
+
+    // Keyed by "student:<id>" or "mentor:<id>"; lists are short and mostly read
+    private final Map<String, List<BookingStreamSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter resyncs;
+
+    public BookingStreamService(
+            UserRepository userRepository,
+            StudentRepository studentRepository,
+            MentorRepository mentorRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${app.booking-stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.booking-stream.heartbeat-ms:20000}") long heartbeatMillis,
+            @Value("${app.booking-stream.buffer-capacity:32}") int bufferCapacity,
+            @Value("${app.booking-stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+
+        this.userRepository = userRepository;
+        this.studentRepository = studentRepository;
+        this.mentorRepository = mentorRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+        this.bufferCapacity = Math.max(1, bufferCapacity);
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+
+        Gauge.builder("bookings.stream.connections", this, BookingStreamService::getConnectionCount)
+                .description("Open booking event streams")
+                .register(registry);
+        this.resyncs = Counter.builder("bookings.stream.resyncs")
+                .description("Stream buffers that overflowed and were replaced by a resync event")
+                .register(registry);
+    }
+
+    /**
+     * Opens a stream for the user signed in with this email
+     *
+     * @throws IllegalArgumentException when the user has no student or mentor profile
+     */
+    public SseEmitter subscribe(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        Set<String> keys = new HashSet<>();
+        studentRepository.findByUserId(user.getUserId())
+                .ifPresent(student -> keys.add(studentKey(student.getStudentId())));
+        mentorRepository.findByUserId(user.getUserId())
+                .ifPresent(mentor -> keys.add(mentorKey(mentor.getMentorId())));
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Profile not found. Please create your profile first.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        BookingStreamSubscription subscription = new BookingStreamSubscription(emitter, Set.copyOf(keys), bufferCapacity);
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(e -> remove(subscription));
+
+        for (String key : keys) {
+            // Added inside compute so a concurrent remove cannot drop the list it is added to
+            List<BookingStreamSubscription> list = subscriptions.compute(key, (k, existing) -> {
+                List<BookingStreamSubscription> updated = existing != null ? existing : new CopyOnWriteArrayList<>();
+                updated.add(subscription);
+                return updated;
+            });
+            // The oldest connections beyond the limit are usually tabs that were closed uncleanly
+            while (list.size() > maxConnectionsPerUser) {
+                close(list.get(0));
+            }
+        }
+
+        // Lets the client know the subscription is live before the first change arrives
+        enqueue(subscription, SseEmitter.event().name(READY).data("{}"));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("Cannot serialize booking event for booking {}: {}", event.bookingId(), e.getMessage());
+            return;
+        }
+        publish(studentKey(event.studentId()), EVENT_NAME, json);
+        publish(mentorKey(event.mentorId()), EVENT_NAME, json);
+    }
+
+    @TransactionalEventListener
+    public void onSessionReminder(SessionReminderEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("Cannot serialize session reminder for booking {}: {}", event.bookingId(), e.getMessage());
+            return;
+        }
+        publish(studentKey(event.studentId()), REMINDER_EVENT_NAME, json);
+        publish(mentorKey(event.mentorId()), REMINDER_EVENT_NAME, json);
+    }
+
+    @Scheduled(fixedDelayString = "${app.booking-stream.heartbeat-ms:20000}")
+    public void sendHeartbeats() {
+        long now = System.nanoTime();
+        for (List<BookingStreamSubscription> list : subscriptions.values()) {
+            for (BookingStreamSubscription subscription : list) {
+                if (now - subscription.getLastSentNanos() >= heartbeatNanos && subscription.isEmpty()) {
+                    enqueue(subscription, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        Set<BookingStreamSubscription> distinct = new HashSet<>();
+        subscriptions.values().forEach(distinct::addAll);
+        return distinct.size();
+    }
+
+    /**
+     * Completes every open stream; clients reconnect on their own
+     */
+    public void shutdownConnections() {
+        subscriptions.values().forEach(list -> list.forEach(this::close));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shutdownConnections();
+        senders.shutdown();
+    }
+
+    private void publish(String key, String eventName, String json) {
+        List<BookingStreamSubscription> list = subscriptions.get(key);
+        if (list == null) {
+            return;
+        }
+        for (BookingStreamSubscription subscription : list) {
+            enqueue(subscription, SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void enqueue(BookingStreamSubscription subscription, SseEmitter.SseEventBuilder event) {
+        if (subscription.isClosed()) {
+            return;
+        }
+        if (!subscription.offer(event)) {
+            resyncs.increment();
+        }
+        if (subscription.startDrain()) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(BookingStreamSubscription subscription) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscription.isClosed() && (event = subscription.poll()) != null) {
+                subscription.getEmitter().send(event);
+                subscription.sent();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            logger.debug("Closing booking stream: {}", e.getMessage());
+            close(subscription);
+        } finally {
+            subscription.endDrain();
+        }
+        // An event offered between the last poll and endDrain would otherwise wait for the next one
+        if (!subscription.isClosed() && !subscription.isEmpty() && subscription.startDrain()) {
+            senders.execute(() -> drain(subscription));
+        }
+    }
+
+    private void close(BookingStreamSubscription subscription) {
+        remove(subscription);
+        subscription.getEmitter().complete();
+    }
+
+    private void remove(BookingStreamSubscription subscription) {
+        subscription.close();
+        for (String key : subscription.getKeys()) {
+            subscriptions.computeIfPresent(key, (k, list) -> {
+                list.remove(subscription);
+                return list.isEmpty() ? null : list;
+            });
+        }
+    }
+
+    private static String studentKey(Long studentId) {
+        return "student:" + studentId;
+    }
+
+    private static String mentorKey(Long mentorId) {
+        return "mentor:" + mentorId;
+    }
+}
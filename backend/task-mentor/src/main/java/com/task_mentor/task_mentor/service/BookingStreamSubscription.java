@@ -0,0 +1,92 @@
+package com.task_mentor.task_mentor.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * BookingStreamSubscription - One open /api/bookings/stream connection and its outgoing buffer
+ *
+ * The buffer is bounded: when a client reads slower than its events arrive, the
+ * buffered events are replaced by a single "resync" event telling it to reload its
+ * booking lists, so a stalled connection never holds more than capacity events.
+ */
+class BookingStreamSubscription {
+
+    static final String RESYNC = "resync";
+
+    private final SseEmitter emitter;
+    private final Set<String> keys;
+    private final int capacity;
+    private final ArrayDeque<SseEmitter.SseEventBuilder> buffer = new ArrayDeque<>();
+    // Set while a drain is queued or running, so at most one thread writes to the emitter
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long lastSentNanos = System.nanoTime();
+    private volatile boolean closed;
+
+    BookingStreamSubscription(SseEmitter emitter, Set<String> keys, int capacity) {
+        this.emitter = emitter;
+        this.keys = keys;
+        this.capacity = capacity;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    Set<String> getKeys() {
+        return keys;
+    }
+
+    long getLastSentNanos() {
+        return lastSentNanos;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Never blocks
+     *
+     * @return false when the buffer was full and its events were replaced by a resync
+     */
+    synchronized boolean offer(SseEmitter.SseEventBuilder event) {
+        if (buffer.size() < capacity) {
+            buffer.add(event);
+            return true;
+        }
+        buffer.clear();
+        buffer.add(SseEmitter.event().name(RESYNC).data("{}"));
+        return false;
+    }
+
+    synchronized boolean isEmpty() {
+        return buffer.isEmpty();
+    }
+
+    synchronized SseEmitter.SseEventBuilder poll() {
+        return buffer.poll();
+    }
+
+    /**
+     * @return true when the caller should start a drain
+     */
+    boolean startDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    void sent() {
+        lastSentNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,71 @@
+package com.task_mentor.task_mentor.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * CacheStatisticsService - Reads Hibernate second-level cache statistics
+ * Reports hit, miss and put counts plus the hit ratio for each cache region
+ */
+@Service
+public class CacheStatisticsService {
+
+    private final SessionFactory sessionFactory;
+
+    public CacheStatisticsService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public Statistics getStatistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    /**
+     * Get statistics for every second-level cache region, keyed by region name
+     */
+    public Map<String, Map<String, Object>> getRegionStatistics() {
+        Statistics statistics = getStatistics();
+        Map<String, Map<String, Object>> regions = new LinkedHashMap<>();
+
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("hitCount", region.getHitCount());
+            values.put("missCount", region.getMissCount());
+            values.put("putCount", region.getPutCount());
+            values.put("hitRatio", hitRatio(region.getHitCount(), region.getMissCount()));
+            values.put("elementCountInMemory", region.getElementCountInMemory());
+            regions.put(regionName, values);
+        }
+
+        return regions;
+    }
+
+    /**
+     * Overall second-level cache hit ratio across all regions
+     */
+    public double getSecondLevelCacheHitRatio() {
+        Statistics statistics = getStatistics();
+        return hitRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+    }
+
+    public double getQueryCacheHitRatio() {
+        Statistics statistics = getStatistics();
+        return hitRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount());
+    }
+
+    private double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
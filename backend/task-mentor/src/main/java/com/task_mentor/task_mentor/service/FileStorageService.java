@@ -6,10 +6,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -23,18 +26,35 @@ import java.util.UUID;
 @Service
 public class FileStorageService {
     
+    // Leading bytes needed to recognise every supported image format
+    private static final int SIGNATURE_BYTES = 12;
+    private static final int COPY_BUFFER_BYTES = 8192;
+
+    // Uploads are written to '.<name>.part' and moved into place once complete
+    static final String PARTIAL_SUFFIX = ".part";
+    
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87_SIGNATURE = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89_SIGNATURE = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final byte[] RIFF_SIGNATURE = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP_SIGNATURE = {'W', 'E', 'B', 'P'};
+    
     private final Path fileStorageLocation;
     private final List<String> allowedExtensions;
     private final long maxFileSize;
+    private final HotImageCache hotImageCache;
     
     public FileStorageService(
             @Value("${file.upload-dir}") String uploadDir,
             @Value("${file.allowed-extensions}") String allowedExtensionsStr,
-            @Value("${file.max-file-size-bytes}") long maxFileSize) {
+            @Value("${file.max-file-size-bytes}") long maxFileSize,
+            HotImageCache hotImageCache) {
         
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
         this.allowedExtensions = Arrays.asList(allowedExtensionsStr.split(","));
         this.maxFileSize = maxFileSize;
+        this.hotImageCache = hotImageCache;
         
         try {
             Files.createDirectories(this.fileStorageLocation);
@@ -51,30 +71,72 @@ public class FileStorageService {
         // Validate file
         validateFile(file);
         
+        try (InputStream inputStream = file.getInputStream()) {
+            return storeStream(inputStream, file.getOriginalFilename());
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not read uploaded file. Please try again!", ex);
+        }
+    }
+    
+    /**
+     * Store an uploaded image straight from its input stream
+     * The content type is checked against the magic bytes at the start of the stream
+     * and the size limit is enforced while copying, so only a small fixed buffer is
+     * held in memory regardless of the file size
+     */
+    public String storeStream(InputStream inputStream, String originalFileName) {
+        String fileName = StringUtils.cleanPath(originalFileName == null ? "" : originalFileName);
+        validateFileName(fileName);
+        String fileExtension = getFileExtension(fileName).toLowerCase();
+        
         // Generate unique filename
-        String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
-        String fileExtension = getFileExtension(originalFileName);
         String newFileName = UUID.randomUUID().toString() + "." + fileExtension;
+        Path targetLocation = this.fileStorageLocation.resolve(newFileName);
+        // Hidden partial file in the same directory so the final move is a rename, not a copy
+        Path partialLocation = this.fileStorageLocation.resolve("." + newFileName + PARTIAL_SUFFIX);
         
         try {
-            // Copy file to target location
-            Path targetLocation = this.fileStorageLocation.resolve(newFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            byte[] header = inputStream.readNBytes(SIGNATURE_BYTES);
+            validateSignature(header, fileExtension);
+            
+            try (OutputStream out = Files.newOutputStream(partialLocation,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                out.write(header);
+                long written = header.length;
+                byte[] buffer = new byte[COPY_BUFFER_BYTES];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    written += read;
+                    if (written > maxFileSize) {
+                        throw new IllegalArgumentException("File size exceeds maximum allowed size of " + (maxFileSize / 1024 / 1024) + "MB");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
             
+            Files.move(partialLocation, targetLocation, StandardCopyOption.ATOMIC_MOVE);
             return newFileName;
         } catch (IOException ex) {
             throw new RuntimeException("Could not store file " + newFileName + ". Please try again!", ex);
+        } finally {
+            try {
+                Files.deleteIfExists(partialLocation);
+            } catch (IOException ignored) {
+                // OrphanedUploadSweeper deletes partial files left behind once they pass its grace period
+            }
         }
     }
     
     /**
      * Delete a file from the filesystem
+     * Also drops it from the hot image cache so it is no longer served
      */
     public void deleteFile(String fileName) {
         if (fileName == null || fileName.trim().isEmpty()) {
             return;
         }
         
+        hotImageCache.invalidate(fileName);
         try {
             Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
             Files.deleteIfExists(filePath);
@@ -83,6 +145,13 @@ public class FileStorageService {
         }
     }
     
+    /**
+     * Get the directory where uploaded files are stored
+     */
+    public Path getStorageLocation() {
+        return this.fileStorageLocation;
+    }
+    
     /**
      * Get the full path to a stored file
      */
@@ -103,8 +172,14 @@ public class FileStorageService {
             throw new IllegalArgumentException("File size exceeds maximum allowed size of " + (maxFileSize / 1024 / 1024) + "MB");
         }
         
+        validateFileName(StringUtils.cleanPath(file.getOriginalFilename()));
+    }
+    
+    /**
+     * Validate the original file name of an upload
+     */
+    private void validateFileName(String fileName) {
         // Check file extension
-        String fileName = StringUtils.cleanPath(file.getOriginalFilename());
         String extension = getFileExtension(fileName);
         
         if (!allowedExtensions.contains(extension.toLowerCase())) {
@@ -117,6 +192,40 @@ public class FileStorageService {
         }
     }
     
+    /**
+     * Check that the leading bytes of the upload match the claimed image extension
+     */
+    private void validateSignature(byte[] header, String extension) {
+        if (header.length == 0) {
+            throw new IllegalArgumentException("File is empty or null");
+        }
+        
+        boolean matches = switch (extension) {
+            case "jpg", "jpeg" -> startsWith(header, 0, JPEG_SIGNATURE);
+            case "png" -> startsWith(header, 0, PNG_SIGNATURE);
+            case "gif" -> startsWith(header, 0, GIF87_SIGNATURE) || startsWith(header, 0, GIF89_SIGNATURE);
+            case "webp" -> startsWith(header, 0, RIFF_SIGNATURE) && startsWith(header, 8, WEBP_SIGNATURE);
+            // No known signature for this extension, nothing to compare against
+            default -> true;
+        };
+        
+        if (!matches) {
+            throw new IllegalArgumentException("File content does not match its ." + extension + " extension");
+        }
+    }
+    
+    private boolean startsWith(byte[] data, int offset, byte[] signature) {
+        if (data.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (data[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     /**
      * Extract file extension from filename
      */
@@ -0,0 +1,190 @@
+package com.task_mentor.task_mentor.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HotImageCache - Optional in-process cache for frequently served task images
+ * Image bytes are held in direct ByteBuffers so they live outside the Java heap
+ *
+ * Entries are admitted once a file has been requested a configurable number of
+ * times and evicted least-recently-used when the total size bound is reached.
+ */
+@Component
+public class HotImageCache {
+
+    private static final int MAX_TRACKED_CANDIDATES = 1024;
+
+    private final boolean enabled;
+    private final long maxTotalBytes;
+    private final long maxEntryBytes;
+    private final int admitAfterRequests;
+
+    // Access-ordered so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Request counts for files that are not cached yet
+    private final LinkedHashMap<String, Integer> candidates = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_TRACKED_CANDIDATES;
+        }
+    };
+
+    private long currentBytes;
+    private long invalidationCount;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public HotImageCache(
+            @Value("${file.hot-cache.enabled:false}") boolean enabled,
+            @Value("${file.hot-cache.max-bytes:67108864}") long maxTotalBytes,
+            @Value("${file.hot-cache.max-entry-bytes:1048576}") long maxEntryBytes,
+            @Value("${file.hot-cache.admit-after-requests:2}") int admitAfterRequests) {
+
+        this.enabled = enabled;
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxTotalBytes);
+        this.admitAfterRequests = Math.max(1, admitAfterRequests);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a cached image, loading it from disk when it has become hot
+     * Returns a read-only view positioned at the start of the image,
+     * or null when the caller should serve the file from disk
+     */
+    public ByteBuffer get(String fileName, Path filePath) {
+        if (!enabled) {
+            return null;
+        }
+
+        long generation;
+        synchronized (this) {
+            ByteBuffer cached = entries.get(fileName);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached.asReadOnlyBuffer();
+            }
+            misses.incrementAndGet();
+
+            int requests = candidates.merge(fileName, 1, Integer::sum);
+            if (requests < admitAfterRequests) {
+                return null;
+            }
+            generation = invalidationCount;
+        }
+
+        ByteBuffer loaded = readDirect(filePath);
+        if (loaded == null) {
+            return null;
+        }
+
+        synchronized (this) {
+            // A delete raced with the read, so the bytes may belong to a removed file
+            if (generation != invalidationCount) {
+                return null;
+            }
+            candidates.remove(fileName);
+            ByteBuffer previous = entries.put(fileName, loaded);
+            if (previous != null) {
+                currentBytes -= previous.capacity();
+            }
+            currentBytes += loaded.capacity();
+            evictIfNeeded();
+        }
+        return loaded.asReadOnlyBuffer();
+    }
+
+    /**
+     * Drop a file from the cache, called whenever the file is deleted from storage
+     */
+    public synchronized void invalidate(String fileName) {
+        invalidationCount++;
+        candidates.remove(fileName);
+        ByteBuffer removed = entries.remove(fileName);
+        if (removed != null) {
+            currentBytes -= removed.capacity();
+        }
+    }
+
+    public synchronized void clear() {
+        invalidationCount++;
+        candidates.clear();
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxTotalBytes;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, ByteBuffer>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maxTotalBytes && iterator.hasNext()) {
+            Map.Entry<String, ByteBuffer> eldest = iterator.next();
+            currentBytes -= eldest.getValue().capacity();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Read a file straight into a direct buffer without an intermediate heap copy
+     */
+    private ByteBuffer readDirect(Path filePath) {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0 || size > maxEntryBytes || !Files.isRegularFile(filePath)) {
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    return null;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
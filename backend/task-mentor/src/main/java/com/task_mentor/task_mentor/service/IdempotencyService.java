@@ -0,0 +1,316 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.entity.IdempotencyRecord;
+import com.task_mentor.task_mentor.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * IdempotencyService - Store behind the Idempotency-Key header (see IdempotencyConfig)
+ *
+ * The first request with a key claims it and executes; its response is stored and every
+ * later request with the same key gets that response back without executing again.
+ * Duplicates that arrive while the first is still running wait for its response: on
+ * the same node through an in-memory future, on other nodes by polling the
+ * idempotency_keys row. Completed responses are also kept in memory until they expire,
+ * so retries on the node that served the original are answered without a query.
+ *
+ * Not transactional itself: every step is its own short repository transaction, so
+ * losing the race to insert a claim does not roll back anything else. A claim is
+ * identified by its created_at: a holder that stalled past stale-after-ms and was taken
+ * over can no longer complete or release the key.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    public enum Outcome {
+        // The caller holds the key and must execute, then complete or abandon it
+        ACQUIRED,
+        // The key's stored response is in the claim
+        REPLAY,
+        // The key was used for a different request
+        MISMATCH,
+        // Another request with the key did not finish in time
+        IN_PROGRESS
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+
+    public record Claim(Outcome outcome, StoredResponse response) {
+    }
+
+    private record CachedResponse(StoredResponse response, long expiresAtMillis) {
+    }
+
+    // claimedAt is set once this node holds the key in the database
+    private record Flight(String requestHash, CompletableFuture<StoredResponse> result, LocalDateTime claimedAt) {
+
+        Flight claimed(LocalDateTime at) {
+            return new Flight(requestHash, result, at);
+        }
+    }
+
+    private record DatabaseClaim(Claim claim, LocalDateTime claimedAt) {
+    }
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private final Duration ttl;
+    private final Duration staleAfter;
+    private final long waitMillis;
+    private final long pollMillis;
+    private final int maxCachedEntries;
+    private final int maxStoredBytes;
+
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    public IdempotencyService(
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            MeterRegistry registry,
+            @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+            @Value("${app.idempotency.stale-after-ms:60000}") long staleAfterMillis,
+            @Value("${app.idempotency.wait-ms:5000}") long waitMillis,
+            @Value("${app.idempotency.poll-ms:100}") long pollMillis,
+            @Value("${app.idempotency.max-cached-entries:10000}") int maxCachedEntries,
+            @Value("${app.idempotency.max-stored-bytes:65535}") int maxStoredBytes) {
+
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.ttl = Duration.ofHours(Math.max(1, ttlHours));
+        this.staleAfter = Duration.ofMillis(Math.max(1000, staleAfterMillis));
+        this.waitMillis = Math.max(0, waitMillis);
+        this.pollMillis = Math.max(10, pollMillis);
+        this.maxCachedEntries = Math.max(0, maxCachedEntries);
+        this.maxStoredBytes = Math.max(0, maxStoredBytes);
+
+        this.executed = outcomeCounter(registry, "executed");
+        this.replayed = outcomeCounter(registry, "replayed");
+        this.rejected = outcomeCounter(registry, "rejected");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("http.idempotency.requests")
+                .description("Requests sent with an Idempotency-Key, by what happened to them")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Claims the key for this request, or returns what an earlier request with it produced
+     *
+     * @param key         the key scoped to caller and endpoint
+     * @param requestHash hash of the request body, to tell a retry from a reused key
+     */
+    public Claim begin(String key, String requestHash) {
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return count(replay(cached.response(), requestHash));
+        }
+
+        Flight mine = new Flight(requestHash, new CompletableFuture<>(), null);
+        Flight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // A duplicate is executing on this node: wait for its response instead of running again
+            if (!running.requestHash().equals(requestHash)) {
+                return count(new Claim(Outcome.MISMATCH, null));
+            }
+            StoredResponse response = await(running.result());
+            return count(response != null ? replay(response, requestHash) : new Claim(Outcome.IN_PROGRESS, null));
+        }
+
+        try {
+            DatabaseClaim claim = claimInDatabase(key, requestHash);
+            if (claim.claim().outcome() == Outcome.ACQUIRED) {
+                inFlight.replace(key, mine, mine.claimed(claim.claimedAt()));
+            } else {
+                finish(key, mine, claim.claim().response());
+            }
+            return count(claim.claim());
+        } catch (RuntimeException e) {
+            finish(key, mine, null);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the response of an ACQUIRED key and hands it to the waiting duplicates
+     *
+     * The request has executed by now, so the key is completed whatever the response: one
+     * larger than max-stored-bytes is stored as its status alone, and replays get an empty body.
+     */
+    public void complete(String key, int status, String contentType, byte[] body) {
+        Flight flight = inFlight.get(key);
+        if (flight == null || flight.claimedAt() == null) {
+            return;
+        }
+        StoredResponse response = body.length > maxStoredBytes
+                ? statusOnly(flight.requestHash(), status, body.length)
+                : new StoredResponse(flight.requestHash(), status, contentType, body);
+        try {
+            int stored = idempotencyRecordRepository.complete(key, flight.requestHash(), flight.claimedAt(), status,
+                    response.contentType(), response.body());
+            if (stored == 1) {
+                cache(key, response);
+            } else {
+                logger.warn("Idempotency-Key claim was taken over before its response was stored; keeping the "
+                        + "new holder's record");
+            }
+        } finally {
+            finish(key, flight, response);
+        }
+    }
+
+    /**
+     * Releases an ACQUIRED key without a response (the request failed), so a retry executes again
+     */
+    public void abandon(String key) {
+        Flight flight = inFlight.get(key);
+        if (flight == null || flight.claimedAt() == null) {
+            return;
+        }
+        try {
+            idempotencyRecordRepository.deleteInProgress(key, flight.claimedAt());
+        } finally {
+            finish(key, flight, null);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.idempotency.purge-interval-ms:600000}",
+            fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+        try {
+            int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                logger.debug("Purged {} expired idempotency key(s)", deleted);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Purging expired idempotency keys failed: {}", ex.getMessage());
+        }
+    }
+
+    private DatabaseClaim claimInDatabase(String key, String requestHash) {
+        LocalDateTime now = claimTime();
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (tryInsert(key, requestHash, now, expiresAt)
+                || idempotencyRecordRepository.takeOver(key, requestHash, now, expiresAt, now.minus(staleAfter)) == 1) {
+            return new DatabaseClaim(new Claim(Outcome.ACQUIRED, null), now);
+        }
+
+        // Another node holds or has completed the key
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        while (true) {
+            Optional<IdempotencyRecord> record = idempotencyRecordRepository.findById(key);
+            if (record.isEmpty()) {
+                // Abandoned in the meantime
+                LocalDateTime claimedAt = claimTime();
+                if (tryInsert(key, requestHash, claimedAt, claimedAt.plus(ttl))) {
+                    return new DatabaseClaim(new Claim(Outcome.ACQUIRED, null), claimedAt);
+                }
+            } else if (record.get().isCompleted()) {
+                IdempotencyRecord completed = record.get();
+                StoredResponse response = new StoredResponse(completed.getRequestHash(), completed.getResponseStatus(),
+                        completed.getContentType(), completed.getResponseBody() != null
+                        ? completed.getResponseBody() : new byte[0]);
+                cache(key, response);
+                return new DatabaseClaim(replay(response, requestHash), null);
+            } else if (!record.get().getRequestHash().equals(requestHash)) {
+                return new DatabaseClaim(new Claim(Outcome.MISMATCH, null), null);
+            }
+            if (System.nanoTime() >= deadline) {
+                return new DatabaseClaim(new Claim(Outcome.IN_PROGRESS, null), null);
+            }
+            sleep(pollMillis);
+        }
+    }
+
+    // The claim time is compared for equality later, so keep it to a precision every database stores
+    private static LocalDateTime claimTime() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static StoredResponse statusOnly(String requestHash, int status, int length) {
+        logger.warn("Response of {} bytes is too large to store for an Idempotency-Key; storing its status only",
+                length);
+        return new StoredResponse(requestHash, status, null, new byte[0]);
+    }
+
+    private boolean tryInsert(String key, String requestHash, LocalDateTime now, LocalDateTime expiresAt) {
+        try {
+            idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(key, requestHash, now, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> result) {
+        try {
+            return result.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private void finish(String key, Flight flight, StoredResponse response) {
+        inFlight.remove(key, flight);
+        flight.result().complete(response);
+    }
+
+    private void cache(String key, StoredResponse response) {
+        if (cache.size() < maxCachedEntries) {
+            cache.put(key, new CachedResponse(response, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    private static Claim replay(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash)
+                ? new Claim(Outcome.REPLAY, response)
+                : new Claim(Outcome.MISMATCH, null);
+    }
+
+    private Claim count(Claim claim) {
+        switch (claim.outcome()) {
+            case ACQUIRED -> executed.increment();
+            case REPLAY -> replayed.increment();
+            default -> rejected.increment();
+        }
+        return claim;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.MentorCounters;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import com.task_mentor.task_mentor.repository.MentorCountersRepository;
+import com.task_mentor.task_mentor.repository.MentorRepository;
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MentorCountersService - Maintains the mentor_counters read model (pending requests,
+ * accepted upcoming sessions, tasks) for the dashboard badges
+ *
+ * BookingService and TaskService report every state change here inside their own
+ * transaction, so a counter moves exactly when the change commits. Two things cannot
+ * be tracked that way: accepted sessions stop being upcoming as time passes, and rows
+ * written outside the services (bulk loads, manual fixes) are never reported. The
+ * scheduled reconcile recounts both from the source tables.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MentorCountersService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentorCountersService.class);
+
+    @Autowired
+    private MentorCountersRepository mentorCountersRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.mentor-counters.reconcile-enabled:true}")
+    private boolean reconcileEnabled;
+
+    /**
+     * Counters for the mentor signed in with this email: a primary key lookup,
+     * or a one-off recount when the mentor has no row yet
+     */
+    public MentorCounters getCountersForEmail(String email) {
+        return mentorCountersRepository.findByMentorEmail(email).orElseGet(() -> {
+            Mentor mentor = mentorRepository.findByUserEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("Mentor profile not found for " + email));
+            return count(mentor.getMentorId(), LocalDateTime.now());
+        });
+    }
+
+    @Transactional
+    public void mentorCreated(Long mentorId) {
+        mentorCountersRepository.save(new MentorCounters(mentorId, 0, 0, 0));
+    }
+
+    @Transactional
+    public void mentorDeleted(Long mentorId) {
+        mentorCountersRepository.deleteById(mentorId);
+    }
+
+    @Transactional
+    public void bookingCreated(Long mentorId) {
+        adjust(mentorId, 1, 0, 0);
+    }
+
+    @Transactional
+    public void bookingAccepted(Long mentorId, LocalDateTime proposedDatetime) {
+        adjust(mentorId, -1, isUpcoming(proposedDatetime) ? 1 : 0, 0);
+    }
+
+    /**
+     * A batch review closed several pending bookings at once: one row update for all of them
+     */
+    @Transactional
+    public void bookingsReviewed(Long mentorId, List<LocalDateTime> acceptedDatetimes, int declined) {
+        long upcoming = acceptedDatetimes.stream().filter(MentorCountersService::isUpcoming).count();
+        adjust(mentorId, -(acceptedDatetimes.size() + declined), upcoming, 0);
+    }
+
+    /**
+     * A pending booking was declined, cancelled or deleted
+     */
+    @Transactional
+    public void pendingBookingClosed(Long mentorId) {
+        adjust(mentorId, -1, 0, 0);
+    }
+
+    @Transactional
+    public void pendingBookingsExpired(Long mentorId, int count) {
+        adjust(mentorId, -count, 0, 0);
+    }
+
+    @Transactional
+    public void acceptedBookingCancelled(Long mentorId, LocalDateTime proposedDatetime) {
+        if (isUpcoming(proposedDatetime)) {
+            adjust(mentorId, 0, -1, 0);
+        }
+    }
+
+    @Transactional
+    public void taskCreated(Long mentorId) {
+        adjust(mentorId, 0, 0, 1);
+    }
+
+    @Transactional
+    public void taskDeleted(Long mentorId) {
+        adjust(mentorId, 0, 0, -1);
+    }
+
+    /**
+     * Adds rows for new mentors, drops rows of deleted ones and recounts rows that drifted
+     */
+    @Scheduled(initialDelayString = "${app.mentor-counters.reconcile-initial-delay-ms:60000}",
+            fixedDelayString = "${app.mentor-counters.reconcile-interval-ms:300000}")
+    @Transactional
+    public void scheduledReconcile() {
+        if (reconcileEnabled) {
+            reconcile();
+        }
+    }
+
+    @Transactional
+    public int reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = mentorCountersRepository.insertMissing(now);
+        int deleted = mentorCountersRepository.deleteOrphaned();
+        int corrected = mentorCountersRepository.recount(now);
+        if (inserted + deleted > 0) {
+            logger.info("Mentor counters reconciled: {} added, {} removed, {} recounted", inserted, deleted, corrected);
+        } else {
+            logger.debug("Mentor counters reconciled: {} recounted", corrected);
+        }
+        return corrected;
+    }
+
+    private void adjust(Long mentorId, long pending, long acceptedUpcoming, long tasks) {
+        LocalDateTime now = LocalDateTime.now();
+        if (mentorCountersRepository.adjust(mentorId, pending, acceptedUpcoming, tasks, now) == 0) {
+            // No row yet (mentor loaded in bulk since the last reconcile): add one counted
+            // from committed rows, which leaves out this change, then apply it in place
+            insertCounted(mentorId, now);
+            mentorCountersRepository.adjust(mentorId, pending, acceptedUpcoming, tasks, now);
+        }
+    }
+
+    /**
+     * Runs in its own transaction: when a concurrent transition adds the row first, the
+     * duplicate key fails only this insert, not the booking or task change being reported
+     */
+    private void insertCounted(Long mentorId, LocalDateTime now) {
+        TransactionTemplate insert = new TransactionTemplate(transactionManager);
+        insert.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            insert.executeWithoutResult(status -> mentorCountersRepository.insertCounted(mentorId, now));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Mentor counters row for {} was added by another transaction", mentorId);
+        }
+    }
+
+    private MentorCounters count(Long mentorId, LocalDateTime now) {
+        return new MentorCounters(mentorId,
+                bookingRepository.countByMentorIdAndStatus(mentorId, BookingService.STATUS_PENDING),
+                bookingRepository.countUpcomingByMentorIdAndStatus(mentorId, BookingService.STATUS_ACCEPTED, now),
+                taskRepository.countByMentorId(mentorId));
+    }
+
+    private static boolean isUpcoming(LocalDateTime proposedDatetime) {
+        return proposedDatetime != null && proposedDatetime.isAfter(LocalDateTime.now());
+    }
+}
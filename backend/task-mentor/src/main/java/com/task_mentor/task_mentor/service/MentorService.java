@@ -2,18 +2,24 @@ package com.task_mentor.task_mentor.service;
 
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.BookingArchiveRepository;
+import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.MentorRepository;
 import com.task_mentor.task_mentor.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import com.task_mentor.task_mentor.dto.BookingSummary;
 import com.task_mentor.task_mentor.dto.MentorSearchDTO;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class MentorService {
 
     @Autowired
@@ -22,8 +28,21 @@ public class MentorService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
     private static final String DEFAULT_MENTOR_IMAGE = "https://api.dicebear.com/7.x/avataaars/svg?seed=default";
 
+    @Transactional
     public Mentor createMentor(Long userId, String name, String bio, String roleTitle, String company,
                                Integer yearsExperience, String industries, String expertiseAreas, String
                                        profilePhotoUrl) {
@@ -81,9 +100,13 @@ public class MentorService {
             mentor.setProfilePhotoUrl(DEFAULT_MENTOR_IMAGE);
         }
 
-        return mentorRepository.save(mentor);
+        Mentor saved = mentorRepository.save(mentor);
+        mentorCountersService.mentorCreated(saved.getMentorId());
+        searchResultCache.invalidate(SearchResultCache.Source.MENTORS);
+        return saved;
     }
 
+    @Transactional
     public Mentor updateMentorProfile(Long userId, String name, String bio, String roleTitle, String company,
                                       Integer yearsExperience, String industries, String expertiseAreas, String
                                               profilePhotoUrl) {
@@ -149,6 +172,7 @@ public class MentorService {
             }
         }
 
+        searchResultCache.invalidate(SearchResultCache.Source.MENTORS);
         return mentorRepository.save(mentor);
     }
 
@@ -166,11 +190,16 @@ public class MentorService {
                 .orElseThrow(() -> new IllegalArgumentException("Mentor profile not found for user ID: " + userId));
     }
 
+    @Transactional
     public void deleteMentorProfile(Long mentorId) {
         if(!mentorRepository.existsById(mentorId)){
             throw new IllegalArgumentException("Mentor with that id not found");
         }
         mentorRepository.deleteById(mentorId);
+        mentorCountersService.mentorDeleted(mentorId);
+        // Their tasks go with them
+        searchResultCache.invalidate(SearchResultCache.Source.MENTORS);
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
     }
 
     public boolean doesMentorExist(Long userId){
@@ -211,12 +240,20 @@ public class MentorService {
         stats.setIndustries(mentor.getIndustries());
         stats.setExpertiseAreas(mentor.getExpertiseAreas());
         stats.setProfilePhotoUrl(mentor.getProfilePhotoUrl());
+        stats.setBookings(bookingRepository.summarizeByMentor(mentorId, LocalDateTime.now())
+                .orElseGet(() -> BookingSummary.empty(mentorId))
+                .withArchived(bookingArchiveRepository.summarizeByMentor(mentorId).orElse(null)));
 
         return stats;
     }
 
     public List<MentorSearchDTO> getAllMentorStatistics() {
         List<Mentor> mentors = getAllMentors();
+        // One GROUP BY over all bookings rather than a summary query per mentor
+        Map<Long, BookingSummary> summaries = bookingRepository.summarizeAllMentors(LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(BookingSummary::getProfileId, Function.identity()));
+        bookingArchiveRepository.summarizeAllMentors().forEach(archived ->
+                summaries.merge(archived.getProfileId(), archived, BookingSummary::withArchived));
 
         return mentors.stream()
                 .map(mentor -> {
@@ -230,6 +267,8 @@ public class MentorService {
                     stats.setIndustries(mentor.getIndustries());
                     stats.setExpertiseAreas(mentor.getExpertiseAreas());
                     stats.setProfilePhotoUrl(mentor.getProfilePhotoUrl());
+                    stats.setBookings(summaries.getOrDefault(mentor.getMentorId(),
+                            BookingSummary.empty(mentor.getMentorId())));
                     return stats;
                 })
                 .toList();
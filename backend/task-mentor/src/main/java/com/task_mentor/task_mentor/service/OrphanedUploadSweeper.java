@@ -0,0 +1,233 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * OrphanedUploadSweeper - Removes uploaded images that no task references anymore
+ *
+ * Files can be left behind when a transaction rolls back after storeFile or when
+ * a mentor is deleted and the task cascade skips the image cleanup. The sweeper
+ * streams the upload directory, checks names against the tasks table in batches
+ * and deletes unreferenced files older than the grace period. Hidden '.part' files
+ * that FileStorageService could not remove after a failed upload are deleted once
+ * they are older than the grace period too.
+ *
+ * Each run only examines a bounded slice of the directory and pauses between
+ * batches so it does not compete with live uploads and downloads.
+ */
+@Service
+public class OrphanedUploadSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanedUploadSweeper.class);
+
+    private final FileStorageService fileStorageService;
+    private final TaskRepository taskRepository;
+
+    private final boolean enabled;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int maxFilesPerRun;
+    private final int maxDeletesPerRun;
+    private final long batchPauseMillis;
+
+    // Number of directory entries already examined, so the next run resumes after them
+    private long resumeOffset;
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    private final AtomicLong filesScanned = new AtomicLong();
+    private final AtomicLong filesDeleted = new AtomicLong();
+
+    public OrphanedUploadSweeper(
+            FileStorageService fileStorageService,
+            TaskRepository taskRepository,
+            @Value("${file.orphan-sweep.enabled:false}") boolean enabled,
+            @Value("${file.orphan-sweep.grace-period-minutes:1440}") long gracePeriodMinutes,
+            @Value("${file.orphan-sweep.batch-size:200}") int batchSize,
+            @Value("${file.orphan-sweep.max-files-per-run:5000}") int maxFilesPerRun,
+            @Value("${file.orphan-sweep.max-deletes-per-run:500}") int maxDeletesPerRun,
+            @Value("${file.orphan-sweep.batch-pause-ms:100}") long batchPauseMillis) {
+
+        this.fileStorageService = fileStorageService;
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+        this.gracePeriod = Duration.ofMinutes(gracePeriodMinutes);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxFilesPerRun = Math.max(1, maxFilesPerRun);
+        this.maxDeletesPerRun = Math.max(0, maxDeletesPerRun);
+        this.batchPauseMillis = Math.max(0, batchPauseMillis);
+    }
+
+    @Scheduled(initialDelayString = "${file.orphan-sweep.initial-delay-ms:300000}",
+            fixedDelayString = "${file.orphan-sweep.interval-ms:3600000}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int deleted = sweep();
+            if (deleted > 0) {
+                log.info("Orphaned upload sweep deleted {} file(s)", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Orphaned upload sweep failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Examine the next slice of the upload directory and delete orphaned files
+     * Returns the number of files deleted
+     */
+    public int sweep() {
+        // A lock rather than synchronized, so a virtual thread running the sweep is not pinned during I/O
+        sweepLock.lock();
+        try {
+            return sweepNextSlice();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private int sweepNextSlice() {
+        Path uploadDir = fileStorageService.getStorageLocation();
+        Instant cutoff = Instant.now().minus(gracePeriod);
+
+        long position = 0;
+        int examined = 0;
+        int deleted = 0;
+        boolean reachedEnd = true;
+        List<String> batch = new ArrayList<>(batchSize);
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(uploadDir)) {
+            for (Path entry : stream) {
+                if (position++ < resumeOffset) {
+                    continue;
+                }
+                if (examined >= maxFilesPerRun || deleted >= maxDeletesPerRun) {
+                    reachedEnd = false;
+                    break;
+                }
+                examined++;
+
+                if (isStalePartialFile(entry, cutoff)) {
+                    if (deletePartialFile(entry)) {
+                        deleted++;
+                    }
+                } else if (isSweepCandidate(entry, cutoff)) {
+                    batch.add(entry.getFileName().toString());
+                }
+                if (batch.size() >= batchSize) {
+                    deleted += deleteOrphans(batch, maxDeletesPerRun - deleted);
+                    batch.clear();
+                    pause();
+                }
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not scan upload directory " + uploadDir, ex);
+        }
+
+        if (!batch.isEmpty()) {
+            deleted += deleteOrphans(batch, maxDeletesPerRun - deleted);
+        }
+
+        // Deleted files shift later entries forward, so resume at the examined count minus deletions
+        resumeOffset = reachedEnd ? 0 : Math.max(0, resumeOffset + examined - deleted);
+        filesScanned.addAndGet(examined);
+        filesDeleted.addAndGet(deleted);
+        return deleted;
+    }
+
+    public long getFilesScanned() {
+        return filesScanned.get();
+    }
+
+    public long getFilesDeleted() {
+        return filesDeleted.get();
+    }
+
+    private boolean isSweepCandidate(Path entry, Instant cutoff) {
+        String name = entry.getFileName().toString();
+        if (name.startsWith(".")) {
+            return false;
+        }
+        return isOlderThan(entry, cutoff);
+    }
+
+    // Upload in progress or abandoned: '.<uuid>.<ext>.part', never referenced by a task
+    private boolean isStalePartialFile(Path entry, Instant cutoff) {
+        String name = entry.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(FileStorageService.PARTIAL_SUFFIX) && isOlderThan(entry, cutoff);
+    }
+
+    private boolean isOlderThan(Path entry, Instant cutoff) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            return attributes.isRegularFile()
+                    && attributes.lastModifiedTime().toInstant().isBefore(cutoff);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private boolean deletePartialFile(Path entry) {
+        try {
+            return Files.deleteIfExists(entry);
+        } catch (IOException ex) {
+            log.warn("Could not delete partial upload {}: {}", entry.getFileName(), ex.getMessage());
+            return false;
+        }
+    }
+
+    private int deleteOrphans(List<String> fileNames, int remainingDeletes) {
+        if (remainingDeletes <= 0) {
+            return 0;
+        }
+
+        Set<String> referenced = new HashSet<>(taskRepository.findImageFileNamesIn(fileNames));
+
+        int deleted = 0;
+        for (String fileName : fileNames) {
+            if (deleted >= remainingDeletes) {
+                break;
+            }
+            if (!referenced.contains(fileName)) {
+                try {
+                    fileStorageService.deleteFile(fileName);
+                    deleted++;
+                } catch (RuntimeException ex) {
+                    log.warn("Could not delete orphaned upload {}: {}", fileName, ex.getMessage());
+                }
+            }
+        }
+        return deleted;
+    }
+
+    private void pause() {
+        if (batchPauseMillis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.dto.MentorSearchDTO;
+import com.task_mentor.task_mentor.dto.TaskSearchDTO;
+import com.task_mentor.task_mentor.entity.Student;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ReactiveSearchService - Non-blocking version of SearchService on R2DBC
+ *
+ * Filters are pushed into SQL instead of loading every row and filtering in memory,
+ * and results are emitted as rows arrive so callers can stream them with backpressure.
+ * Matching rules are the same as SearchService: text filters are case-insensitive
+ * "contains" matches and minYearsExperience is exclusive.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.reactive.enabled", havingValue = "true")
+public class ReactiveSearchService {
+
+    private static final String MENTOR_COLUMNS =
+            "m.mentor_id, m.name, m.bio, m.role_title, m.company, m.years_experience, m.industries, " +
+            "m.expertise_areas, m.profile_photo_url, " +
+            "(SELECT COUNT(*) FROM tasks c WHERE c.mentor_id = m.mentor_id) AS task_count";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveSearchService(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<MentorSearchDTO> searchMentors(String name, String company, String industry, String expertise,
+                                               Integer minYearsExperience) {
+        Query query = new Query("SELECT " + MENTOR_COLUMNS + " FROM mentors m");
+        query.contains("m.name", name);
+        query.contains("m.company", company);
+        query.contains("m.industries", industry);
+        query.contains("m.expertise_areas", expertise);
+        if (minYearsExperience != null) {
+            query.where("m.years_experience > :minYearsExperience", "minYearsExperience", minYearsExperience);
+        }
+        return query.orderBy("m.mentor_id").fetch(this::toMentorDTO);
+    }
+
+    public Flux<TaskSearchDTO> searchTasks(String title, String category, Long mentorId,
+                                           Integer minDuration, Integer maxDuration) {
+        Query query = new Query("SELECT t.task_id, t.mentor_id, m.name AS mentor_name, t.title, t.description, " +
+                "t.duration_minutes, t.category FROM tasks t LEFT JOIN mentors m ON m.mentor_id = t.mentor_id");
+        if (mentorId != null) {
+            query.where("t.mentor_id = :mentorId", "mentorId", mentorId);
+        }
+        query.contains("t.title", title);
+        query.contains("t.category", category);
+        if (minDuration != null) {
+            query.where("t.duration_minutes >= :minDuration", "minDuration", minDuration);
+        }
+        if (maxDuration != null) {
+            query.where("t.duration_minutes <= :maxDuration", "maxDuration", maxDuration);
+        }
+        return query.orderBy("t.task_id").fetch(this::toTaskDTO);
+    }
+
+    public Flux<Student> searchStudents(String name, String major, Integer graduationYear,
+                                        Integer minGraduationYear, String careerInterests) {
+        Query query = new Query("SELECT s.student_id, s.name, s.bio, s.major, s.graduation_year, " +
+                "s.career_interests, s.profile_photo_url, s.created_at FROM students s");
+        query.contains("s.name", name);
+        query.contains("s.major", major);
+        query.contains("s.career_interests", careerInterests);
+        if (graduationYear != null) {
+            query.where("s.graduation_year = :graduationYear", "graduationYear", graduationYear);
+        }
+        if (minGraduationYear != null) {
+            query.where("s.graduation_year >= :minGraduationYear", "minGraduationYear", minGraduationYear);
+        }
+        return query.orderBy("s.student_id").fetch(this::toStudent);
+    }
+
+    /**
+     * Mentors matching name/expertise that offer at least one task in the category
+     * (exact, case-insensitive) and within the maximum duration
+     */
+    public Flux<MentorSearchDTO> searchMentorsWithTasks(String mentorName, String expertise, String taskCategory,
+                                                        Integer maxDuration) {
+        Query query = new Query("SELECT " + MENTOR_COLUMNS + " FROM mentors m");
+        query.contains("m.name", mentorName);
+        query.contains("m.expertise_areas", expertise);
+
+        if (taskCategory != null || maxDuration != null) {
+            StringBuilder exists = new StringBuilder("EXISTS (SELECT 1 FROM tasks t WHERE t.mentor_id = m.mentor_id");
+            if (taskCategory != null) {
+                exists.append(" AND LOWER(t.category) = :taskCategory");
+                query.bind("taskCategory", taskCategory.toLowerCase());
+            }
+            if (maxDuration != null) {
+                exists.append(" AND t.duration_minutes <= :maxDuration");
+                query.bind("maxDuration", maxDuration);
+            }
+            query.where(exists.append(")").toString());
+        }
+        return query.orderBy("m.mentor_id").fetch(this::toMentorDTO);
+    }
+
+    public Flux<String> getAllCategories() {
+        return distinctValues("tasks", "category");
+    }
+
+    public Flux<String> getAllCompanies() {
+        return distinctValues("mentors", "company");
+    }
+
+    public Flux<String> getAllMajors() {
+        return distinctValues("students", "major");
+    }
+
+    private Flux<String> distinctValues(String table, String column) {
+        return databaseClient.sql("SELECT DISTINCT " + column + " FROM " + table +
+                        " WHERE " + column + " IS NOT NULL AND TRIM(" + column + ") <> '' ORDER BY " + column)
+                .map(row -> row.get(0, String.class))
+                .all();
+    }
+
+    private MentorSearchDTO toMentorDTO(Readable row) {
+        Number taskCount = row.get("task_count", Number.class);
+        return new MentorSearchDTO(
+                row.get("mentor_id", Long.class),
+                row.get("name", String.class),
+                row.get("bio", String.class),
+                row.get("role_title", String.class),
+                row.get("company", String.class),
+                row.get("years_experience", Integer.class),
+                row.get("industries", String.class),
+                row.get("expertise_areas", String.class),
+                row.get("profile_photo_url", String.class),
+                taskCount == null ? 0 : taskCount.intValue());
+    }
+
+    private TaskSearchDTO toTaskDTO(Readable row) {
+        return new TaskSearchDTO(
+                row.get("task_id", Long.class),
+                row.get("mentor_id", Long.class),
+                row.get("mentor_name", String.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("duration_minutes", Integer.class),
+                row.get("category", String.class));
+    }
+
+    private Student toStudent(Readable row) {
+        Student student = new Student();
+        student.setStudentId(row.get("student_id", Long.class));
+        student.setName(row.get("name", String.class));
+        student.setBio(row.get("bio", String.class));
+        student.setMajor(row.get("major", String.class));
+        student.setGraduationYear(row.get("graduation_year", Integer.class));
+        student.setCareerInterests(row.get("career_interests", String.class));
+        student.setProfilePhotoUrl(row.get("profile_photo_url", String.class));
+        student.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        return student;
+    }
+
+    /**
+     * Small builder for a SELECT with optional AND-ed conditions and named binds
+     */
+    private class Query {
+
+        private final String select;
+        private final List<String> conditions = new ArrayList<>();
+        private final Map<String, Object> binds = new LinkedHashMap<>();
+        private String orderBy = "";
+
+        Query(String select) {
+            this.select = select;
+        }
+
+        void where(String condition) {
+            conditions.add(condition);
+        }
+
+        void where(String condition, String name, Object value) {
+            conditions.add(condition);
+            binds.put(name, value);
+        }
+
+        void bind(String name, Object value) {
+            binds.put(name, value);
+        }
+
+        /**
+         * Case-insensitive substring match, skipped when the filter is blank
+         * LIKE wildcards in the input are escaped so they match literally
+         */
+        void contains(String column, String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return;
+            }
+            String name = "p" + binds.size();
+            String escaped = value.toLowerCase()
+                    .replace("\\", "\\\\")
+                    .replace("%", "\\%")
+                    .replace("_", "\\_");
+            where("LOWER(" + column + ") LIKE :" + name + " ESCAPE '\\'", name, "%" + escaped + "%");
+        }
+
+        Query orderBy(String column) {
+            this.orderBy = " ORDER BY " + column;
+            return this;
+        }
+
+        <T> Flux<T> fetch(Function<Readable, T> mapper) {
+            StringBuilder sql = new StringBuilder(select);
+            if (!conditions.isEmpty()) {
+                sql.append(" WHERE ").append(String.join(" AND ", conditions));
+            }
+            sql.append(orderBy);
+
+            DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+            for (Map.Entry<String, Object> bind : binds.entrySet()) {
+                spec = spec.bind(bind.getKey(), bind.getValue());
+            }
+            return spec.map(mapper).all();
+        }
+    }
+}
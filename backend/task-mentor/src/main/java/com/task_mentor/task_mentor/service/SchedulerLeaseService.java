@@ -0,0 +1,61 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.entity.SchedulerLease;
+import com.task_mentor.task_mentor.repository.SchedulerLeaseRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * SchedulerLeaseService - Time-limited leases that give one node ownership of an
+ * in-memory scheduler
+ *
+ * Unlike the advisory locks in AdvisoryLockService, which last one transaction, a lease
+ * is held across many transactions for as long as its owner keeps renewing it. An owner
+ * that dies simply stops renewing, and another node takes over once the lease expires.
+ *
+ * Not transactional itself: every step runs in its own short repository transaction, so
+ * losing the race to create the lease row does not roll back anything else.
+ */
+@Service
+public class SchedulerLeaseService {
+
+    // Lease names; keep them distinct per scheduler
+    public static final String SESSION_REMINDERS = "session-reminders";
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    /**
+     * Acquires or renews the lease for ttl from now
+     *
+     * @return false when another owner holds an unexpired lease
+     */
+    public boolean tryAcquire(String name, String owner, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(ttl);
+        if (schedulerLeaseRepository.claim(name, owner, until, now) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the lease first
+            return false;
+        }
+    }
+
+    /**
+     * Lets another node take over right away instead of waiting for the lease to expire
+     */
+    public void release(String name, String owner) {
+        schedulerLeaseRepository.release(name, owner, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,141 @@
+package com.task_mentor.task_mentor.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SearchCoalescer - Single-flight execution of identical concurrent searches
+ *
+ * The first request for a filter tuple runs the search; identical requests that arrive
+ * while it is running wait for it and share its result instead of running it again.
+ * Nothing is kept once the search finishes, so results are never stale. A request that
+ * waits longer than its endpoint's timeout (app.search.coalescing.timeouts.<endpoint>,
+ * else app.search.coalescing.timeout-ms) stops waiting and runs the search itself.
+ *
+ * Shared results are handed to several requests at once and must not be modified.
+ */
+@Service
+public class SearchCoalescer {
+
+    /**
+     * Endpoint plus its filters, with strings lowercased since SearchService matches them
+     * ignoring case. Blank strings are kept: not every search treats them as no filter
+     * (searchMentorsWithTasks filters on an empty taskCategory), so they are not shared
+     * with requests that left the filter out.
+     */
+    public record SearchKey(String endpoint, List<Object> filters) {
+
+        public static SearchKey of(String endpoint, Object... filters) {
+            List<Object> normalized = new ArrayList<>(filters.length);
+            for (Object filter : filters) {
+                if (filter instanceof String value) {
+                    normalized.add(value.toLowerCase(Locale.ROOT));
+                } else {
+                    normalized.add(filter);
+                }
+            }
+            return new SearchKey(endpoint, Collections.unmodifiableList(normalized));
+        }
+    }
+
+    private final MeterRegistry registry;
+    private final Environment environment;
+    private final boolean enabled;
+    private final long defaultTimeoutMillis;
+
+    private final Map<SearchKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Long> timeouts = new ConcurrentHashMap<>();
+
+    public SearchCoalescer(
+            MeterRegistry registry,
+            Environment environment,
+            @Value("${app.search.coalescing.enabled:true}") boolean enabled,
+            @Value("${app.search.coalescing.timeout-ms:2000}") long defaultTimeoutMillis) {
+
+        this.registry = registry;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.defaultTimeoutMillis = Math.max(0, defaultTimeoutMillis);
+
+        Gauge.builder("search.coalescing.in_flight", inFlight, Map::size)
+                .description("Distinct searches currently running with requests waiting on them")
+                .register(registry);
+    }
+
+    /**
+     * Runs the search, or waits for the identical one already running and returns its result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(SearchKey key, Supplier<T> search) {
+        if (!enabled) {
+            return search.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running == null) {
+            count(key, "executed");
+            try {
+                T result = search.get();
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        try {
+            Object result = running.get(timeoutFor(key.endpoint()), TimeUnit.MILLISECONDS);
+            count(key, "coalesced");
+            return (T) result;
+        } catch (TimeoutException e) {
+            count(key, "timed_out");
+            return search.get();
+        } catch (ExecutionException e) {
+            count(key, "coalesced");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Search failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an identical search", e);
+        }
+    }
+
+    private long timeoutFor(String endpoint) {
+        return timeouts.computeIfAbsent(endpoint, name -> Math.max(0, environment.getProperty(
+                "app.search.coalescing.timeouts." + name, Long.class, defaultTimeoutMillis)));
+    }
+
+    private void count(SearchKey key, String outcome) {
+        Counter.builder("search.coalescing.requests")
+                .description("Search requests by whether they ran the search or shared a running one")
+                .tag("endpoint", key.endpoint())
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,235 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.service.SearchCoalescer.SearchKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * SearchResultCache - Bounded cache of /api/search results (DTOs, never entities)
+ *
+ * Each source table has a version counter that MentorService, TaskService and
+ * StudentService bump after a write commits. An entry remembers the versions it was
+ * loaded at and is stale once one of the sources it was built from has moved on, or
+ * once it is older than app.search.cache.ttl-ms. The TTL also covers writes this node
+ * does not see: those made on other nodes or straight to the database.
+ *
+ * A stale entry is still served for up to app.search.cache.stale-while-revalidate-ms
+ * past the TTL while one background refresh per key reloads it, so a burst after a
+ * write costs one query rather than one per request. Loads go through SearchCoalescer
+ * for the same reason, with the versions taken by whichever request ran the search: a
+ * request that joins a search started before a write must not store it as current.
+ */
+@Service
+public class SearchResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchResultCache.class);
+
+    public enum Source {
+        MENTORS,
+        TASKS,
+        STUDENTS
+    }
+
+    private record Entry(Object value, long[] versions, long storedAtNanos) {
+    }
+
+    // What a coalesced load hands to every request that shared it
+    private record Loaded<T>(T value, long[] versions) {
+    }
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long staleNanos;
+
+    private final AtomicLongArray versions = new AtomicLongArray(Source.values().length);
+    private final LinkedHashMap<SearchKey, Entry> entries;
+    private final SearchCoalescer searchCoalescer;
+    private final Set<SearchKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshers = Executors.newVirtualThreadPerTaskExecutor();
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshFailures;
+
+    public SearchResultCache(
+            SearchCoalescer searchCoalescer,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${app.search.cache.enabled:true}") boolean enabled,
+            @Value("${app.search.cache.max-entries:1000}") int maxEntries,
+            @Value("${app.search.cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${app.search.cache.stale-while-revalidate-ms:30000}") long staleMillis) {
+
+        this.searchCoalescer = searchCoalescer;
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMillis));
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, staleMillis));
+
+        int capacity = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SearchKey, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+
+        // Refreshes run off the request thread; mentor DTOs read lazy task collections
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("search.cache.entries", this, SearchResultCache::size)
+                .description("Search results currently cached")
+                .register(registry);
+        this.hits = outcomeCounter(registry, "hit");
+        this.staleHits = outcomeCounter(registry, "stale");
+        this.misses = outcomeCounter(registry, "miss");
+        this.refreshFailures = Counter.builder("search.cache.refresh.failures")
+                .description("Background refreshes of stale search results that failed")
+                .register(registry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("search.cache.requests")
+                .description("Search requests by whether the result came from the cache")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Returns the cached result for the key, loading it on a miss; a load is shared with
+     * identical searches already running
+     *
+     * @param sources the tables the result is built from
+     * @param load    builds the result; it is shared between requests and must not be modified
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(SearchKey key, Set<Source> sources, Supplier<T> load) {
+        if (!enabled) {
+            return searchCoalescer.execute(key, load);
+        }
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            long age = System.nanoTime() - entry.storedAtNanos();
+            if (age < ttlNanos && isCurrent(entry, sources)) {
+                hits.increment();
+                return (T) entry.value();
+            }
+            if (age < ttlNanos + staleNanos && staleNanos > 0) {
+                staleHits.increment();
+                refresh(key, load);
+                return (T) entry.value();
+            }
+        }
+
+        misses.increment();
+        return load(key, load);
+    }
+
+    /**
+     * Marks results built from this source as stale once the current transaction commits
+     */
+    public void invalidate(Source source) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.incrementAndGet(source.ordinal());
+                }
+            });
+        } else {
+            versions.incrementAndGet(source.ordinal());
+        }
+    }
+
+    /**
+     * Drops every entry, for data changed outside the services (bulk loads, restores)
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshers.shutdown();
+    }
+
+    private <T> T load(SearchKey key, Supplier<T> load) {
+        Loaded<T> loaded = searchCoalescer.execute(key, () -> {
+            // Taken by the request that runs the search, before it reads anything, so a write
+            // that commits meanwhile leaves the entry stale for every request sharing it
+            long[] snapshot = new long[versions.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = versions.get(i);
+            }
+            return new Loaded<>(load.get(), snapshot);
+        });
+        synchronized (entries) {
+            entries.put(key, new Entry(loaded.value(), loaded.versions(), System.nanoTime()));
+        }
+        return loaded.value();
+    }
+
+    private void refresh(SearchKey key, Supplier<?> load) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshers.execute(() -> {
+                try {
+                    readOnlyTransaction.executeWithoutResult(status -> load(key, load));
+                } catch (RuntimeException ex) {
+                    refreshFailures.increment();
+                    logger.warn("Refreshing cached search {} failed: {}", key.endpoint(), ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+        }
+    }
+
+    private boolean isCurrent(Entry entry, Set<Source> sources) {
+        for (Source source : sources) {
+            if (entry.versions()[source.ordinal()] != versions.get(source.ordinal())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,209 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SessionReminderScheduler - Sends a reminder shortly before each accepted session starts
+ *
+ * Reminder deadlines live in an in-memory SessionReminderWheel rather than being found
+ * by polling bookings. The wheel holds the sessions starting within the next window:
+ * it is loaded from the database when this node becomes the owner, topped up with the
+ * slice that enters the window at every refresh, and kept in step with accepts, declines,
+ * cancels and expiries on this node through their BookingEvents.
+ *
+ * Only the node holding the session-reminders lease schedules; the others keep an empty
+ * wheel and take over within a lease period if the owner stops renewing. Changes made on
+ * other nodes reach the owner's wheel at its next full reload. A reminder is only sent
+ * if the booking is still accepted, unreminded and not started, so a stale wheel entry
+ * costs nothing, and a lost one is picked up again by the next reload.
+ */
+@Component
+public class SessionReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionReminderScheduler.class);
+
+    private final SessionReminderService sessionReminderService;
+    private final SchedulerLeaseService schedulerLeaseService;
+
+    private final boolean enabled;
+    private final Duration leadTime;
+    private final Duration window;
+    private final Duration leaseTtl;
+    private final Duration reloadInterval;
+    private final SessionReminderWheel wheel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean owner;
+    // Sessions starting before this are in the wheel
+    private volatile LocalDateTime loadedUntil;
+    private volatile LocalDateTime lastFullLoad;
+
+    public SessionReminderScheduler(
+            SessionReminderService sessionReminderService,
+            SchedulerLeaseService schedulerLeaseService,
+            MeterRegistry registry,
+            @Value("${app.session-reminders.enabled:true}") boolean enabled,
+            @Value("${app.session-reminders.lead-minutes:15}") long leadMinutes,
+            @Value("${app.session-reminders.window-hours:6}") long windowHours,
+            @Value("${app.session-reminders.tick-ms:1000}") long tickMillis,
+            @Value("${app.session-reminders.wheel-size:512}") int wheelSize,
+            @Value("${app.session-reminders.lease-ttl-ms:60000}") long leaseTtlMillis,
+            @Value("${app.session-reminders.reload-interval-ms:600000}") long reloadIntervalMillis) {
+
+        this.sessionReminderService = sessionReminderService;
+        this.schedulerLeaseService = schedulerLeaseService;
+        this.enabled = enabled;
+        this.leadTime = Duration.ofMinutes(Math.max(0, leadMinutes));
+        this.window = Duration.ofHours(Math.max(1, windowHours));
+        this.leaseTtl = Duration.ofMillis(Math.max(1000, leaseTtlMillis));
+        this.reloadInterval = Duration.ofMillis(Math.max(0, reloadIntervalMillis));
+        this.wheel = new SessionReminderWheel(Math.max(1, tickMillis), wheelSize, System.currentTimeMillis());
+
+        Gauge.builder("bookings.reminders.scheduled", wheel, SessionReminderWheel::size)
+                .description("Session reminders waiting in this node's timing wheel")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledRefresh();
+    }
+
+    // Renews the lease well inside its TTL
+    @Scheduled(initialDelayString = "${app.session-reminders.refresh-interval-ms:20000}",
+            fixedDelayString = "${app.session-reminders.refresh-interval-ms:20000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            logger.warn("Session reminder refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.session-reminders.tick-ms:1000}")
+    public void scheduledTick() {
+        if (!enabled || !owner) {
+            return;
+        }
+        try {
+            fireDue();
+        } catch (RuntimeException ex) {
+            logger.warn("Sending session reminders failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Renews (or acquires) the lease and loads the sessions that entered the window; a
+     * new owner, or one due for a full reload, loads the whole window
+     */
+    public synchronized void refresh() {
+        if (!schedulerLeaseService.tryAcquire(SchedulerLeaseService.SESSION_REMINDERS, nodeId, leaseTtl)) {
+            if (owner) {
+                logger.info("Session reminders are now scheduled by another node");
+                owner = false;
+                wheel.clear();
+                loadedUntil = null;
+            }
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = now.plus(window);
+        if (!owner || lastFullLoad == null || !now.isBefore(lastFullLoad.plus(reloadInterval))) {
+            if (!owner) {
+                wheel.clear();
+            }
+            int loaded = load(now, horizon);
+            if (!owner) {
+                logger.info("Scheduling session reminders on this node ({} loaded)", loaded);
+            }
+            lastFullLoad = now;
+            owner = true;
+        } else if (loadedUntil.isBefore(horizon)) {
+            load(loadedUntil, horizon);
+        }
+        loadedUntil = horizon;
+    }
+
+    /**
+     * Sends the reminders that are due
+     * Returns the number sent
+     */
+    public int fireDue() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return 0;
+        }
+        return sessionReminderService.sendReminders(due);
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingEvent event) {
+        if (!owner) {
+            return;
+        }
+        LocalDateTime horizon = loadedUntil;
+        if (BookingService.STATUS_ACCEPTED.equals(event.status())) {
+            // Later sessions are loaded when they enter the window
+            if (horizon != null && event.proposedDatetime().isBefore(horizon)) {
+                schedule(event.bookingId(), event.proposedDatetime());
+            }
+        } else {
+            wheel.cancel(event.bookingId());
+        }
+    }
+
+    public boolean isOwner() {
+        return owner;
+    }
+
+    public boolean isScheduled(long bookingId) {
+        return wheel.isScheduled(bookingId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (owner) {
+            owner = false;
+            try {
+                schedulerLeaseService.release(SchedulerLeaseService.SESSION_REMINDERS, nodeId);
+            } catch (RuntimeException ex) {
+                logger.debug("Could not release the session reminder lease: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private int load(LocalDateTime from, LocalDateTime to) {
+        List<BookingRepository.BookingRef> sessions = sessionReminderService.findAwaitingReminder(from, to);
+        for (BookingRepository.BookingRef session : sessions) {
+            schedule(session.getBookingId(), session.getProposedDatetime());
+        }
+        return sessions.size();
+    }
+
+    private void schedule(long bookingId, LocalDateTime sessionStart) {
+        wheel.schedule(bookingId, sessionStart.minus(leadTime).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,66 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.dto.SessionReminderEvent;
+import com.task_mentor.task_mentor.repository.BookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * SessionReminderService - Database side of the session reminders scheduled by
+ * SessionReminderScheduler
+ *
+ * Whether a reminder went out is recorded on the booking (reminder_sent_at), so the
+ * scheduler can rebuild its wheel from the database after a restart or a change of
+ * owner without resending anything.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SessionReminderService {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingMetrics bookingMetrics;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Accepted sessions starting in [from, to) that have not had their reminder;
+     * reads the primary so a session accepted moments ago is not missed
+     */
+    @Transactional
+    public List<BookingRepository.BookingRef> findAwaitingReminder(LocalDateTime from, LocalDateTime to) {
+        return bookingRepository.findAwaitingReminder(from, to);
+    }
+
+    /**
+     * Sends the reminders of the given bookings that are still accepted, not yet reminded
+     * and not yet started; the others were cancelled or sent since they were scheduled
+     *
+     * @return the number of reminders sent
+     */
+    @Transactional
+    public int sendReminders(Collection<Long> bookingIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BookingRepository.BookingRef> due = bookingRepository.lockAwaitingReminder(bookingIds, now);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        bookingRepository.markReminderSent(due.stream().map(BookingRepository.BookingRef::getBookingId).toList(), now);
+        for (BookingRepository.BookingRef ref : due) {
+            eventPublisher.publishEvent(new SessionReminderEvent(ref.getBookingId(), ref.getStudentId(),
+                    ref.getMentorId(), ref.getTaskId(), ref.getProposedDatetime(), now));
+        }
+        bookingMetrics.remindersSent(due.size());
+        return due.size();
+    }
+}
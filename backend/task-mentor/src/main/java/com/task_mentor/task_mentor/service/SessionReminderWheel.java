@@ -0,0 +1,157 @@
+package com.task_mentor.task_mentor.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SessionReminderWheel - Hashed timing wheel of reminder deadlines, keyed by booking id
+ *
+ * Time is cut into ticks of tickMillis, and a deadline goes into the bucket of its
+ * tick modulo the wheel size; a bucket holds deadlines from every revolution, and each
+ * entry remembers its absolute tick. Scheduling and cancelling are O(1): a hash lookup
+ * and an unlink from the bucket's doubly linked list. Advancing visits one bucket per
+ * elapsed tick and only fires the entries whose tick has come.
+ *
+ * Times are epoch milliseconds passed in by the caller. Thread-safe; every operation
+ * is short, so one lock is enough.
+ */
+public class SessionReminderWheel {
+
+    private final long tickMillis;
+    private final Bucket[] buckets;
+    private final int mask;
+    private final long originMillis;
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    // The next tick to process
+    private long currentTick;
+
+    /**
+     * @param wheelSize buckets in the wheel, rounded up to a power of two
+     */
+    public SessionReminderWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.buckets = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.originMillis = startMillis;
+        this.currentTick = 0;
+    }
+
+    /**
+     * Schedules the booking's reminder, replacing any earlier deadline for it; a deadline
+     * that has already passed fires on the next advance
+     */
+    public synchronized void schedule(long bookingId, long deadlineMillis) {
+        cancel(bookingId);
+        long tick = Math.max(Math.ceilDiv(deadlineMillis - originMillis, tickMillis), currentTick);
+        Entry entry = new Entry(bookingId, tick);
+        buckets[(int) (tick & mask)].add(entry);
+        entries.put(bookingId, entry);
+    }
+
+    /**
+     * @return false when the booking had no reminder scheduled
+     */
+    public synchronized boolean cancel(long bookingId) {
+        Entry entry = entries.remove(bookingId);
+        if (entry == null) {
+            return false;
+        }
+        entry.bucket.remove(entry);
+        return true;
+    }
+
+    /**
+     * Moves the wheel up to now and removes the reminders that are due
+     *
+     * @return the booking ids whose deadline is at or before now
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<Long> due = new ArrayList<>();
+        if (targetTick < currentTick) {
+            return due;
+        }
+        // After a long pause every bucket is due for a visit; visit each once
+        long lastTick = Math.min(targetTick, currentTick + mask);
+        for (long tick = currentTick; tick <= lastTick; tick++) {
+            Bucket bucket = buckets[(int) (tick & mask)];
+            Entry entry = bucket.head;
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.tick <= targetTick) {
+                    bucket.remove(entry);
+                    entries.remove(entry.bookingId);
+                    due.add(entry.bookingId);
+                }
+                entry = next;
+            }
+        }
+        currentTick = targetTick + 1;
+        return due;
+    }
+
+    public synchronized boolean isScheduled(long bookingId) {
+        return entries.containsKey(bookingId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        for (Bucket bucket : buckets) {
+            bucket.head = null;
+        }
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final long bookingId;
+        private final long tick;
+        private Bucket bucket;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(long bookingId, long tick) {
+            this.bookingId = bookingId;
+            this.tick = tick;
+        }
+    }
+
+    private static final class Bucket {
+        private Entry head;
+
+        private void add(Entry entry) {
+            entry.bucket = this;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        private void remove(Entry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+            entry.bucket = null;
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package com.task_mentor.task_mentor.service;
 
+import com.task_mentor.task_mentor.dto.BookingSummary;
 import com.task_mentor.task_mentor.dto.StudentStatistics;
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.Student;
 import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.BookingArchiveRepository;
+import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.StudentRepository;
 import com.task_mentor.task_mentor.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class StudentService {
 
     @Autowired
@@ -23,8 +29,18 @@ public class StudentService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
     private static final String DEFAULT_STUDENT_IMAGE = "https://api.dicebear.com/7.x/avataaars/svg?seed=default";
 
+    @Transactional
     public Student createStudent(Long userId, String name, String bio, String major, Integer graduationYear,
                                  String careerInterests, String profilePhotoUrl){
         User user = userRepository.findById(userId).orElseThrow(()-> new IllegalArgumentException("User not found"));
@@ -56,10 +72,12 @@ public class StudentService {
             student.setProfilePhotoUrl(DEFAULT_STUDENT_IMAGE);
         }
 
+        searchResultCache.invalidate(SearchResultCache.Source.STUDENTS);
         return studentRepository.save(student);
 
     }
 
+    @Transactional
     public Student updateStudentProfile(Long userId, String name, String bio, String major, Integer graduationYear,
                                       String careerInterests, String profilePhotoUrl){
         // Fixed: changed from findById to findByUserId to match parameter name,
@@ -94,6 +112,7 @@ public class StudentService {
             }
         }
 
+        searchResultCache.invalidate(SearchResultCache.Source.STUDENTS);
         return studentRepository.save(student);
 
     }
@@ -112,11 +131,13 @@ public class StudentService {
         return studentRepository.findAll();
     }
 
+    @Transactional
     public void deleteStudentProfile(Long studentId){
         if(!studentRepository.existsById(studentId)){
             throw new IllegalArgumentException("Student with that id not found");
         }
         studentRepository.deleteById(studentId);
+        searchResultCache.invalidate(SearchResultCache.Source.STUDENTS);
     }
 
     public boolean StudentProfileExists(Long studentId){
@@ -160,12 +181,20 @@ public class StudentService {
         stats.setGraduationYear(student.getGraduationYear());
         stats.setCareerInterests(student.getCareerInterests());
         stats.setProfilePhotoUrl(student.getProfilePhotoUrl());
+        stats.setBookings(bookingRepository.summarizeByStudent(studentId, LocalDateTime.now())
+                .orElseGet(() -> BookingSummary.empty(studentId))
+                .withArchived(bookingArchiveRepository.summarizeByStudent(studentId).orElse(null)));
 
         return stats;
     }
 
     public List<StudentStatistics> getAllStudentStatistics() {
         List<Student> students = getAllStudents();
+        // One GROUP BY over all bookings rather than a summary query per student
+        Map<Long, BookingSummary> summaries = bookingRepository.summarizeAllStudents(LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(BookingSummary::getProfileId, Function.identity()));
+        bookingArchiveRepository.summarizeAllStudents().forEach(archived ->
+                summaries.merge(archived.getProfileId(), archived, BookingSummary::withArchived));
 
         return students.stream()
                 .map(student -> {
@@ -177,6 +206,8 @@ public class StudentService {
                     stats.setGraduationYear(student.getGraduationYear());
                     stats.setCareerInterests(student.getCareerInterests());
                     stats.setProfilePhotoUrl(student.getProfilePhotoUrl());
+                    stats.setBookings(summaries.getOrDefault(student.getStudentId(),
+                            BookingSummary.empty(student.getStudentId())));
                     return stats;
                 })
                 .toList();
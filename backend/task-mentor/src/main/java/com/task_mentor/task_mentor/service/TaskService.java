@@ -6,7 +6,7 @@ import com.task_mentor.task_mentor.entity.Task;
 import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.MentorRepository;
 import com.task_mentor.task_mentor.repository.TaskRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,7 +18,7 @@ import java.util.Optional;
 
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class TaskService {
 
     @Autowired
@@ -33,6 +33,12 @@ public class TaskService {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
 
     public static final String CATEGORY_RESUME_REVIEW = "Resume Review";
     public static final String CATEGORY_INTERVIEW_PREP = "Interview Prep";
@@ -48,6 +54,7 @@ public class TaskService {
     public static final int MAX_DURATION = 180;
 
 
+    @Transactional
     public Task createTask(Long mentorId, String title, String description,
                            Integer durationMinutes, String category) {
 
@@ -64,16 +71,21 @@ public class TaskService {
         task.setCategory(category.trim());
         task.setCreatedAt(LocalDateTime.now());
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        mentorCountersService.taskCreated(mentorId);
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
+        return saved;
     }
 
 
+    @Transactional
     public Task createTask(Long mentorId, Task task) {
         return createTask(mentorId, task.getTitle(), task.getDescription(),
                 task.getDurationMinutes(), task.getCategory());
     }
 
 
+    @Transactional
     public Task createTaskWithImage(Long mentorId, Task task, MultipartFile imageFile) {
         // First create the task
         Task createdTask = createTask(mentorId, task);
@@ -90,6 +102,7 @@ public class TaskService {
     }
 
 
+    @Transactional
     public void setTaskImage(Long taskId, MultipartFile imageFile) {
         Task task = getTaskById(taskId);
 
@@ -107,6 +120,7 @@ public class TaskService {
         taskRepository.save(task);
     }
 
+    @Transactional
     public void deleteTaskImage(Long taskId) {
         Task task = getTaskById(taskId);
 
@@ -121,6 +135,7 @@ public class TaskService {
 
 
 
+    @Transactional
     public Task updateTask(Long taskId, Task updates) {
         Task task = getTaskById(taskId);
 
@@ -141,10 +156,12 @@ public class TaskService {
             task.setCategory(updates.getCategory().trim());
         }
 
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
         return taskRepository.save(task);
     }
 
 
+    @Transactional
     public Task updateTaskWithImage(Long taskId, Task updates, MultipartFile imageFile) {
         Task task = updateTask(taskId, updates);
 
@@ -159,6 +176,7 @@ public class TaskService {
     }
 
 
+    @Transactional
     public Task updateTask(Long taskId, Long mentorId, String title, String description,
                            Integer durationMinutes, String category) {
 
@@ -186,6 +204,7 @@ public class TaskService {
             task.setCategory(category.trim());
         }
 
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
         return taskRepository.save(task);
     }
 
@@ -207,6 +226,7 @@ public class TaskService {
     }
 
 
+    @Transactional
     public void deleteTask(Long taskId, Long mentorId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
@@ -234,9 +254,12 @@ public class TaskService {
         }
 
         taskRepository.deleteById(taskId);
+        mentorCountersService.taskDeleted(mentorId);
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
     }
 
 
+    @Transactional
     public void deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + taskId));
@@ -247,6 +270,8 @@ public class TaskService {
         }
 
         taskRepository.deleteById(taskId);
+        mentorCountersService.taskDeleted(task.getMentor().getMentorId());
+        searchResultCache.invalidate(SearchResultCache.Source.TASKS);
     }
 
 
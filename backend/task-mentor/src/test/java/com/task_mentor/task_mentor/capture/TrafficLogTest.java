@@ -0,0 +1,110 @@
+package com.task_mentor.task_mentor.capture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrafficLogWriter and TrafficLogReader
+ * Tests the binary round trip, rotation, retention and recovery from a cut-off record
+ */
+class TrafficLogTest {
+
+    @TempDir
+    Path directory;
+
+    private CapturedRequest request(long startedAt, String path) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("category", "Programming");
+        params.put("maxDuration", "60");
+        return new CapturedRequest(startedAt, "POST", path, "/api/bookings",
+                params, "{\"studentId\":3,\"proposedDatetime\":\"2026-11-02T09:30\"}",
+                CapturedRequest.STUDENT, -123456789, 201, 48_250);
+    }
+
+    @Test
+    @DisplayName("Round trip - Every field survives")
+    void testRoundTrip() throws IOException {
+        try (TrafficLogWriter writer = new TrafficLogWriter(directory, 1024 * 1024, 3)) {
+            writer.append(request(1_700_000_000_000L, "/api/bookings"));
+            writer.append(new CapturedRequest(1_699_999_999_990L, "GET", "/api/search/filter-options", "",
+                    Map.of(), "", CapturedRequest.ANONYMOUS, 0, 200, 1_200));
+        }
+
+        List<CapturedRequest> read = TrafficLogReader.readAll(directory);
+
+        assertEquals(2, read.size());
+        CapturedRequest first = read.get(0);
+        assertEquals(1_700_000_000_000L, first.getStartedAtMillis());
+        assertEquals("POST", first.getMethod());
+        assertEquals("/api/bookings", first.getPath());
+        assertEquals("/api/bookings", first.getPattern());
+        assertEquals(List.of("category", "maxDuration"), List.copyOf(first.getParams().keySet()));
+        assertEquals("60", first.getParams().get("maxDuration"));
+        assertTrue(first.getBody().contains("\"proposedDatetime\":\"2026-11-02T09:30\""));
+        assertEquals(CapturedRequest.STUDENT, first.getRole());
+        assertEquals(-123456789, first.getCaller());
+        assertEquals(201, first.getStatus());
+        assertEquals(48_250, first.getDurationMicros());
+
+        // Started before the file did: offsets may be negative
+        assertEquals(1_699_999_999_990L, read.get(1).getStartedAtMillis());
+        assertEquals(CapturedRequest.ANONYMOUS, read.get(1).getRole());
+    }
+
+    @Test
+    @DisplayName("Rotation - Keeps only the newest files")
+    void testRotationAndRetention() throws IOException {
+        try (TrafficLogWriter writer = new TrafficLogWriter(directory, 1024, 2)) {
+            for (int i = 0; i < 100; i++) {
+                writer.append(request(1_700_000_000_000L + i, "/api/bookings/" + i));
+            }
+        }
+
+        List<Path> files = TrafficLogWriter.files(directory);
+        assertEquals(2, files.size());
+
+        List<CapturedRequest> kept = TrafficLogReader.readAll(directory);
+        assertFalse(kept.isEmpty());
+        assertTrue(kept.size() < 100);
+        assertEquals("/api/bookings/99", kept.get(kept.size() - 1).getPath());
+        for (int i = 1; i < kept.size(); i++) {
+            assertTrue(kept.get(i).getStartedAtMillis() > kept.get(i - 1).getStartedAtMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("Truncated record - Reading stops before it")
+    void testTruncatedRecord() throws IOException {
+        try (TrafficLogWriter writer = new TrafficLogWriter(directory, 1024 * 1024, 1)) {
+            writer.append(request(1_700_000_000_000L, "/api/bookings"));
+            writer.append(request(1_700_000_000_001L, "/api/bookings"));
+        }
+        Path file = TrafficLogWriter.files(directory).get(0);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, java.util.Arrays.copyOf(bytes, bytes.length - 5));
+
+        assertEquals(1, TrafficLogReader.readAll(file).size());
+    }
+
+    @Test
+    @DisplayName("Other files - Rejected or ignored")
+    void testForeignFiles() throws IOException {
+        Files.writeString(directory.resolve("notes.txt"), "not a log");
+        assertTrue(TrafficLogReader.readAll(directory).isEmpty());
+
+        Path bogus = directory.resolve("traffic-bogus.tmcap");
+        Files.writeString(bogus, "definitely not a log");
+        assertThrows(UncheckedIOException.class, () -> TrafficLogReader.readAll(bogus));
+    }
+}
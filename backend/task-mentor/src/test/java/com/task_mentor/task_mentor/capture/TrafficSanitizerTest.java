@@ -0,0 +1,67 @@
+package com.task_mentor.task_mentor.capture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TrafficSanitizer
+ */
+class TrafficSanitizerTest {
+
+    private final TrafficSanitizer sanitizer =
+            new TrafficSanitizer(Set.of("name", "mentorName"), Set.of("category", "accountType"));
+
+    private String body(String json) {
+        return sanitizer.body(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Query parameters - Filters kept, names masked, credentials dropped")
+    void testParams() {
+        Map<String, String[]> params = new LinkedHashMap<>();
+        params.put("company", new String[]{"Globex"});
+        params.put("name", new String[]{"Jordan"});
+        params.put("access_token", new String[]{"abc"});
+        params.put("minYearsExperience", new String[]{"5"});
+
+        Map<String, String> sanitized = sanitizer.params(params);
+
+        assertEquals("Globex", sanitized.get("company"));
+        assertEquals("xxxxxx", sanitized.get("name"));
+        assertEquals("5", sanitized.get("minYearsExperience"));
+        assertFalse(sanitized.containsKey("access_token"));
+    }
+
+    @Test
+    @DisplayName("Body - Ids, dates and safe fields kept, text masked")
+    void testBody() {
+        String sanitized = body("{\"studentId\":3,\"proposedDatetime\":\"2026-11-02T09:30\","
+                + "\"category\":\"Programming\",\"bio\":\"Likes chess\",\"tags\":[\"a\",\"bc\"],\"active\":true}");
+
+        assertEquals("{\"studentId\":3,\"proposedDatetime\":\"2026-11-02T09:30\",\"category\":\"Programming\","
+                + "\"bio\":\"xxxxxxxxxxx\",\"tags\":[\"x\",\"xx\"],\"active\":true}", sanitized);
+    }
+
+    @Test
+    @DisplayName("Body - Credentials and emails removed")
+    void testBodyCredentials() {
+        String sanitized = body("{\"email\":\"a@b.com\",\"password\":\"secret1\",\"accountType\":\"student\"}");
+
+        assertEquals("{\"accountType\":\"student\"}", sanitized);
+    }
+
+    @Test
+    @DisplayName("Body - Not JSON becomes empty")
+    void testNotJson() {
+        assertEquals("", body("name=Jordan"));
+        assertEquals("", body("42"));
+        assertEquals("", sanitizer.body(null));
+    }
+}
@@ -0,0 +1,125 @@
+package com.task_mentor.task_mentor.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource
+ * Uses two in-memory H2 databases that each report which instance they are
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    private HikariDataSource pool(String name, String database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setPassword("");
+        new JdbcTemplate(dataSource).execute(
+                "CREATE TABLE IF NOT EXISTS instance_marker (name VARCHAR(20)); " +
+                "DELETE FROM instance_marker; INSERT INTO instance_marker VALUES ('" + name + "')");
+        return dataSource;
+    }
+
+    private TransactionTemplate transactionTemplate(boolean readOnly) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource.getPrimary());
+        proxy.setReadOnlyDataSource(routingDataSource);
+
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(proxy));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+
+    private String currentInstance(boolean readOnly) {
+        TransactionTemplate template = transactionTemplate(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                ((DataSourceTransactionManager) template.getTransactionManager()).getDataSource());
+        return template.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM instance_marker", String.class));
+    }
+
+    @Test
+    @DisplayName("Routing - Read-only transactions use a healthy replica, writes use the primary")
+    void testReadOnlyRoutedToReplica() {
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(pool("replica-1", "routing_replica")), "SELECT 0", 5000);
+        routingDataSource.checkReplicaLag();
+
+        assertEquals("replica-1", currentInstance(true));
+        assertEquals("primary", currentInstance(false));
+    }
+
+    @Test
+    @DisplayName("Routing - Reads stay on the primary before the first lag check")
+    void testReplicaUnhealthyUntilChecked() {
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(pool("replica-1", "routing_replica")), "SELECT 0", 5000);
+
+        assertEquals("primary", currentInstance(true));
+    }
+
+    @Test
+    @DisplayName("Routing - Lagging replica falls back to the primary")
+    void testLaggingReplicaFallsBack() {
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(pool("replica-1", "routing_replica")), "SELECT 60000", 5000);
+        routingDataSource.checkReplicaLag();
+
+        assertFalse(routingDataSource.isHealthy(0));
+        assertEquals("primary", currentInstance(true));
+    }
+
+    @Test
+    @DisplayName("Routing - Replica that refuses connections is marked unhealthy")
+    void testClosedReplicaFallsBack() {
+        HikariDataSource replica = pool("replica-1", "routing_replica");
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(replica), "SELECT 0", 5000);
+        routingDataSource.checkReplicaLag();
+        replica.close();
+
+        assertEquals("primary", currentInstance(true));
+        assertFalse(routingDataSource.isHealthy(0));
+    }
+
+    @Test
+    @DisplayName("Routing - Per-call credentials are reported as an unsupported JDBC feature")
+    void testCredentialsNotSupported() {
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(pool("replica-1", "routing_replica")), "SELECT 0", 5000);
+        routingDataSource.checkReplicaLag();
+
+        assertThrows(SQLFeatureNotSupportedException.class, () -> routingDataSource.getConnection("sa", ""));
+        assertTrue(routingDataSource.isHealthy(0));
+    }
+
+    @Test
+    @DisplayName("Pool statistics - Reported per pool name")
+    void testPoolStatistics() {
+        routingDataSource = new ReplicaRoutingDataSource(pool("primary", "routing_primary"),
+                List.of(pool("replica-1", "routing_replica")), "SELECT 0", 5000);
+
+        assertEquals(List.of("primary", "replica-1"), List.copyOf(routingDataSource.getPoolStatistics().keySet()));
+        assertEquals("replica", routingDataSource.getPoolStatistics().get("replica-1").get("role"));
+    }
+}
@@ -0,0 +1,151 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.dto.BookingSummary;
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.BookingArchiveJob;
+import com.task_mentor.task_mentor.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BookingArchiveIntegrationTest - Finished bookings past the retention window move to
+ * booking_archive and stay readable and counted; everything else stays in bookings
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookingarchivedb",
+        "app.booking-archive.enabled=false",
+        "app.booking-archive.retention-days=30",
+        "app.booking-archive.chunk-size=2",
+        "app.booking-archive.chunk-pause-ms=0",
+        "app.booking-expiry.enabled=false",
+        "app.booking-outbox.dispatch-enabled=false",
+        "app.mentor-counters.reconcile-enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BookingArchiveIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingArchiveJob bookingArchiveJob;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        createFixture("archive", 45);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookingArchiveRepository.deleteAll();
+    }
+
+    @Test
+    public void testArchivesOnlyFinishedBookingsPastRetention() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Booking oldAccepted = booking(now.minusDays(90), "accepted");
+        Booking oldDeclined = booking(now.minusDays(80), "declined");
+        Booking oldCancelled = booking(now.minusDays(70), "cancelled");
+        Booking oldPending = booking(now.minusDays(60), "pending");
+        Booking recentDeclined = booking(now.minusDays(5), "declined");
+        Booking upcoming = booking(now.plusDays(5), "accepted");
+
+        int archived = bookingArchiveJob.archiveOld();
+
+        // Chunks of two: a full one, then a partial one that ends the run
+        assertEquals(3, archived);
+        assertEquals(3, bookingArchiveRepository.count());
+        assertFalse(bookingRepository.existsById(oldAccepted.getBookingId()));
+        assertFalse(bookingRepository.existsById(oldDeclined.getBookingId()));
+        assertFalse(bookingRepository.existsById(oldCancelled.getBookingId()));
+        assertTrue(bookingRepository.existsById(oldPending.getBookingId()));
+        assertTrue(bookingRepository.existsById(recentDeclined.getBookingId()));
+        assertTrue(bookingRepository.existsById(upcoming.getBookingId()));
+
+        BookingArchive row = bookingArchiveRepository.findById(oldAccepted.getBookingId()).orElseThrow();
+        assertEquals("accepted", row.getStatus());
+        assertEquals(45, row.getDurationMinutes());
+        assertEquals(0, bookingArchiveJob.archiveOld());
+    }
+
+    @Test
+    public void testStatisticsStillCountArchivedBookings() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        booking(now.minusDays(90), "accepted");
+        booking(now.minusDays(80), "cancelled");
+        booking(now.plusDays(3), "accepted");
+        BookingSummary before = studentService.getStudentStatistics(student.getStudentId()).getBookings();
+
+        bookingArchiveJob.archiveOld();
+        BookingSummary after = studentService.getStudentStatistics(student.getStudentId()).getBookings();
+
+        assertEquals(1, bookingRepository.count());
+        assertEquals(before.getTotal(), after.getTotal());
+        assertEquals(2, after.getAccepted());
+        assertEquals(1, after.getCancelled());
+        assertEquals(90, after.getBookedMinutes());
+        assertEquals(before.getNextSession(), after.getNextSession());
+        assertEquals(2, studentService.getAllStudentStatistics().get(0).getBookings().getAccepted());
+    }
+
+    @Test
+    @WithMockUser(username = "archive-student@test.com", roles = "STUDENT")
+    public void testArchivedAndDateBoundedReads() throws Exception {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        Booking archived = booking(now.minusDays(90), "declined");
+        booking(now.minusDays(10), "declined");
+        booking(now.plusDays(10), "pending");
+        bookingArchiveJob.archiveOld();
+
+        mockMvc.perform(get("/api/bookings/archive")
+                        .param("studentId", student.getStudentId().toString())
+                        .param("from", now.minusDays(120).toString())
+                        .param("to", now.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].bookingId").value(archived.getBookingId()))
+                .andExpect(jsonPath("$[0].taskTitle").value("Archive task"))
+                .andExpect(jsonPath("$[0].status").value("declined"));
+
+        mockMvc.perform(get("/api/bookings/student/" + student.getStudentId())
+                        .param("from", now.minusDays(30).toString())
+                        .param("to", now.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].status").value("declined"));
+
+        mockMvc.perform(get("/api/bookings/student/" + student.getStudentId())
+                        .param("from", now.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Both from and to are required for a date range"));
+    }
+
+    private Booking booking(LocalDateTime proposedDatetime, String status) {
+        Booking booking = new Booking(student, mentor, task, proposedDatetime);
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+}
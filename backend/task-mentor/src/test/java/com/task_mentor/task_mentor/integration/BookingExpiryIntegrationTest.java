@@ -0,0 +1,139 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.BookingExpiryJob;
+import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.MentorCountersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingExpiryIntegrationTest - Stale pending bookings are expired in chunks, with their
+ * counters, outbox events and metrics, and nothing else is touched
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookingexpirydb",
+        "app.booking-expiry.enabled=false",
+        "app.booking-expiry.chunk-size=2",
+        "app.booking-expiry.chunk-pause-ms=0",
+        "app.booking-outbox.dispatch-enabled=false",
+        "app.mentor-counters.reconcile-enabled=false"
+})
+@ActiveProfiles("test")
+public class BookingExpiryIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private BookingExpiryJob bookingExpiryJob;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        createFixture("expiry", 30);
+    }
+
+    @Test
+    public void testStalePendingBookingsAreExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> stale = List.of(
+                booking(now.minusDays(3), "pending"),
+                booking(now.minusDays(2), "pending"),
+                booking(now.minusHours(5), "pending"),
+                booking(now.minusMinutes(1), "pending"),
+                booking(now.minusDays(1), "pending"));
+        Booking upcoming = booking(now.plusDays(1), "pending");
+        Booking pastAccepted = booking(now.minusDays(1), "accepted");
+        Booking pastDeclined = booking(now.minusDays(1), "declined");
+        mentorCountersService.reconcile();
+        double expiredBefore = meterRegistry.get("bookings.expired").counter().count();
+
+        // Chunks of 2: three chunks, the last one short
+        assertEquals(5, bookingExpiryJob.expireStale());
+        assertEquals(0, bookingExpiryJob.expireStale());
+
+        stale.forEach(booking -> assertEquals("expired", statusOf(booking)));
+        assertEquals("pending", statusOf(upcoming));
+        assertEquals("accepted", statusOf(pastAccepted));
+        assertEquals("declined", statusOf(pastDeclined));
+
+        assertEquals(1, mentorCountersRepository.findById(mentor.getMentorId()).orElseThrow().getPendingCount());
+        assertEquals(0, mentorCountersService.reconcile());
+        assertEquals(5, outboxRepository.findAll().stream()
+                .filter(row -> row.getEventType().equals("booking.expired")).count());
+        assertEquals(5.0, meterRegistry.get("bookings.expired").counter().count() - expiredBefore);
+    }
+
+    @Test
+    public void testExpiredBookingsCountInStatistics() {
+        booking(LocalDateTime.now().minusDays(1), "pending");
+        bookingExpiryJob.expireStale();
+
+        assertEquals(1, bookingRepository.summarizeByMentor(mentor.getMentorId(), LocalDateTime.now())
+                .orElseThrow().getExpired());
+    }
+
+    @Test
+    public void testAcceptWaitsForAnExpiryInProgress() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Booking stale = booking(now.minusHours(1), "pending");
+
+        CompletableFuture<Booking> accept = transactionTemplate.execute(status -> {
+            // The expiry's first step: the stale booking stays locked until this transaction commits
+            List<Long> locked = bookingRepository.lockStalePending(now, 10).stream()
+                    .map(BookingRepository.BookingRef::getBookingId).toList();
+            CompletableFuture<Booking> mentorAccepts = CompletableFuture.supplyAsync(() ->
+                    bookingService.acceptBooking(stale.getBookingId(), mentor.getMentorId()));
+            pause();
+            assertFalse(mentorAccepts.isDone());
+
+            bookingRepository.updatePendingStatus(locked, "expired", now);
+            return mentorAccepts;
+        });
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> accept.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, thrown.getCause());
+        assertEquals("expired", statusOf(stale));
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Booking booking(LocalDateTime proposedDatetime, String status) {
+        Booking booking = new Booking(student, mentor, task, proposedDatetime);
+        booking.setStatus(status);
+        return bookingRepository.save(booking);
+    }
+
+    private String statusOf(Booking booking) {
+        return bookingRepository.findById(booking.getBookingId()).orElseThrow().getStatus();
+    }
+}
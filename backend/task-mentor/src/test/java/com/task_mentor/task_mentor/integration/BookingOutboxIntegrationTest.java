@@ -0,0 +1,207 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.service.BookingOutboxDispatcher;
+import com.task_mentor.task_mentor.service.BookingOutboxListener;
+import com.task_mentor.task_mentor.service.BookingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingOutboxIntegrationTest - Booking changes are written to the outbox with the change,
+ * dispatched to listeners at least once, and claimed by only one dispatcher at a time
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookingoutboxdb",
+        "app.booking-outbox.dispatch-enabled=false",
+        "app.booking-outbox.max-attempts=2",
+        "app.booking-outbox.retry-backoff-ms=0"
+})
+@ActiveProfiles("test")
+public class BookingOutboxIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingOutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        createFixture("outbox", 45);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        listener.reset();
+    }
+
+    @Test
+    public void testChangesAreWrittenWithTheirTransaction() {
+        Booking booking = createBooking(2);
+        bookingService.acceptBooking(booking.getBookingId(), mentor.getMentorId());
+        transactionTemplate.executeWithoutResult(status -> {
+            createBooking(3);
+            status.setRollbackOnly();
+        });
+
+        List<BookingOutboxEvent> rows = outboxRepository.findAll();
+        assertEquals(List.of("booking.pending", "booking.accepted"),
+                rows.stream().map(BookingOutboxEvent::getEventType).toList());
+        assertTrue(rows.stream().allMatch(row -> row.getBookingId().equals(booking.getBookingId())
+                && row.getDispatchedAt() == null));
+    }
+
+    @Test
+    public void testEventsCannotBeAppendedOutsideATransaction() {
+        BookingEvent event = new BookingEvent(1L, 1L, 1L, 1L, "pending", LocalDateTime.now(), LocalDateTime.now());
+
+        assertThrows(IllegalTransactionStateException.class, () -> eventPublisher.publishEvent(event));
+        assertEquals(0, outboxRepository.count());
+    }
+
+    @Test
+    public void testDispatchDeliversEachEventOnce() {
+        Booking booking = createBooking(2);
+        bookingService.acceptBooking(booking.getBookingId(), mentor.getMentorId());
+
+        assertEquals(2, dispatcher.dispatch());
+        assertEquals(0, dispatcher.dispatch());
+
+        assertEquals(List.of("pending", "accepted"), listener.events.stream().map(BookingEvent::status).toList());
+        assertEquals(booking.getBookingId(), listener.events.get(0).bookingId());
+        assertTrue(outboxRepository.findAll().stream().allMatch(row -> row.getDispatchedAt() != null));
+        assertEquals(0.0, meterRegistry.get("bookings.outbox.pending").gauge().value());
+    }
+
+    @Test
+    public void testFailedDeliveryIsRetriedThenGivenUp() {
+        createBooking(2);
+        listener.failures.set(1);
+
+        assertEquals(1, dispatcher.dispatch());
+        BookingOutboxEvent row = outboxRepository.findAll().get(0);
+        assertNull(row.getDispatchedAt());
+        assertEquals(1, row.getAttempts());
+        assertTrue(row.getLastError().contains("listener down"));
+        assertEquals(1.0, meterRegistry.get("bookings.outbox.pending").gauge().value());
+
+        // Retried on the next run
+        assertEquals(1, dispatcher.dispatch());
+        assertEquals(1, listener.events.size());
+        assertNotNull(outboxRepository.findAll().get(0).getDispatchedAt());
+
+        createBooking(3);
+        listener.failures.set(2);
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+        assertEquals(0, dispatcher.dispatch());
+        assertEquals(1.0, meterRegistry.get("bookings.outbox.failed").gauge().value());
+        assertEquals(1, listener.events.size());
+    }
+
+    @Test
+    public void testFailedDeliveryDoesNotUndoTheRestOfTheBatch() {
+        createBooking(2);
+        createBooking(3);
+        listener.failures.set(1);
+
+        assertEquals(2, dispatcher.dispatch());
+
+        List<BookingOutboxEvent> rows = outboxRepository.findAll();
+        assertEquals(1, listener.events.size());
+        assertEquals(1, rows.stream().filter(row -> row.getDispatchedAt() != null).count());
+        assertTrue(rows.stream().anyMatch(row -> row.getDispatchedAt() == null && row.getAttempts() == 1
+                && row.getLastError().contains("listener down")));
+    }
+
+    @Test
+    public void testClaimedRowsAreSkippedByOtherDispatchers() {
+        createBooking(2);
+        createBooking(3);
+
+        List<BookingOutboxEvent> claimedByOther = transactionTemplate.execute(status -> {
+            assertEquals(2, outboxRepository.claimDue(LocalDateTime.now(), 2, 10).size());
+            // Another node's dispatcher, on its own connection, while this transaction holds the rows:
+            // it gets nothing back straight away instead of waiting for the lock
+            return CompletableFuture.supplyAsync(() -> transactionTemplate.execute(other ->
+                    outboxRepository.claimDue(LocalDateTime.now(), 2, 10))).join();
+        });
+        assertEquals(List.of(), claimedByOther);
+
+        assertEquals(2, dispatcher.dispatch());
+    }
+
+    private Booking createBooking(int daysAhead) {
+        return bookingService.createBooking(student.getStudentId(), mentor.getMentorId(), task.getTaskId(),
+                LocalDateTime.now().plusDays(daysAhead));
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener(TransactionTemplate transactionTemplate) {
+            return new RecordingListener(transactionTemplate);
+        }
+    }
+
+    static class RecordingListener implements BookingOutboxListener {
+
+        final List<BookingEvent> events = new CopyOnWriteArrayList<>();
+        final AtomicInteger failures = new AtomicInteger();
+        private final TransactionTemplate transactionTemplate;
+
+        RecordingListener(TransactionTemplate transactionTemplate) {
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        // Fails through a transactional call, which marks the surrounding transaction rollback-only
+        @Override
+        public void onBookingEvent(BookingEvent event) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                    throw new IllegalStateException("listener down");
+                }
+            });
+            events.add(event);
+        }
+
+        void reset() {
+            events.clear();
+            failures.set(0);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BookingReviewIntegrationTest - POST /api/bookings/review applies a mentor's decisions
+ * in one transaction with a statement count that does not grow with the batch
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookingreviewdb",
+        "app.booking-outbox.dispatch-enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BookingReviewIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @BeforeEach
+    public void setUp() {
+        createFixture("review", 60);
+    }
+
+    @Test
+    @WithMockUser(username = "review-mentor@test.com", roles = "MENTOR")
+    public void testReviewAppliesDecisionsAndReportsConflicts() throws Exception {
+        LocalDateTime slot = LocalDateTime.now().plusDays(3).withNano(0);
+        Booking accepted = booking(slot);
+        Booking clashesWithAccepted = booking(slot.plusMinutes(30));
+        bookingService.acceptBooking(accepted.getBookingId(), mentor.getMentorId());
+        Booking first = booking(slot.plusHours(2));
+        Booking clashesWithFirst = booking(slot.plusHours(2).plusMinutes(15));
+        Booking declined = booking(slot.plusHours(5));
+
+        mockMvc.perform(post("/api/bookings/review")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(clashesWithAccepted.getBookingId(), first.getBookingId(),
+                                clashesWithFirst.getBookingId()), List.of(declined.getBookingId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].applied").value(false))
+                .andExpect(jsonPath("$[1].status").value("accepted"))
+                .andExpect(jsonPath("$[2].applied").value(false))
+                .andExpect(jsonPath("$[3].status").value("declined"));
+
+        assertEquals("pending", statusOf(clashesWithAccepted));
+        assertEquals("accepted", statusOf(first));
+        assertEquals("pending", statusOf(clashesWithFirst));
+        assertEquals("declined", statusOf(declined));
+
+        MentorCounters counters = mentorCountersRepository.findById(mentor.getMentorId()).orElseThrow();
+        assertEquals(2, counters.getPendingCount());
+        assertEquals(2, counters.getAcceptedUpcomingCount());
+        // 5 created, 1 single accept, 2 applied review decisions
+        assertEquals(8, outboxRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = "review-mentor@test.com", roles = "MENTOR")
+    public void testStatementCountDoesNotGrowWithTheBatch() throws Exception {
+        int small = statementsToAccept(2, 0);
+        int large = statementsToAccept(10, 2);
+
+        assertEquals(small, large, "Reviewing more bookings should reuse the same batched statements");
+    }
+
+    @Test
+    @WithMockUser(username = "review-mentor@test.com", roles = "MENTOR")
+    public void testMalformedReviewIsRejected() throws Exception {
+        Booking booking = booking(LocalDateTime.now().plusDays(2));
+
+        mockMvc.perform(post("/api/bookings/review")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(List.of(booking.getBookingId(), booking.getBookingId()), List.of())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Booking " + booking.getBookingId() + " appears more than once"));
+
+        assertEquals("pending", statusOf(booking));
+    }
+
+    private int statementsToAccept(int count, int dayOffset) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().plusDays(10 + dayOffset).withNano(0);
+        for (int i = 0; i < count; i++) {
+            ids.add(booking(start.plusHours(i * 2L)).getBookingId());
+        }
+        MvcResult result = mockMvc.perform(post("/api/bookings/review")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(ids, List.of())))
+                .andExpect(status().isOk())
+                .andReturn();
+        ids.forEach(id -> assertEquals("accepted", bookingRepository.findById(id).orElseThrow().getStatus()));
+        return QueryBudget.statementCount(result);
+    }
+
+    private String body(List<Long> accept, List<Long> decline) {
+        StringJoiner decisions = new StringJoiner(",", "[", "]");
+        accept.forEach(id -> decisions.add("{\"bookingId\":" + id + ",\"action\":\"accept\"}"));
+        decline.forEach(id -> decisions.add("{\"bookingId\":" + id + ",\"action\":\"decline\"}"));
+        return "{\"mentorId\":" + mentor.getMentorId() + ",\"decisions\":" + decisions + "}";
+    }
+
+    private Booking booking(LocalDateTime proposedDatetime) {
+        return bookingService.createBooking(student.getStudentId(), mentor.getMentorId(), task.getTaskId(),
+                proposedDatetime);
+    }
+
+    private String statusOf(Booking booking) {
+        return bookingRepository.findById(booking.getBookingId()).orElseThrow().getStatus();
+    }
+}
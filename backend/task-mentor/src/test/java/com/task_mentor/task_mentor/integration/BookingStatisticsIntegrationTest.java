@@ -0,0 +1,172 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.dto.BookingSummary;
+import com.task_mentor.task_mentor.dto.MentorSearchDTO;
+import com.task_mentor.task_mentor.dto.StudentStatistics;
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.MentorService;
+import com.task_mentor.task_mentor.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BookingStatisticsIntegrationTest - Booking summaries computed by the aggregate queries on a real database
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bookingstatisticsdb")
+@ActiveProfiles("test")
+public class BookingStatisticsIntegrationTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Student student;
+    private Student idleStudent;
+    private Mentor mentor;
+    private LocalDateTime nextSession;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+
+        student = studentRepository.save(student("stats-student@test.com", "Stats Student"));
+        idleStudent = studentRepository.save(student("stats-idle@test.com", "Idle Student"));
+
+        User mentorUser = new User();
+        mentorUser.setEmail("stats-mentor@test.com");
+        mentorUser.setPassword("hashed");
+        mentorUser.setAccountType("mentor");
+        mentor = new Mentor();
+        mentor.setUser(userRepository.save(mentorUser));
+        mentor.setName("Stats Mentor");
+        mentor.setYearsExperience(5);
+        mentor.setCreatedAt(LocalDateTime.now());
+        mentor = mentorRepository.save(mentor);
+
+        Task shortTask = task("Short", 30);
+        Task longTask = task("Long", 90);
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        nextSession = now.plusDays(2);
+
+        book(shortTask, now.plusDays(1), "pending");
+        book(longTask, now.plusDays(3), "pending");
+        book(shortTask, now.minusDays(1), "accepted");
+        book(longTask, nextSession, "accepted");
+        book(longTask, now.plusDays(5), "accepted");
+        book(shortTask, now.plusDays(1), "declined");
+        book(longTask, now.plusHours(1), "cancelled");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.deleteAll();
+        taskRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testStudentStatistics() {
+        BookingSummary summary = studentService.getStudentStatistics(student.getStudentId()).getBookings();
+
+        assertEquals(2, summary.getPending());
+        assertEquals(3, summary.getAccepted());
+        assertEquals(1, summary.getDeclined());
+        assertEquals(1, summary.getCancelled());
+        assertEquals(7, summary.getTotal());
+        assertEquals(30 + 90 + 90, summary.getBookedMinutes());
+        assertEquals(nextSession, summary.getNextSession());
+    }
+
+    @Test
+    public void testMentorStatistics() {
+        BookingSummary summary = mentorService.getMentorStatistics(mentor.getMentorId()).getBookings();
+
+        assertEquals(7, summary.getTotal());
+        assertEquals(210, summary.getBookedMinutes());
+        assertEquals(nextSession, summary.getNextSession());
+    }
+
+    @Test
+    public void testProfileWithoutBookings() {
+        BookingSummary summary = studentService.getStudentStatistics(idleStudent.getStudentId()).getBookings();
+
+        assertEquals(idleStudent.getStudentId(), summary.getProfileId());
+        assertEquals(0, summary.getTotal());
+        assertEquals(0, summary.getBookedMinutes());
+        assertNull(summary.getNextSession());
+    }
+
+    @Test
+    public void testAllStatisticsMatchSingleProfile() {
+        List<StudentStatistics> students = studentService.getAllStudentStatistics();
+        List<MentorSearchDTO> mentors = mentorService.getAllMentorStatistics();
+
+        StudentStatistics busy = students.stream()
+                .filter(s -> s.getStudentId().equals(student.getStudentId())).findFirst().orElseThrow();
+        StudentStatistics idle = students.stream()
+                .filter(s -> s.getStudentId().equals(idleStudent.getStudentId())).findFirst().orElseThrow();
+        assertEquals(studentService.getStudentStatistics(student.getStudentId()).getBookings().toString(),
+                busy.getBookings().toString());
+        assertEquals(0, idle.getBookings().getTotal());
+        assertEquals(210, mentors.get(0).getBookings().getBookedMinutes());
+    }
+
+    private Student student(String email, String name) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("hashed");
+        user.setAccountType("student");
+
+        Student created = new Student();
+        created.setUser(userRepository.save(user));
+        created.setName(name);
+        created.setCreatedAt(LocalDateTime.now());
+        return created;
+    }
+
+    private Task task(String title, int durationMinutes) {
+        Task task = new Task();
+        task.setMentor(mentor);
+        task.setTitle(title);
+        task.setDescription("Statistics task");
+        task.setDurationMinutes(durationMinutes);
+        task.setCategory("Career Advice");
+        return taskRepository.save(task);
+    }
+
+    private void book(Task task, LocalDateTime proposedDatetime, String status) {
+        Booking booking = new Booking(student, mentor, task, proposedDatetime);
+        booking.setStatus(status);
+        bookingRepository.save(booking);
+    }
+}
@@ -0,0 +1,123 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.BookingStreamService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * BookingStreamIntegrationTest - Committed booking changes reach the student's and mentor's streams
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:bookingstreamdb")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class BookingStreamIntegrationTest extends IntegrationTestFixture {
+
+    private static final String STUDENT_EMAIL = "stream-student@test.com";
+    private static final String MENTOR_EMAIL = "stream-mentor@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingStreamService bookingStreamService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        createFixture("stream", 30);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookingStreamService.shutdownConnections();
+    }
+
+    @Test
+    @WithMockUser(username = MENTOR_EMAIL, roles = "MENTOR")
+    public void testMentorReceivesBookingChanges() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/bookings/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = stream.getResponse();
+        awaitContent(response, "event:ready");
+        assertEquals(1, bookingStreamService.getConnectionCount());
+
+        Booking booking = bookingService.createBooking(student.getStudentId(), mentor.getMentorId(),
+                task.getTaskId(), LocalDateTime.now().plusDays(2));
+        awaitContent(response, "\"status\":\"pending\"");
+
+        bookingService.acceptBooking(booking.getBookingId(), mentor.getMentorId());
+        String content = awaitContent(response, "\"status\":\"accepted\"");
+
+        assertTrue(content.contains("event:booking"));
+        assertTrue(content.contains("\"bookingId\":" + booking.getBookingId()));
+        assertTrue(content.contains("\"mentorId\":" + mentor.getMentorId()));
+    }
+
+    @Test
+    @WithMockUser(username = STUDENT_EMAIL, roles = "STUDENT")
+    public void testRolledBackChangeIsNotPushed() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/bookings/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse response = stream.getResponse();
+        awaitContent(response, "event:ready");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingService.createBooking(student.getStudentId(), mentor.getMentorId(),
+                    task.getTaskId(), LocalDateTime.now().plusDays(3));
+            status.setRollbackOnly();
+        });
+        bookingService.createBooking(student.getStudentId(), mentor.getMentorId(),
+                task.getTaskId(), LocalDateTime.now().plusDays(4));
+
+        String content = awaitContent(response, "event:booking");
+        assertEquals(1, content.split("event:booking", -1).length - 1);
+    }
+
+    @Test
+    @WithMockUser(username = "stream-nobody@test.com", roles = "STUDENT")
+    public void testStreamWithoutProfile() throws Exception {
+        account("stream-nobody@test.com", "student");
+
+        mockMvc.perform(get("/api/bookings/stream").accept(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), "Stream did not receive " + expected + ", got: " + content);
+        return content;
+    }
+}
@@ -0,0 +1,221 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.IdempotencyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * IdempotencyIntegrationTest - Retries with an Idempotency-Key get the first response back
+ * and never create a second booking or task, on this node or another
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idempotencydb",
+        "app.booking-outbox.dispatch-enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class IdempotencyIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        createFixture("idempotency", 60);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+    }
+
+    @Test
+    public void testRetryReplaysTheFirstBooking() throws Exception {
+        String body = bookingBody(LocalDateTime.now().plusDays(2).withNano(0));
+
+        MvcResult first = mockMvc.perform(createBooking("retry-key", body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn();
+        MvcResult retry = mockMvc.perform(createBooking("retry-key", body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn();
+
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    public void testKeyReusedForAnotherRequestIsRejected() throws Exception {
+        LocalDateTime slot = LocalDateTime.now().plusDays(2).withNano(0);
+        mockMvc.perform(createBooking("reused-key", bookingBody(slot)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(createBooking("reused-key", bookingBody(slot.plusHours(3))))
+                .andExpect(status().isUnprocessableEntity());
+        // A different key is a different request
+        mockMvc.perform(createBooking("other-key", bookingBody(slot.plusHours(3))))
+                .andExpect(status().isCreated());
+
+        assertEquals(2, bookingRepository.count());
+    }
+
+    @Test
+    public void testConcurrentDuplicatesCreateOneBooking() throws Exception {
+        String body = bookingBody(LocalDateTime.now().plusDays(4).withNano(0));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MvcResult>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> mockMvc.perform(createBooking("double-click", body)).andReturn()));
+            }
+            List<String> bodies = new ArrayList<>();
+            for (Future<MvcResult> result : results) {
+                assertEquals(201, result.get().getResponse().getStatus());
+                bodies.add(result.get().getResponse().getContentAsString());
+            }
+            assertEquals(1, bodies.stream().distinct().count());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    public void testTaskCreationIsIdempotent() throws Exception {
+        String body = "{\"mentorId\":" + mentor.getMentorId() + ",\"title\":\"Mock interview\"," +
+                "\"description\":\"A practice round of interview questions\",\"durationMinutes\":45," +
+                "\"category\":\"Interview Prep\"}";
+        MockHttpServletRequestBuilder request = post("/api/tasks/json")
+                .with(user("idempotency-mentor@test.com").roles("MENTOR"))
+                .header("Idempotency-Key", "task-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+
+        mockMvc.perform(request).andExpect(status().isCreated());
+        mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    public void testAnotherNodeWaitsForThenReplaysTheStoredResponse() {
+        IdempotencyService nodeA = node();
+        IdempotencyService nodeB = node();
+        byte[] response = "{\"bookingId\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, nodeA.begin("shared", "hash").outcome());
+        assertEquals(IdempotencyService.Outcome.IN_PROGRESS, nodeB.begin("shared", "hash").outcome());
+        assertEquals(IdempotencyService.Outcome.MISMATCH, nodeB.begin("shared", "other").outcome());
+
+        nodeA.complete("shared", 201, MediaType.APPLICATION_JSON_VALUE, response);
+
+        IdempotencyService.Claim replay = nodeB.begin("shared", "hash");
+        assertEquals(IdempotencyService.Outcome.REPLAY, replay.outcome());
+        assertEquals(201, replay.response().status());
+        assertArrayEquals(response, replay.response().body());
+    }
+
+    @Test
+    public void testAbandonedKeyCanBeRetried() {
+        IdempotencyService nodeA = node();
+        IdempotencyService nodeB = node();
+
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, nodeA.begin("failed", "hash").outcome());
+        nodeA.abandon("failed");
+
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, nodeB.begin("failed", "hash").outcome());
+        assertFalse(idempotencyRecordRepository.findById("failed").orElseThrow().isCompleted());
+    }
+
+    @Test
+    public void testOversizedResponseStillCompletesTheKey() {
+        IdempotencyService nodeA = node(60000, 8);
+
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, nodeA.begin("large", "hash").outcome());
+        nodeA.complete("large", 201, MediaType.APPLICATION_JSON_VALUE,
+                "{\"bookingId\":1,\"notes\":\"too long to keep\"}".getBytes(StandardCharsets.UTF_8));
+
+        // The request ran, so a retry must not run it again: it gets the status without the body
+        IdempotencyService.Claim replay = node().begin("large", "hash");
+        assertEquals(IdempotencyService.Outcome.REPLAY, replay.outcome());
+        assertEquals(201, replay.response().status());
+        assertEquals(0, replay.response().body().length);
+        assertTrue(idempotencyRecordRepository.findById("large").orElseThrow().isCompleted());
+    }
+
+    @Test
+    public void testTakenOverClaimIsNotOverwrittenByItsFormerHolder() throws InterruptedException {
+        IdempotencyService stalled = node(1000, 65535);
+        IdempotencyService nodeB = node(1000, 65535);
+        byte[] response = "{\"bookingId\":2}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, stalled.begin("slow", "hash").outcome());
+        Thread.sleep(1100);
+        assertEquals(IdempotencyService.Outcome.ACQUIRED, nodeB.begin("slow", "hash").outcome());
+
+        stalled.complete("slow", 201, MediaType.APPLICATION_JSON_VALUE,
+                "{\"bookingId\":1}".getBytes(StandardCharsets.UTF_8));
+        stalled.abandon("slow");
+        assertFalse(idempotencyRecordRepository.findById("slow").orElseThrow().isCompleted());
+
+        nodeB.complete("slow", 201, MediaType.APPLICATION_JSON_VALUE, response);
+        assertArrayEquals(response, node().begin("slow", "hash").response().body());
+    }
+
+    // A second service over the same table stands in for another node
+    private IdempotencyService node() {
+        return node(60000, 65535);
+    }
+
+    private IdempotencyService node(long staleAfterMillis, int maxStoredBytes) {
+        return new IdempotencyService(idempotencyRecordRepository, new SimpleMeterRegistry(),
+                24, staleAfterMillis, 50, 10, 100, maxStoredBytes);
+    }
+
+    private MockHttpServletRequestBuilder createBooking(String key, String body) {
+        return post("/api/bookings")
+                .with(user("idempotency-student@test.com").roles("STUDENT"))
+                .header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+
+    private String bookingBody(LocalDateTime proposedDatetime) {
+        return "{\"studentId\":" + student.getStudentId() + ",\"mentorId\":" + mentor.getMentorId() +
+                ",\"taskId\":" + task.getTaskId() + ",\"proposedDatetime\":\"" + proposedDatetime + "\"}";
+    }
+}
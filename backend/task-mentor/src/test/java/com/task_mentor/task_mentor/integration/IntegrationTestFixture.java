@@ -0,0 +1,96 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Student;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+
+/**
+ * IntegrationTestFixture - Base for integration tests built around one student, one mentor
+ * and one of the mentor's tasks
+ *
+ * createFixture("outbox", 45) creates "Outbox Student" (outbox-student@test.com),
+ * "Outbox Mentor" (outbox-mentor@test.com) and a 45 minute "Outbox task". Everything the
+ * booking flows write is deleted after each test; a subclass's own @AfterEach runs first
+ * and cleans up whatever else it created.
+ */
+public abstract class IntegrationTestFixture {
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    protected MentorRepository mentorRepository;
+
+    @Autowired
+    protected StudentRepository studentRepository;
+
+    @Autowired
+    protected TaskRepository taskRepository;
+
+    @Autowired
+    protected BookingRepository bookingRepository;
+
+    @Autowired
+    protected BookingOutboxRepository outboxRepository;
+
+    @Autowired
+    protected MentorCountersRepository mentorCountersRepository;
+
+    protected Student student;
+    protected Mentor mentor;
+    protected Task task;
+
+    /**
+     * Creates the student, mentor and task, named after the label, on an empty database
+     */
+    protected void createFixture(String label, int taskDurationMinutes) {
+        deleteFixture();
+        String name = Character.toUpperCase(label.charAt(0)) + label.substring(1);
+
+        student = new Student();
+        student.setUser(account(label + "-student@test.com", "student"));
+        student.setName(name + " Student");
+        student.setCreatedAt(LocalDateTime.now());
+        student = studentRepository.save(student);
+
+        mentor = new Mentor();
+        mentor.setUser(account(label + "-mentor@test.com", "mentor"));
+        mentor.setName(name + " Mentor");
+        mentor.setYearsExperience(5);
+        mentor.setCreatedAt(LocalDateTime.now());
+        mentor = mentorRepository.save(mentor);
+
+        task = new Task();
+        task.setMentor(mentor);
+        task.setTitle(name + " task");
+        task.setDescription(name + " task");
+        task.setDurationMinutes(taskDurationMinutes);
+        task.setCategory("Careers");
+        task = taskRepository.save(task);
+    }
+
+    @AfterEach
+    public void deleteFixture() {
+        outboxRepository.deleteAll();
+        mentorCountersRepository.deleteAll();
+        bookingRepository.deleteAll();
+        taskRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    protected User account(String email, String accountType) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("hashed");
+        user.setAccountType(accountType);
+        return userRepository.save(user);
+    }
+}
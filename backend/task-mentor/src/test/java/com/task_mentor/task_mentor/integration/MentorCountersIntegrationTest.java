@@ -0,0 +1,255 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.MentorCountersService;
+import com.task_mentor.task_mentor.service.MentorService;
+import com.task_mentor.task_mentor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * MentorCountersIntegrationTest - The mentor_counters read model follows booking and task
+ * changes, and reconcile repairs rows written behind the services' back
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:mentorcountersdb",
+        "app.mentor-counters.reconcile-enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class MentorCountersIntegrationTest {
+
+    private static final String MENTOR_EMAIL = "counters-mentor@test.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private MentorCountersService mentorCountersService;
+
+    @Autowired
+    private MentorCountersRepository mentorCountersRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long mentorId;
+    private Student student;
+    private Task task;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+
+        User mentorUser = new User();
+        mentorUser.setEmail(MENTOR_EMAIL);
+        mentorUser.setPassword("hashed");
+        mentorUser.setAccountType("mentor");
+        mentorUser = userRepository.save(mentorUser);
+        mentorId = mentorService.createMentor(mentorUser.getUserId(), "Counters Mentor", null, null, null,
+                5, null, null, null).getMentorId();
+
+        User studentUser = new User();
+        studentUser.setEmail("counters-student@test.com");
+        studentUser.setPassword("hashed");
+        studentUser.setAccountType("student");
+        student = new Student();
+        student.setUser(userRepository.save(studentUser));
+        student.setName("Counters Student");
+        student.setCreatedAt(LocalDateTime.now());
+        student = studentRepository.save(student);
+
+        task = taskService.createTask(mentorId, "Mock interview", "A full mock interview with feedback",
+                60, "Interview Prep");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.deleteAll();
+        taskRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+        mentorCountersRepository.deleteAll();
+    }
+
+    @Test
+    public void testCountersFollowTransitions() {
+        assertCounters(0, 0, 1);
+
+        Booking first = book(1);
+        Booking second = book(2);
+        Booking third = book(3);
+        assertCounters(3, 0, 1);
+
+        bookingService.acceptBooking(first.getBookingId(), mentorId);
+        bookingService.declineBooking(second.getBookingId(), mentorId);
+        assertCounters(1, 1, 1);
+
+        bookingService.cancelBooking(first.getBookingId(), student.getStudentId(), "student");
+        bookingService.deleteBooking(third.getBookingId());
+        assertCounters(0, 0, 1);
+
+        Task extra = taskService.createTask(mentorId, "Resume pass", "A quick look over a resume",
+                30, "Resume Review");
+        assertCounters(0, 0, 2);
+        taskService.deleteTask(extra.getTaskId(), mentorId);
+        assertCounters(0, 0, 1);
+    }
+
+    @Test
+    public void testFailedTransitionLeavesCounters() {
+        Booking booking = book(1);
+        bookingService.declineBooking(booking.getBookingId(), mentorId);
+
+        assertThrows(IllegalStateException.class, () -> bookingService.acceptBooking(booking.getBookingId(), mentorId));
+        assertCounters(0, 0, 1);
+    }
+
+    @Test
+    public void testReconcileRepairsDrift() {
+        book(1);
+        // Written behind the service's back, like a bulk load
+        Booking direct = new Booking(student, mentorRepository.findById(mentorId).orElseThrow(), task,
+                LocalDateTime.now().plusDays(4));
+        direct.setStatus("accepted");
+        bookingRepository.save(direct);
+        Booking past = new Booking(student, mentorRepository.findById(mentorId).orElseThrow(), task,
+                LocalDateTime.now().minusDays(1));
+        past.setStatus("accepted");
+        bookingRepository.save(past);
+        assertCounters(1, 0, 1);
+
+        assertEquals(1, mentorCountersService.reconcile());
+        assertCounters(1, 1, 1);
+        assertEquals(0, mentorCountersService.reconcile());
+    }
+
+    @Test
+    public void testMissingRowIsRebuilt() {
+        book(1);
+        mentorCountersRepository.deleteAll();
+
+        assertEquals(1, mentorCountersService.getCountersForEmail(MENTOR_EMAIL).getPendingCount());
+        book(2);
+        assertCounters(2, 0, 1);
+    }
+
+    @Test
+    public void testConcurrentTransitionsRebuildTheMissingRowOnce() throws Exception {
+        mentorCountersRepository.deleteAll();
+        CountDownLatch firstBooked = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            book(1);
+            firstBooked.countDown();
+            await(secondStarted);
+            // Let the second booking reach the counters before this one commits
+            pause();
+        }));
+        assertTrue(firstBooked.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Booking> second = CompletableFuture.supplyAsync(() -> {
+            secondStarted.countDown();
+            return book(2);
+        });
+
+        first.get(5, TimeUnit.SECONDS);
+        assertNotNull(second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, bookingRepository.count());
+        assertCounters(2, 0, 1);
+    }
+
+    @Test
+    @WithMockUser(username = MENTOR_EMAIL, roles = "MENTOR")
+    public void testCountersEndpoint() throws Exception {
+        book(1);
+
+        mockMvc.perform(get("/api/mentors/me/counters"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mentorId").value(mentorId))
+                .andExpect(jsonPath("$.pendingCount").value(1))
+                .andExpect(jsonPath("$.acceptedUpcomingCount").value(0))
+                .andExpect(jsonPath("$.taskCount").value(1))
+                .andExpect(QueryBudget.atMost(1));
+    }
+
+    @Test
+    @WithMockUser(username = "nobody@test.com", roles = "MENTOR")
+    public void testCountersEndpointWithoutProfile() throws Exception {
+        mockMvc.perform(get("/api/mentors/me/counters"))
+                .andExpect(status().isNotFound());
+    }
+
+    private Booking book(int daysAhead) {
+        return bookingService.createBooking(student.getStudentId(), mentorId, task.getTaskId(),
+                LocalDateTime.now().plusDays(daysAhead).withHour(10).withMinute(0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void assertCounters(long pending, long acceptedUpcoming, long tasks) {
+        MentorCounters counters = mentorCountersRepository.findById(mentorId).orElseThrow();
+        assertEquals(pending, counters.getPendingCount(), "pending");
+        assertEquals(acceptedUpcoming, counters.getAcceptedUpcomingCount(), "accepted upcoming");
+        assertEquals(tasks, counters.getTaskCount(), "tasks");
+    }
+}
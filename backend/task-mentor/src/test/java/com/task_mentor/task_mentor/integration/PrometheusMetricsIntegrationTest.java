@@ -0,0 +1,92 @@
+package com.task_mentor.task_mentor.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * PrometheusMetricsIntegrationTest - Actuator runs on its own management port, as in prod:
+ * /actuator/prometheus exposes the request, Hibernate, Hikari and booking meters there
+ * without authentication, while the public port serves health only
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:metricsdb",
+        "management.server.port=0",
+        "management.endpoint.health.probes.enabled=true",
+        "management.endpoint.health.probes.add-additional-paths=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class PrometheusMetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    public void testPrometheusScrapeIncludesApplicationMeters() {
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/api/mentors", String.class).getStatusCode());
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(management("/actuator/prometheus"), String.class);
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        String body = scrape.getBody();
+        // Per-endpoint latency with percentiles
+        assertTrue(body.contains("handler=\"MentorController.getAllMentors\""));
+        assertTrue(body.contains("quantile=\"0.99\""));
+        // Statements per request, counted by the Hibernate statement inspector
+        assertTrue(body.contains("http_server_requests_statements_count{"));
+        assertTrue(body.contains("hibernate_entities_loads_total"));
+        assertTrue(body.contains("hibernate_second_level_cache_requests_total"));
+        assertTrue(body.contains("hikaricp_connections_active"));
+        assertTrue(body.contains("bookings_conflicts_total{operation=\"create\""));
+        assertTrue(body.contains("images_hot_cache_hits_total"));
+    }
+
+    @Test
+    public void testHealthIsPublic() {
+        ResponseEntity<String> health = restTemplate.getForEntity(management("/actuator/health"), String.class);
+        assertEquals(HttpStatus.OK, health.getStatusCode());
+        assertTrue(health.getBody().contains("\"status\":\"UP\""));
+
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/readyz", String.class).getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/livez", String.class).getStatusCode());
+    }
+
+    @Test
+    public void testMetricsAreNotServedOnThePublicPort() {
+        assertEquals(HttpStatus.UNAUTHORIZED,
+                restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED,
+                restTemplate.getForEntity("/actuator/metrics", String.class).getStatusCode());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testSignedInUsersCannotReadMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
+    private String management(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+}
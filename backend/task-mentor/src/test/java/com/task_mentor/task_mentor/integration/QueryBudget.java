@@ -0,0 +1,41 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.config.QueryCountConfig;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * QueryBudget - MockMvc matchers for the X-Query-Count header
+ * Needs app.query-count.response-header=true, which the test profile sets
+ *
+ * mockMvc.perform(get("/api/mentors")).andExpect(QueryBudget.atMost(3));
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Fails when the request ran more than maxStatements SQL statements
+     */
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            int count = statementCount(result);
+            assertTrue(count <= maxStatements, result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI() + " ran " + count
+                    + " SQL statements, budget is " + maxStatements);
+        };
+    }
+
+    /**
+     * Number of SQL statements the request ran
+     */
+    public static int statementCount(MvcResult result) {
+        String header = result.getResponse().getHeader(QueryCountConfig.HEADER);
+        assertNotNull(header, QueryCountConfig.HEADER + " header missing; is app.query-count.response-header enabled?");
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,153 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * QueryBudgetIntegrationTest - Pins the number of SQL statements per endpoint
+ * The second-level cache is cleared before each request so the budgets are cold-cache counts.
+ * Budgets that grow with the number of rows are N+1s; tighten them when those are fixed.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:querybudgetdb")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class QueryBudgetIntegrationTest {
+
+    private static final int MENTORS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Mentor firstMentor;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+
+        User studentUser = new User();
+        studentUser.setEmail("budget-student@test.com");
+        studentUser.setPassword("hashed");
+        studentUser.setAccountType("student");
+        studentUser = userRepository.save(studentUser);
+
+        Student student = new Student();
+        student.setUser(studentUser);
+        student.setName("Budget Student");
+        student.setCreatedAt(LocalDateTime.now());
+        student = studentRepository.save(student);
+
+        for (int i = 0; i < MENTORS; i++) {
+            User user = new User();
+            user.setEmail("budget-mentor" + i + "@test.com");
+            user.setPassword("hashed");
+            user.setAccountType("mentor");
+            user = userRepository.save(user);
+
+            Mentor mentor = new Mentor();
+            mentor.setUser(user);
+            mentor.setName("Budget Mentor " + i);
+            mentor.setYearsExperience(5);
+            mentor.setCreatedAt(LocalDateTime.now());
+            mentor = mentorRepository.save(mentor);
+            if (firstMentor == null) {
+                firstMentor = mentor;
+            }
+
+            for (int t = 0; t < 2; t++) {
+                Task task = new Task();
+                task.setMentor(mentor);
+                task.setTitle("Task " + i + "-" + t);
+                task.setDescription("Budget task");
+                task.setDurationMinutes(30);
+                task.setCategory("Career");
+                task = taskRepository.save(task);
+
+                bookingRepository.save(new Booking(student, firstMentor, task,
+                        LocalDateTime.now().plusDays(1 + i * 2 + t)));
+            }
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bookingRepository.deleteAll();
+        taskRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+        firstMentor = null;
+    }
+
+    // Budgets below: 1 list query, then one select per mentor for tasks and one for the user
+
+    @Test
+    public void testGetAllMentors() throws Exception {
+        assertBudget("/api/mentors", 1 + 2 * MENTORS);
+    }
+
+    @Test
+    public void testGetAllStudents() throws Exception {
+        // Student list, the eager user of each student, then one GROUP BY each over the live
+        // and the archived bookings for every booking summary
+        assertBudget("/api/students", 1 + 1 + 2);
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testSearchMentors() throws Exception {
+        assertBudget("/api/search/mentors", 1 + 2 * MENTORS);
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testSearchMentorsWithTasks() throws Exception {
+        assertBudget("/api/search/mentors-with-tasks", 1 + 2 * MENTORS);
+    }
+
+    @Test
+    @WithMockUser(roles = "MENTOR")
+    public void testBookingsByMentor() throws Exception {
+        // BookingResponse.fromEntity loads each booking's task separately
+        assertBudget("/api/bookings/mentor/" + firstMentor.getMentorId(), 3 + 2 * MENTORS);
+    }
+
+    private void assertBudget(String path, int maxStatements) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.atMost(maxStatements));
+    }
+}
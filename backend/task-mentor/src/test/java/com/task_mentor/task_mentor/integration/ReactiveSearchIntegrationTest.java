@@ -0,0 +1,176 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.dto.MentorSearchDTO;
+import com.task_mentor.task_mentor.dto.TaskSearchDTO;
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.ReactiveSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ReactiveSearchIntegrationTest - Reactive /api/search/* stack on R2DBC H2
+ * JPA and R2DBC point at the same in-memory database, so data saved through the
+ * repositories is visible to the reactive queries
+ */
+@SpringBootTest(properties = {
+        "app.search.reactive.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:reactivedb;DB_CLOSE_DELAY=-1",
+        "app.search.reactive.url=r2dbc:h2:mem:///reactivedb;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReactiveSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReactiveSearchService reactiveSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Mentor mentor;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+
+        User user = new User();
+        user.setEmail("reactive-mentor@test.com");
+        user.setPassword("hashed");
+        user.setAccountType("mentor");
+        user = userRepository.save(user);
+
+        mentor = new Mentor();
+        mentor.setUser(user);
+        mentor.setName("Reactive Mentor");
+        mentor.setCompany("Stream Corp");
+        mentor.setExpertiseAreas("Java, Reactor");
+        mentor.setYearsExperience(8);
+        mentor.setCreatedAt(LocalDateTime.now());
+        mentor = mentorRepository.save(mentor);
+
+        Task task = new Task();
+        task.setMentor(mentor);
+        task.setTitle("Backpressure Basics");
+        task.setDescription("Walk through Flux demand and bounded buffers");
+        task.setDurationMinutes(45);
+        task.setCategory("Programming");
+        taskRepository.save(task);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testSearchMentorsFiltersInDatabase() {
+        List<MentorSearchDTO> mentors = reactiveSearchService
+                .searchMentors("reactive", "stream", null, "reactor", 7)
+                .collectList().block();
+
+        assertEquals(1, mentors.size());
+        assertEquals(mentor.getMentorId(), mentors.get(0).getMentorId());
+        assertEquals(1, mentors.get(0).getTaskCount());
+
+        // minYearsExperience is exclusive, like SearchService
+        assertTrue(reactiveSearchService.searchMentors(null, null, null, null, 8).collectList().block().isEmpty());
+    }
+
+    @Test
+    public void testSearchTreatsWildcardsLiterally() {
+        assertTrue(reactiveSearchService.searchMentors("%", null, null, null, null).collectList().block().isEmpty());
+        assertTrue(reactiveSearchService.searchMentors("_", null, null, null, null).collectList().block().isEmpty());
+    }
+
+    @Test
+    public void testSearchTasksIncludesMentorName() {
+        List<TaskSearchDTO> tasks = reactiveSearchService
+                .searchTasks("backpressure", "program", mentor.getMentorId(), 30, 60)
+                .collectList().block();
+
+        assertEquals(1, tasks.size());
+        assertEquals("Reactive Mentor", tasks.get(0).getMentorName());
+    }
+
+    @Test
+    public void testSearchMentorsWithTasksMatchesCategoryExactly() {
+        assertEquals(1, reactiveSearchService.searchMentorsWithTasks(null, null, "programming", 60)
+                .collectList().block().size());
+        assertTrue(reactiveSearchService.searchMentorsWithTasks(null, null, "program", null)
+                .collectList().block().isEmpty());
+        assertTrue(reactiveSearchService.searchMentorsWithTasks(null, null, null, 30)
+                .collectList().block().isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testJsonResponseMatchesServletShape() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/search/mentors").param("name", "Reactive"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.mentors[0].name").value("Reactive Mentor"))
+                .andExpect(jsonPath("$.filters.name").value("Reactive"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testNdjsonStreamsResults() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/search/tasks").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"title\":\"Backpressure Basics\"")));
+    }
+
+    @Test
+    @WithMockUser(roles = "MENTOR")
+    public void testFilterOptions() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/search/filter-options"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories[0]").value("Programming"))
+                .andExpect(jsonPath("$.companies[0]").value("Stream Corp"));
+    }
+}
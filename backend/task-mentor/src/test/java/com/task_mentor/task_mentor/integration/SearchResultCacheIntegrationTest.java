@@ -0,0 +1,153 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.task_mentor.task_mentor.config.QueryCountConfig;
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.service.SearchResultCache;
+import com.task_mentor.task_mentor.service.StudentService;
+import com.task_mentor.task_mentor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SearchResultCacheIntegrationTest - Repeated searches are answered from the cache, and
+ * writes through the services replace cached results (serving the old one meanwhile)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:searchcachedb",
+        "app.search.cache.enabled=true",
+        "app.search.cache.ttl-ms=60000",
+        "app.search.cache.stale-while-revalidate-ms=30000",
+        "app.booking-outbox.dispatch-enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SearchResultCacheIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private StudentService studentService;
+
+    // Its own mentor and student: search results depend on the company, major and graduation year
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        deleteFixture();
+
+        mentor = new Mentor();
+        mentor.setUser(account("cache-mentor@test.com", "mentor"));
+        mentor.setName("Cache Mentor");
+        mentor.setYearsExperience(7);
+        mentor.setCompany("Acme");
+        mentor.setCreatedAt(LocalDateTime.now());
+        mentor = mentorRepository.save(mentor);
+
+        student = new Student();
+        student.setUser(account("cache-student@test.com", "student"));
+        student.setName("Cache Student");
+        student.setMajor("Computer Science");
+        student.setGraduationYear(2027);
+        student.setCareerInterests("Backend");
+        student.setCreatedAt(LocalDateTime.now());
+        student = studentRepository.save(student);
+
+        taskService.createTask(mentor.getMentorId(), "Resume deep dive", "Line by line review of your resume",
+                30, "Resume Review");
+        // Seeded through repositories, which do not invalidate
+        searchResultCache.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        searchResultCache.clear();
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testRepeatedSearchIsServedWithoutQueries() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/search/tasks").param("category", "resume"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andReturn();
+        assertNotEquals("0", first.getResponse().getHeader(QueryCountConfig.HEADER));
+
+        // Letter case does not make a different search, but the filters echoed back are the caller's
+        mockMvc.perform(get("/api/search/tasks").param("category", "RESUME"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountConfig.HEADER, "0"))
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.tasks[0].mentorName").value("Cache Mentor"))
+                .andExpect(jsonPath("$.filters.category").value("RESUME"));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    public void testWriteServesTheOldResultWhileRefreshing() throws Exception {
+        mockMvc.perform(get("/api/search/mentors"))
+                .andExpect(jsonPath("$.mentors[0].taskCount").value(1));
+        mockMvc.perform(get("/api/search/categories"))
+                .andExpect(jsonPath("$.count").value(1));
+
+        taskService.createTask(mentor.getMentorId(), "Mock interview", "A practice round of interview questions",
+                45, "Interview Prep");
+
+        // The first request after the write still gets the cached result and starts a refresh
+        mockMvc.perform(get("/api/search/categories"))
+                .andExpect(jsonPath("$.count").value(1));
+        assertEquals(2, awaitCount("/api/search/categories", "$.count", 2));
+        assertEquals(2, awaitCount("/api/search/mentors", "$.mentors[0].taskCount", 2));
+    }
+
+    @Test
+    @WithMockUser(roles = "MENTOR")
+    public void testStudentResultsAreInvalidatedByStudentWrites() throws Exception {
+        mockMvc.perform(get("/api/search/students").param("name", "cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1))
+                .andExpect(jsonPath("$.students[0].name").value("Cache Student"))
+                .andExpect(jsonPath("$.students[0].graduationYear").value(2027))
+                .andExpect(jsonPath("$.students[0].user").doesNotExist());
+
+        studentService.updateStudentProfile(student.getUser().getUserId(), "Renamed Student", null, null, null, null,
+                null);
+
+        assertEquals(0, awaitCount("/api/search/students?name=cache", "$.count", 0));
+    }
+
+    // Polls until the background refresh has replaced the cached result
+    private int awaitCount(String path, String jsonPath, int expected) throws Exception {
+        int value = -1;
+        for (int attempt = 0; attempt < 100 && value != expected; attempt++) {
+            MvcResult result = mockMvc.perform(get(path)).andExpect(status().isOk()).andReturn();
+            value = JsonPath.read(result.getResponse().getContentAsString(), jsonPath);
+            if (value != expected) {
+                Thread.sleep(50);
+            }
+        }
+        return value;
+    }
+}
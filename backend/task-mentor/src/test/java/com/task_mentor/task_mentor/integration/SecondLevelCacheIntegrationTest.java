@@ -0,0 +1,127 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.Mentor;
+import com.task_mentor.task_mentor.entity.Task;
+import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.CacheStatisticsService;
+import com.task_mentor.task_mentor.service.MentorService;
+import com.task_mentor.task_mentor.service.TaskService;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SecondLevelCacheIntegrationTest - Verifies entity caching and invalidation on the H2 test profile
+ * Not transactional, so every service call runs in its own session like a real request
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MentorRepository mentorRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Mentor mentor;
+
+    @BeforeEach
+    public void setUp() {
+        bookingRepository.deleteAll();
+        taskRepository.deleteAll();
+        studentRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setEmail("cached-mentor@test.com");
+        user.setPassword("hashed");
+        user.setAccountType("mentor");
+        user = userRepository.save(user);
+
+        mentor = new Mentor();
+        mentor.setUser(user);
+        mentor.setName("Cached Mentor");
+        mentor.setYearsExperience(5);
+        mentor.setCreatedAt(LocalDateTime.now());
+        mentor = mentorRepository.save(mentor);
+
+        cacheStatisticsService.getStatistics().clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        mentorRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testMentorServedFromSecondLevelCache() {
+        mentorService.getMentorById(mentor.getMentorId());
+        mentorService.getMentorById(mentor.getMentorId());
+
+        Statistics statistics = cacheStatisticsService.getStatistics();
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 1);
+        assertTrue(cacheStatisticsService.getRegionStatistics().containsKey("mentor"));
+    }
+
+    @Test
+    public void testUpdateInvalidatesCachedMentor() {
+        mentorService.getMentorById(mentor.getMentorId());
+
+        mentorService.updateMentorProfile(mentor.getMentorId(), "Renamed Mentor", null, null, null,
+                null, null, null, null);
+
+        assertEquals("Renamed Mentor", mentorService.getMentorById(mentor.getMentorId()).getName());
+    }
+
+    @Test
+    public void testTaskCreateEvictsMentorTaskCollection() {
+        assertEquals(0, countMentorTasks());
+
+        Task task = taskService.createTask(mentor.getMentorId(), "Cached Task Title",
+                "A description that is long enough to pass validation", 30, "Programming");
+        assertEquals(1, countMentorTasks());
+
+        taskService.deleteTask(task.getTaskId(), mentor.getMentorId());
+        assertEquals(0, countMentorTasks());
+    }
+
+    private int countMentorTasks() {
+        return transactionTemplate.execute(status ->
+                mentorRepository.findById(mentor.getMentorId()).orElseThrow().getTasks().size());
+    }
+}
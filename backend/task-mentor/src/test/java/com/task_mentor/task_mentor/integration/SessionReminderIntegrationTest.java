@@ -0,0 +1,131 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.entity.*;
+import com.task_mentor.task_mentor.repository.*;
+import com.task_mentor.task_mentor.service.BookingService;
+import com.task_mentor.task_mentor.service.SchedulerLeaseService;
+import com.task_mentor.task_mentor.service.SessionReminderScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SessionReminderIntegrationTest - Reminders are scheduled on accept, dropped on cancel,
+ * rebuilt from the database by a new owner and never sent twice
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sessionreminderdb",
+        "app.session-reminders.enabled=false",
+        "app.session-reminders.lead-minutes=15",
+        "app.session-reminders.tick-ms=10",
+        "app.booking-outbox.dispatch-enabled=false"
+})
+@ActiveProfiles("test")
+public class SessionReminderIntegrationTest extends IntegrationTestFixture {
+
+    @Autowired
+    private SessionReminderScheduler sessionReminderScheduler;
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @BeforeEach
+    public void setUp() {
+        tearDown();
+        createFixture("reminder", 5);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sessionReminderScheduler.shutdown();
+        schedulerLeaseRepository.deleteAll();
+    }
+
+    @Test
+    public void testAcceptSchedulesAndCancelDropsTheReminder() throws Exception {
+        sessionReminderScheduler.refresh();
+        assertTrue(sessionReminderScheduler.isOwner());
+
+        // Inside the lead time, so due right away
+        Booking soon = accepted(LocalDateTime.now().plusMinutes(2));
+        Booking cancelled = accepted(LocalDateTime.now().plusMinutes(9));
+        Booking later = accepted(LocalDateTime.now().plusHours(2));
+        assertTrue(sessionReminderScheduler.isScheduled(soon.getBookingId()));
+        assertTrue(sessionReminderScheduler.isScheduled(later.getBookingId()));
+
+        bookingService.cancelBooking(cancelled.getBookingId(), student.getStudentId(), "student");
+        assertFalse(sessionReminderScheduler.isScheduled(cancelled.getBookingId()));
+
+        Thread.sleep(30);
+        assertEquals(1, sessionReminderScheduler.fireDue());
+
+        assertNotNull(reminderSentAt(soon));
+        assertNull(reminderSentAt(cancelled));
+        assertNull(reminderSentAt(later));
+        assertTrue(sessionReminderScheduler.isScheduled(later.getBookingId()));
+    }
+
+    @Test
+    public void testNewOwnerRebuildsTheWheelWithoutResending() throws Exception {
+        Booking reminded = accepted(LocalDateTime.now().plusMinutes(3));
+        Booking waiting = accepted(LocalDateTime.now().plusMinutes(10));
+        bookingRepository.findById(reminded.getBookingId()).ifPresent(booking -> {
+            booking.setReminderSentAt(LocalDateTime.now());
+            bookingRepository.save(booking);
+        });
+        // Accepted while this node did not own the scheduler
+        assertFalse(sessionReminderScheduler.isScheduled(waiting.getBookingId()));
+
+        sessionReminderScheduler.refresh();
+
+        assertFalse(sessionReminderScheduler.isScheduled(reminded.getBookingId()));
+        assertTrue(sessionReminderScheduler.isScheduled(waiting.getBookingId()));
+        Thread.sleep(30);
+        assertEquals(1, sessionReminderScheduler.fireDue());
+        assertNotNull(reminderSentAt(waiting));
+    }
+
+    @Test
+    public void testOnlyOneNodeHoldsTheLease() {
+        assertTrue(schedulerLeaseService.tryAcquire(SchedulerLeaseService.SESSION_REMINDERS, "other-node",
+                Duration.ofMinutes(1)));
+
+        sessionReminderScheduler.refresh();
+        Booking soon = accepted(LocalDateTime.now().plusMinutes(10));
+
+        assertFalse(sessionReminderScheduler.isOwner());
+        assertFalse(sessionReminderScheduler.isScheduled(soon.getBookingId()));
+
+        schedulerLeaseService.release(SchedulerLeaseService.SESSION_REMINDERS, "other-node");
+        sessionReminderScheduler.refresh();
+
+        assertTrue(sessionReminderScheduler.isOwner());
+        assertTrue(sessionReminderScheduler.isScheduled(soon.getBookingId()));
+        assertFalse(schedulerLeaseService.tryAcquire(SchedulerLeaseService.SESSION_REMINDERS, "other-node",
+                Duration.ofMinutes(1)));
+    }
+
+    private Booking accepted(LocalDateTime proposedDatetime) {
+        Booking booking = bookingService.createBooking(student.getStudentId(), mentor.getMentorId(), task.getTaskId(),
+                proposedDatetime);
+        return bookingService.acceptBooking(booking.getBookingId(), mentor.getMentorId());
+    }
+
+    private LocalDateTime reminderSentAt(Booking booking) {
+        return bookingRepository.findById(booking.getBookingId()).orElseThrow().getReminderSentAt();
+    }
+}
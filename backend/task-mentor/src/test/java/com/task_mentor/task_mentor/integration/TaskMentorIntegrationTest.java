@@ -127,6 +127,17 @@ public class TaskMentorIntegrationTest {
         task = taskRepository.save(task);
     }
 
+    // Uploads are checked for image magic bytes, so fixtures need a JPEG header
+    private static byte[] jpegBytes(String content) {
+        byte[] body = content.getBytes();
+        byte[] bytes = new byte[body.length + 3];
+        bytes[0] = (byte) 0xFF;
+        bytes[1] = (byte) 0xD8;
+        bytes[2] = (byte) 0xFF;
+        System.arraycopy(body, 0, bytes, 3, body.length);
+        return bytes;
+    }
+
     // ===== STUDENT PROFILE TESTS =====
 
     @Test
@@ -303,7 +314,7 @@ public class TaskMentorIntegrationTest {
                 "image",
                 "test-image.jpg",
                 "image/jpeg",
-                "fake image content".getBytes()
+                jpegBytes("fake image content")
         );
 
         mockMvc.perform(multipart("/api/tasks")
@@ -397,7 +408,7 @@ public class TaskMentorIntegrationTest {
                 "image",
                 "updated-image.jpg",
                 "image/jpeg",
-                "updated image content".getBytes()
+                jpegBytes("updated image content")
         );
 
         mockMvc.perform(multipart("/api/tasks/" + task.getTaskId())
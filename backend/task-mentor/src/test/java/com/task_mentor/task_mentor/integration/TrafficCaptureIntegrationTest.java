@@ -0,0 +1,89 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.capture.CapturedRequest;
+import com.task_mentor.task_mentor.capture.TrafficLogReader;
+import com.task_mentor.task_mentor.capture.TrafficRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * TrafficCaptureIntegrationTest - Requests are written to the capture log, sanitized
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:trafficcapturedb",
+        "app.traffic-capture.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+public class TrafficCaptureIntegrationTest {
+
+    private static final Path DIRECTORY = createDirectory();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrafficRecorder trafficRecorder;
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("traffic-capture");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void captureDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.traffic-capture.dir", DIRECTORY::toString);
+    }
+
+    @Test
+    @WithMockUser(username = "capture-student@test.com", roles = "STUDENT")
+    public void testRequestsAreCapturedAndSanitized() throws Exception {
+        mockMvc.perform(get("/api/search/mentors").param("company", "Globex").param("name", "Jordan"));
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"new@test.com\",\"password\":\"secret123\",\"accountType\":\"student\"}"));
+        mockMvc.perform(get("/actuator/health"));
+
+        // Closing drains the queue and flushes the file
+        trafficRecorder.close();
+        List<CapturedRequest> captured = TrafficLogReader.readAll(DIRECTORY);
+
+        assertEquals(2, captured.size());
+
+        CapturedRequest search = captured.get(0);
+        assertEquals("GET", search.getMethod());
+        assertEquals("/api/search/mentors", search.getPattern());
+        assertEquals("Globex", search.getParams().get("company"));
+        assertEquals("xxxxxx", search.getParams().get("name"));
+        assertEquals(CapturedRequest.STUDENT, search.getRole());
+        assertNotEquals(0, search.getCaller());
+        assertEquals(200, search.getStatus());
+
+        CapturedRequest register = captured.get(1);
+        assertEquals("/api/auth/register", register.getPattern());
+        assertEquals("{\"accountType\":\"student\"}", register.getBody());
+        assertEquals(search.getCaller(), register.getCaller());
+    }
+}
@@ -0,0 +1,34 @@
+package com.task_mentor.task_mentor.integration;
+
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * VirtualThreadPinningPostgresTest - The pinning check against PostgreSQL, with nothing ignored,
+ * so the production JDBC driver is covered as well as Hikari and the application
+ *
+ * Runs only when PINNING_POSTGRES_URL points at a throwaway database (the schema is created
+ * and dropped), e.g.
+ * PINNING_POSTGRES_URL=jdbc:postgresql://localhost:5432/pinning ./mvnw test -Dtest=VirtualThreadPinningPostgresTest
+ * with PINNING_POSTGRES_USERNAME and PINNING_POSTGRES_PASSWORD if they are not postgres/postgres.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=${PINNING_POSTGRES_URL}",
+        "spring.datasource.username=${PINNING_POSTGRES_USERNAME:postgres}",
+        "spring.datasource.password=${PINNING_POSTGRES_PASSWORD:postgres}",
+        "spring.datasource.driverClassName=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.datasource.hikari.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "PINNING_POSTGRES_URL", matches = ".+")
+public class VirtualThreadPinningPostgresTest extends VirtualThreadPinningTest {
+
+    @Override
+    protected boolean isIgnored(RecordedEvent event) {
+        return false;
+    }
+}
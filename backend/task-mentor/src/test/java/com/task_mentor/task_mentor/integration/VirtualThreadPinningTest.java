@@ -0,0 +1,100 @@
+package com.task_mentor.task_mentor.integration;
+
+import com.task_mentor.task_mentor.service.MentorService;
+import com.task_mentor.task_mentor.service.SearchService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualThreadPinningTest - Checks that Hikari and the application's read path do not pin
+ * virtual threads
+ *
+ * Runs many virtual threads against a deliberately small pool so they have to wait for
+ * connections, and records jdk.VirtualThreadPinned JFR events while they do. Pins inside
+ * the H2 test driver are ignored, so this does not cover a production JDBC driver; the
+ * Postgres driver is checked by VirtualThreadPinningPostgresTest when a server is available.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:pinningdb",
+        "spring.datasource.hikari.maximum-pool-size=2"
+})
+@ActiveProfiles("test")
+public class VirtualThreadPinningTest {
+
+    private static final int THREADS = 200;
+    private static final int CALLS_PER_THREAD = 5;
+
+    @Autowired
+    private MentorService mentorService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Test
+    public void testReadPathDoesNotPinVirtualThreads() throws Exception {
+        List<String> pinnedStacks = new CopyOnWriteArrayList<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (!isIgnored(event)) {
+                    pinnedStacks.add(describe(event));
+                }
+            });
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        for (int call = 0; call < CALLS_PER_THREAD; call++) {
+                            mentorService.getAllMentors();
+                            searchService.searchMentors("name", null, null, null, null);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+
+            recording.stop();
+        }
+
+        assertTrue(pinnedStacks.isEmpty(), "Virtual threads were pinned:\n" + String.join("\n\n", pinnedStacks));
+    }
+
+    // Pins inside the H2 driver, which production does not use
+    protected boolean isIgnored(RecordedEvent event) {
+        return event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                .anyMatch(frame -> frame.getMethod().getType().getName().startsWith("org.h2."));
+    }
+
+    private String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "(no stack trace)";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(15)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n  "));
+    }
+}
@@ -0,0 +1,86 @@
+package com.task_mentor.task_mentor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BookingExpiryJob
+ * The chunk loop and lock handling, with a mocked BookingExpiryService
+ */
+@ExtendWith(MockitoExtension.class)
+class BookingExpiryJobTest {
+
+    @Mock
+    private BookingExpiryService bookingExpiryService;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private BookingExpiryJob job(boolean enabled, int chunkSize, int maxChunksPerRun) {
+        return new BookingExpiryJob(bookingExpiryService, bookingMetrics, enabled, 0, chunkSize, maxChunksPerRun, 0);
+    }
+
+    @Test
+    @DisplayName("Expire stale - Stops at the first short chunk")
+    void testExpireStale_StopsWhenDrained() {
+        // Given
+        when(bookingExpiryService.expireChunk(any(LocalDateTime.class), eq(10))).thenReturn(10, 10, 3);
+
+        // When
+        int expired = job(true, 10, 20).expireStale();
+
+        // Then
+        assertEquals(23, expired);
+        verify(bookingExpiryService, times(3)).expireChunk(any(LocalDateTime.class), eq(10));
+    }
+
+    @Test
+    @DisplayName("Expire stale - Bounded by max chunks per run")
+    void testExpireStale_MaxChunks() {
+        // Given
+        when(bookingExpiryService.expireChunk(any(LocalDateTime.class), eq(5))).thenReturn(5);
+
+        // When
+        int expired = job(true, 5, 2).expireStale();
+
+        // Then
+        assertEquals(10, expired);
+        verify(bookingExpiryService, times(2)).expireChunk(any(LocalDateTime.class), eq(5));
+    }
+
+    @Test
+    @DisplayName("Expire stale - Skips the run when another node holds the lock")
+    void testExpireStale_LockHeldElsewhere() {
+        // Given
+        when(bookingExpiryService.expireChunk(any(LocalDateTime.class), eq(10)))
+                .thenReturn(BookingExpiryService.LOCK_HELD_ELSEWHERE);
+
+        // When
+        int expired = job(true, 10, 20).expireStale();
+
+        // Then
+        assertEquals(0, expired);
+        verify(bookingExpiryService, times(1)).expireChunk(any(LocalDateTime.class), eq(10));
+        verify(bookingMetrics).expirySkipped();
+    }
+
+    @Test
+    @DisplayName("Scheduled expiry - Disabled does nothing")
+    void testScheduledExpiry_Disabled() {
+        // When
+        job(false, 10, 20).scheduledExpiry();
+
+        // Then
+        verifyNoInteractions(bookingExpiryService);
+    }
+}
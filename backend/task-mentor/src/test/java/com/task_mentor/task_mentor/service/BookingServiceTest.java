@@ -1,5 +1,8 @@
 package com.task_mentor.task_mentor.service;
 
+import com.task_mentor.task_mentor.dto.BookingEvent;
+import com.task_mentor.task_mentor.dto.BookingReviewRequest;
+import com.task_mentor.task_mentor.dto.BookingReviewResult;
 import com.task_mentor.task_mentor.entity.Booking;
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.Student;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,6 +27,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,6 +52,15 @@ class BookingServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private MentorCountersService mentorCountersService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -102,6 +117,9 @@ class BookingServiceTest {
         assertNotNull(result);
         assertEquals("pending", result.getStatus());
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingMetrics).bookingCreated();
+        verify(mentorCountersService).bookingCreated(2L);
+        verify(eventPublisher).publishEvent(any(BookingEvent.class));
     }
 
     @Test
@@ -224,6 +242,8 @@ class BookingServiceTest {
                 () -> bookingService.createBooking(1L, 2L, 3L, futureDate)
         );
         assertTrue(exception.getMessage().contains("already has a confirmed booking"));
+        verify(bookingMetrics).createConflict();
+        verify(bookingMetrics, never()).bookingCreated();
     }
 
     // ===== ACCEPT BOOKING TESTS =====
@@ -232,7 +252,7 @@ class BookingServiceTest {
     @DisplayName("Accept booking - Success")
     void testAcceptBooking_Success() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         // ← FIXED: Added this mock for the conflict check
         when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
         when(bookingRepository.findByMentorAndStatus(testMentor, "accepted"))
@@ -245,13 +265,15 @@ class BookingServiceTest {
         // Then
         assertNotNull(result);
         verify(bookingRepository).save(any(Booking.class));
+        verify(bookingMetrics).bookingAccepted();
+        verify(mentorCountersService).bookingAccepted(2L, futureDate);
     }
 
     @Test
     @DisplayName("Accept booking - Booking not found")
     void testAcceptBooking_NotFound() {
         // Given
-        when(bookingRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookingRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -265,7 +287,7 @@ class BookingServiceTest {
     @DisplayName("Accept booking - Wrong mentor")
     void testAcceptBooking_WrongMentor() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -280,7 +302,7 @@ class BookingServiceTest {
     void testAcceptBooking_AlreadyAccepted() {
         // Given
         testBooking.setStatus("accepted");
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -300,7 +322,7 @@ class BookingServiceTest {
         existingBooking.setStatus("accepted");
         existingBooking.setBookingId(999L); // Different booking ID
 
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
         when(bookingRepository.findByMentorAndStatus(testMentor, "accepted"))
                 .thenReturn(Arrays.asList(existingBooking));
@@ -311,6 +333,7 @@ class BookingServiceTest {
                 () -> bookingService.acceptBooking(100L, 2L)
         );
         assertTrue(exception.getMessage().contains("Another booking was confirmed"));
+        verify(bookingMetrics).acceptConflict();
     }
 
     // ===== DECLINE BOOKING TESTS =====
@@ -319,7 +342,7 @@ class BookingServiceTest {
     @DisplayName("Decline booking - Success")
     void testDeclineBooking_Success() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
 
         // When
@@ -328,13 +351,14 @@ class BookingServiceTest {
         // Then
         assertNotNull(result);
         verify(bookingRepository).save(any(Booking.class));
+        verify(mentorCountersService).pendingBookingClosed(2L);
     }
 
     @Test
     @DisplayName("Decline booking - Wrong mentor")
     void testDeclineBooking_WrongMentor() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -344,13 +368,143 @@ class BookingServiceTest {
         assertEquals("Only the assigned mentor can decline this booking", exception.getMessage());
     }
 
+    // ===== BATCH REVIEW TESTS =====
+
+    @Test
+    @DisplayName("Review bookings - Accepts and declines in one pass")
+    void testReviewBookings_AcceptAndDecline() {
+        // Given
+        Booking second = pendingBooking(101L, futureDate.plusDays(1));
+        when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
+        when(bookingRepository.findAllWithTaskByIdIn(List.of(100L, 101L)))
+                .thenReturn(List.of(testBooking, second));
+        when(taskRepository.findMaxDurationMinutesByMentorId(2L)).thenReturn(45);
+        when(bookingRepository.findAcceptedByMentorIdStartingBetween(eq(2L), any(), any())).thenReturn(List.of());
+
+        // When
+        List<BookingReviewResult> results = bookingService.reviewBookings(2L, List.of(
+                new BookingReviewRequest.Decision(100L, "accept"),
+                new BookingReviewRequest.Decision(101L, "Decline")));
+
+        // Then
+        assertEquals("accepted", results.get(0).getStatus());
+        assertEquals("declined", results.get(1).getStatus());
+        assertEquals("accepted", testBooking.getStatus());
+        assertEquals("declined", second.getStatus());
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(mentorCountersService).bookingsReviewed(2L, List.of(futureDate), 1);
+        verify(eventPublisher, times(2)).publishEvent(any(BookingEvent.class));
+    }
+
+    @Test
+    @DisplayName("Review bookings - Overlapping accepts in the same batch")
+    void testReviewBookings_ConflictWithinBatch() {
+        // Given
+        Booking overlapping = pendingBooking(101L, futureDate.plusMinutes(30));
+        when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
+        when(bookingRepository.findAllWithTaskByIdIn(List.of(100L, 101L)))
+                .thenReturn(List.of(testBooking, overlapping));
+        when(taskRepository.findMaxDurationMinutesByMentorId(2L)).thenReturn(45);
+        when(bookingRepository.findAcceptedByMentorIdStartingBetween(2L, futureDate.minusMinutes(45),
+                futureDate.plusMinutes(75))).thenReturn(List.of());
+
+        // When
+        List<BookingReviewResult> results = bookingService.reviewBookings(2L, List.of(
+                new BookingReviewRequest.Decision(100L, "accept"),
+                new BookingReviewRequest.Decision(101L, "accept")));
+
+        // Then
+        assertTrue(results.get(0).isApplied());
+        assertFalse(results.get(1).isApplied());
+        assertTrue(results.get(1).getError().contains("Another booking was confirmed"));
+        assertEquals("pending", overlapping.getStatus());
+        verify(bookingMetrics).acceptConflict();
+        verify(eventPublisher, times(1)).publishEvent(any(BookingEvent.class));
+    }
+
+    @Test
+    @DisplayName("Review bookings - Conflict with an existing accepted booking")
+    void testReviewBookings_ConflictWithAccepted() {
+        // Given
+        Booking existing = pendingBooking(50L, futureDate.minusMinutes(15));
+        existing.setStatus("accepted");
+        when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
+        when(bookingRepository.findAllWithTaskByIdIn(List.of(100L))).thenReturn(List.of(testBooking));
+        when(taskRepository.findMaxDurationMinutesByMentorId(2L)).thenReturn(45);
+        when(bookingRepository.findAcceptedByMentorIdStartingBetween(eq(2L), any(), any()))
+                .thenReturn(List.of(existing));
+
+        // When
+        List<BookingReviewResult> results = bookingService.reviewBookings(2L,
+                List.of(new BookingReviewRequest.Decision(100L, "accept")));
+
+        // Then
+        assertFalse(results.get(0).isApplied());
+        assertEquals("pending", testBooking.getStatus());
+        verify(mentorCountersService, never()).bookingsReviewed(any(), any(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Review bookings - Missing, foreign and closed bookings are reported")
+    void testReviewBookings_RejectedDecisions() {
+        // Given
+        Mentor otherMentor = new Mentor();
+        otherMentor.setMentorId(9L);
+        Booking foreign = pendingBooking(101L, futureDate);
+        foreign.setMentor(otherMentor);
+        Booking closed = pendingBooking(102L, futureDate);
+        closed.setStatus("cancelled");
+        when(mentorRepository.findById(2L)).thenReturn(Optional.of(testMentor));
+        when(bookingRepository.findAllWithTaskByIdIn(List.of(999L, 101L, 102L)))
+                .thenReturn(List.of(foreign, closed));
+
+        // When
+        List<BookingReviewResult> results = bookingService.reviewBookings(2L, List.of(
+                new BookingReviewRequest.Decision(999L, "accept"),
+                new BookingReviewRequest.Decision(101L, "decline"),
+                new BookingReviewRequest.Decision(102L, "decline")));
+
+        // Then
+        assertTrue(results.get(0).getError().contains("Booking not found"));
+        assertTrue(results.get(1).getError().contains("Only the assigned mentor"));
+        assertTrue(results.get(2).getError().contains("Only pending bookings"));
+        verify(taskRepository, never()).findMaxDurationMinutesByMentorId(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Review bookings - Duplicate booking IDs")
+    void testReviewBookings_Duplicate() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> bookingService.reviewBookings(2L, List.of(
+                        new BookingReviewRequest.Decision(100L, "accept"),
+                        new BookingReviewRequest.Decision(100L, "decline")))
+        );
+        assertTrue(exception.getMessage().contains("more than once"));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    @DisplayName("Review bookings - Invalid action")
+    void testReviewBookings_InvalidAction() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> bookingService.reviewBookings(2L, List.of(new BookingReviewRequest.Decision(100L, "maybe")))
+        );
+        assertTrue(exception.getMessage().contains("Invalid action"));
+    }
+
     // ===== CANCEL BOOKING TESTS =====
 
     @Test
     @DisplayName("Cancel booking as student - Success")
     void testCancelBooking_AsStudent_Success() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
 
         // When
@@ -359,13 +513,30 @@ class BookingServiceTest {
         // Then
         assertNotNull(result);
         verify(bookingRepository).save(any(Booking.class));
+        verify(mentorCountersService).pendingBookingClosed(2L);
+    }
+
+    @Test
+    @DisplayName("Cancel accepted booking - Upcoming counter released")
+    void testCancelBooking_Accepted() {
+        // Given
+        testBooking.setStatus("accepted");
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+
+        // When
+        bookingService.cancelBooking(100L, 1L, "student");
+
+        // Then
+        verify(mentorCountersService).acceptedBookingCancelled(2L, futureDate);
+        verify(mentorCountersService, never()).pendingBookingClosed(anyLong());
     }
 
     @Test
     @DisplayName("Cancel booking as mentor - Success")
     void testCancelBooking_AsMentor_Success() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
 
         // When
@@ -380,7 +551,7 @@ class BookingServiceTest {
     @DisplayName("Cancel booking - Wrong student")
     void testCancelBooking_WrongStudent() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -394,7 +565,7 @@ class BookingServiceTest {
     @DisplayName("Cancel booking - Invalid user type")
     void testCancelBooking_InvalidUserType() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -409,7 +580,7 @@ class BookingServiceTest {
     void testCancelBooking_AlreadyCancelled() {
         // Given
         testBooking.setStatus("cancelled");
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -557,7 +728,7 @@ class BookingServiceTest {
     @DisplayName("Delete booking - Success (pending)")
     void testDeleteBooking_Success() {
         // Given
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
         doNothing().when(bookingRepository).deleteById(100L);
 
         // When
@@ -565,6 +736,7 @@ class BookingServiceTest {
 
         // Then
         verify(bookingRepository).deleteById(100L);
+        verify(mentorCountersService).pendingBookingClosed(2L);
     }
 
     @Test
@@ -572,7 +744,7 @@ class BookingServiceTest {
     void testDeleteBooking_CannotDeleteAccepted() {
         // Given
         testBooking.setStatus("accepted");
-        when(bookingRepository.findById(100L)).thenReturn(Optional.of(testBooking));
+        when(bookingRepository.findByIdForUpdate(100L)).thenReturn(Optional.of(testBooking));
 
         // When & Then
         IllegalStateException exception = assertThrows(
@@ -586,7 +758,7 @@ class BookingServiceTest {
     @DisplayName("Delete booking - Not found")
     void testDeleteBooking_NotFound() {
         // Given
-        when(bookingRepository.findById(999L)).thenReturn(Optional.empty());
+        when(bookingRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         // When & Then
         IllegalArgumentException exception = assertThrows(
@@ -595,4 +767,10 @@ class BookingServiceTest {
         );
         assertTrue(exception.getMessage().contains("Booking not found"));
     }
-}
\ No newline at end of file
+
+    private Booking pendingBooking(Long bookingId, LocalDateTime proposedDatetime) {
+        Booking booking = new Booking(testStudent, testMentor, testTask, proposedDatetime);
+        booking.setBookingId(bookingId);
+        return booking;
+    }
+}
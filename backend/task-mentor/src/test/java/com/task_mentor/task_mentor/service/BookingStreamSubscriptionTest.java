@@ -0,0 +1,65 @@
+package com.task_mentor.task_mentor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BookingStreamSubscription
+ * Tests the bounded per-connection buffer and the single-drainer flag
+ */
+class BookingStreamSubscriptionTest {
+
+    private final BookingStreamSubscription subscription =
+            new BookingStreamSubscription(new SseEmitter(), Set.of("mentor:1"), 3);
+
+    private static SseEmitter.SseEventBuilder event(int id) {
+        return SseEmitter.event().name(BookingStreamService.EVENT_NAME).id(String.valueOf(id)).data("{}");
+    }
+
+    private static String text(SseEmitter.SseEventBuilder event) {
+        StringBuilder text = new StringBuilder();
+        event.build().forEach(part -> text.append(part.getData()));
+        return text.toString();
+    }
+
+    @Test
+    @DisplayName("Offer - Events kept in order while under capacity")
+    void testOfferUnderCapacity() {
+        assertTrue(subscription.offer(event(1)));
+        assertTrue(subscription.offer(event(2)));
+
+        assertTrue(text(subscription.poll()).contains("id:1"));
+        assertTrue(text(subscription.poll()).contains("id:2"));
+        assertNull(subscription.poll());
+        assertTrue(subscription.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Offer - Overflow replaces the buffer with one resync event")
+    void testOverflow() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(subscription.offer(event(i)));
+        }
+
+        assertFalse(subscription.offer(event(3)));
+
+        assertTrue(text(subscription.poll()).contains("event:" + BookingStreamSubscription.RESYNC));
+        assertNull(subscription.poll());
+    }
+
+    @Test
+    @DisplayName("Drain - Only one drainer at a time")
+    void testSingleDrainer() {
+        assertTrue(subscription.startDrain());
+        assertFalse(subscription.startDrain());
+
+        subscription.endDrain();
+
+        assertTrue(subscription.startDrain());
+    }
+}
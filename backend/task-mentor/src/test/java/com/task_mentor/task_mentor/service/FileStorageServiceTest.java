@@ -0,0 +1,117 @@
+package com.task_mentor.task_mentor.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FileStorageService
+ * Tests streaming upload validation against a temporary upload directory
+ */
+class FileStorageServiceTest {
+
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(uploadDir.toString(), "jpg,jpeg,png,gif,webp", 1024,
+                new HotImageCache(false, 0, 0, 1));
+    }
+
+    private byte[] withHeader(byte[] header, int totalSize) {
+        byte[] bytes = new byte[totalSize];
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        return bytes;
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Store file - Valid PNG is written to the upload directory")
+    void testStoreFile_ValidPng() throws IOException {
+        byte[] content = withHeader(PNG_HEADER, 500);
+        MockMultipartFile file = new MockMultipartFile("image", "photo.PNG", "image/png", content);
+
+        String storedName = fileStorageService.storeFile(file);
+
+        assertTrue(storedName.endsWith(".png"));
+        assertArrayEquals(content, Files.readAllBytes(fileStorageService.getFilePath(storedName)));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    @DisplayName("Store file - Valid GIF and WEBP signatures accepted")
+    void testStoreFile_GifAndWebp() {
+        byte[] gif = "GIF89a-rest-of-image".getBytes();
+        byte[] webp = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+
+        assertNotNull(fileStorageService.storeFile(new MockMultipartFile("image", "a.gif", "image/gif", gif)));
+        assertNotNull(fileStorageService.storeFile(new MockMultipartFile("image", "a.webp", "image/webp", webp)));
+    }
+
+    @Test
+    @DisplayName("Store file - Content not matching extension is rejected")
+    void testStoreFile_SignatureMismatch() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("image", "photo.jpg", "image/jpeg",
+                withHeader(PNG_HEADER, 100));
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> fileStorageService.storeFile(file)
+        );
+        assertTrue(exception.getMessage().contains("does not match"));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    @DisplayName("Store stream - Size limit enforced while streaming")
+    void testStoreStream_TooLarge() throws IOException {
+        byte[] content = withHeader(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}, 5000);
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> fileStorageService.storeStream(new ByteArrayInputStream(content), "big.jpg")
+        );
+        assertTrue(exception.getMessage().contains("exceeds maximum"));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    @DisplayName("Store stream - Disallowed extension rejected")
+    void testStoreStream_DisallowedExtension() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> fileStorageService.storeStream(new ByteArrayInputStream(new byte[10]), "script.exe")
+        );
+    }
+
+    @Test
+    @DisplayName("Delete file - Removes stored file")
+    void testDeleteFile() {
+        String storedName = fileStorageService.storeFile(
+                new MockMultipartFile("image", "photo.png", "image/png", withHeader(PNG_HEADER, 50)));
+
+        fileStorageService.deleteFile(storedName);
+
+        assertFalse(fileStorageService.fileExists(storedName));
+    }
+}
@@ -0,0 +1,115 @@
+package com.task_mentor.task_mentor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HotImageCache
+ * Tests admission, LRU eviction, invalidation and hit/miss counters
+ */
+class HotImageCacheTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private Path writeImage(String name, int size) throws IOException {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return Files.write(uploadDir.resolve(name), bytes);
+    }
+
+    @Test
+    @DisplayName("Disabled cache - Never returns cached bytes")
+    void testDisabledCache() throws IOException {
+        HotImageCache cache = new HotImageCache(false, 1024, 512, 1);
+        Path image = writeImage("a.jpg", 100);
+
+        assertNull(cache.get("a.jpg", image));
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Get - Admits image after configured number of requests")
+    void testAdmitAfterRequests() throws IOException {
+        HotImageCache cache = new HotImageCache(true, 1024, 512, 2);
+        Path image = writeImage("a.jpg", 100);
+
+        assertNull(cache.get("a.jpg", image));
+        ByteBuffer loaded = cache.get("a.jpg", image);
+        assertNotNull(loaded);
+        assertTrue(loaded.isDirect());
+        assertEquals(100, loaded.remaining());
+
+        ByteBuffer cached = cache.get("a.jpg", image);
+        assertNotNull(cached);
+        assertEquals(5, cached.get(5));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(100, cache.getCurrentBytes());
+    }
+
+    @Test
+    @DisplayName("Get - Evicts least recently used image when full")
+    void testLruEviction() throws IOException {
+        HotImageCache cache = new HotImageCache(true, 250, 200, 1);
+        Path a = writeImage("a.jpg", 100);
+        Path b = writeImage("b.jpg", 100);
+        Path c = writeImage("c.jpg", 100);
+
+        cache.get("a.jpg", a);
+        cache.get("b.jpg", b);
+        cache.get("a.jpg", a);
+        cache.get("c.jpg", c);
+
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(200, cache.getCurrentBytes());
+
+        long hitsBefore = cache.getHitCount();
+        cache.get("a.jpg", a);
+        assertEquals(hitsBefore + 1, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Get - Skips images larger than the entry limit")
+    void testOversizedImageNotCached() throws IOException {
+        HotImageCache cache = new HotImageCache(true, 1024, 50, 1);
+        Path image = writeImage("big.jpg", 100);
+
+        assertNull(cache.get("big.jpg", image));
+        assertEquals(0, cache.getEntryCount());
+    }
+
+    @Test
+    @DisplayName("Invalidate - Removes cached image")
+    void testInvalidate() throws IOException {
+        HotImageCache cache = new HotImageCache(true, 1024, 512, 1);
+        Path image = writeImage("a.jpg", 100);
+
+        assertNotNull(cache.get("a.jpg", image));
+        cache.invalidate("a.jpg");
+        Files.delete(image);
+
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getCurrentBytes());
+        assertNull(cache.get("a.jpg", image));
+    }
+
+    @Test
+    @DisplayName("Get - Missing file falls back to disk path")
+    void testMissingFile() {
+        HotImageCache cache = new HotImageCache(true, 1024, 512, 1);
+
+        assertNull(cache.get("missing.jpg", uploadDir.resolve("missing.jpg")));
+    }
+}
@@ -1,8 +1,11 @@
 package com.task_mentor.task_mentor.service;
 
+import com.task_mentor.task_mentor.dto.BookingSummary;
 import com.task_mentor.task_mentor.dto.MentorSearchDTO;
 import com.task_mentor.task_mentor.entity.Mentor;
 import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.BookingArchiveRepository;
+import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.MentorRepository;
 import com.task_mentor.task_mentor.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +40,18 @@ class MentorServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Mock
+    private MentorCountersService mentorCountersService;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private MentorService mentorService;
 
@@ -96,6 +111,7 @@ class MentorServiceTest {
         assertEquals("Tech Corp", result.getCompany());
         assertEquals(10, result.getYearsExperience());
         verify(mentorRepository, times(1)).save(any(Mentor.class));
+        verify(mentorCountersService).mentorCreated(1L);
     }
 
     @Test
@@ -465,6 +481,7 @@ class MentorServiceTest {
 
         // Then
         verify(mentorRepository, times(1)).deleteById(1L);
+        verify(mentorCountersService).mentorDeleted(1L);
     }
 
     @Test
@@ -612,6 +629,26 @@ class MentorServiceTest {
         assertEquals("John Mentor", result.getName());
         assertEquals("Tech Corp", result.getCompany());
         assertEquals(10, result.getYearsExperience());
+        assertEquals(0, result.getBookings().getTotal());
+    }
+
+    @Test
+    @DisplayName("Get mentor statistics - Includes booking summary")
+    void testGetMentorStatistics_BookingSummary() {
+        // Given
+        LocalDateTime next = LocalDateTime.now().plusHours(3);
+        when(mentorRepository.findById(1L)).thenReturn(Optional.of(mockMentor));
+        when(bookingRepository.summarizeByMentor(eq(1L), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new BookingSummary(1L, 5L, 3L, 1L, 0L, 0L, 180L, next)));
+
+        // When
+        MentorSearchDTO result = mentorService.getMentorStatistics(1L);
+
+        // Then
+        assertEquals(5, result.getBookings().getPending());
+        assertEquals(3, result.getBookings().getAccepted());
+        assertEquals(180, result.getBookings().getBookedMinutes());
+        assertEquals(next, result.getBookings().getNextSession());
     }
 
     @Test
@@ -624,6 +661,8 @@ class MentorServiceTest {
         mentor2.setYearsExperience(5);
 
         when(mentorRepository.findAll()).thenReturn(Arrays.asList(mockMentor, mentor2));
+        when(bookingRepository.summarizeAllMentors(any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingSummary(1L, 0L, 4L, 0L, 1L, 0L, 240L, null)));
 
         // When
         List<MentorSearchDTO> result = mentorService.getAllMentorStatistics();
@@ -633,6 +672,9 @@ class MentorServiceTest {
         assertEquals(2, result.size());
         assertEquals("John Mentor", result.get(0).getName());
         assertEquals("Jane Mentor", result.get(1).getName());
+        assertEquals(240, result.get(0).getBookings().getBookedMinutes());
+        assertEquals(0, result.get(1).getBookings().getTotal());
+        verify(bookingRepository, never()).summarizeByMentor(anyLong(), any());
     }
 
     @Test
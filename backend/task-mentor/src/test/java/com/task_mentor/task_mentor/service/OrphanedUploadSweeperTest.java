@@ -0,0 +1,131 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrphanedUploadSweeper
+ * Uses a real FileStorageService on a temporary directory with a mocked TaskRepository
+ */
+@ExtendWith(MockitoExtension.class)
+class OrphanedUploadSweeperTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        HotImageCache hotImageCache = new HotImageCache(false, 0, 0, 1);
+        fileStorageService = new FileStorageService(uploadDir.toString(), "jpg,png", 5242880, hotImageCache);
+    }
+
+    private OrphanedUploadSweeper sweeper(int batchSize, int maxFilesPerRun, int maxDeletesPerRun) {
+        return new OrphanedUploadSweeper(fileStorageService, taskRepository, true,
+                60, batchSize, maxFilesPerRun, maxDeletesPerRun, 0);
+    }
+
+    private Path createFile(String name, long ageMinutes) throws IOException {
+        Path file = Files.write(uploadDir.resolve(name), new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(ageMinutes, ChronoUnit.MINUTES)));
+        return file;
+    }
+
+    @Test
+    @DisplayName("Sweep - Deletes old unreferenced files only")
+    void testSweep_DeletesOrphans() throws IOException {
+        Path referenced = createFile("referenced.jpg", 120);
+        Path orphan = createFile("orphan.jpg", 120);
+        Path recent = createFile("recent.jpg", 5);
+
+        when(taskRepository.findImageFileNamesIn(anyCollection())).thenReturn(List.of("referenced.jpg"));
+
+        int deleted = sweeper(10, 100, 100).sweep();
+
+        assertEquals(1, deleted);
+        assertTrue(Files.exists(referenced));
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(recent));
+    }
+
+    @Test
+    @DisplayName("Sweep - Deletes old partial uploads without querying the database")
+    void testSweep_DeletesStalePartialFiles() throws IOException {
+        Path stale = createFile(".abandoned.jpg.part", 120);
+        Path inProgress = createFile(".uploading.jpg.part", 5);
+        Path hidden = createFile(".keep", 120);
+
+        int deleted = sweeper(10, 100, 100).sweep();
+
+        assertEquals(1, deleted);
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(inProgress));
+        assertTrue(Files.exists(hidden));
+        verify(taskRepository, never()).findImageFileNamesIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Sweep - Checks file names in batches")
+    void testSweep_Batches() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            createFile("orphan" + i + ".jpg", 120);
+        }
+        when(taskRepository.findImageFileNamesIn(anyCollection())).thenReturn(List.of());
+
+        int deleted = sweeper(2, 100, 100).sweep();
+
+        assertEquals(5, deleted);
+        verify(taskRepository, times(3)).findImageFileNamesIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Sweep - Respects per-run delete limit")
+    void testSweep_DeleteLimit() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            createFile("orphan" + i + ".jpg", 120);
+        }
+        when(taskRepository.findImageFileNamesIn(anyCollection())).thenReturn(List.of());
+
+        OrphanedUploadSweeper sweeper = sweeper(10, 100, 2);
+
+        assertEquals(2, sweeper.sweep());
+        assertEquals(2, sweeper.sweep());
+        assertEquals(1, sweeper.sweep());
+        try (var remaining = Files.list(uploadDir)) {
+            assertEquals(0, remaining.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Sweep - Empty directory does not query database")
+    void testSweep_EmptyDirectory() {
+        int deleted = sweeper(10, 100, 100).sweep();
+
+        assertEquals(0, deleted);
+        verify(taskRepository, never()).findImageFileNamesIn(any(Collection.class));
+    }
+}
@@ -0,0 +1,199 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.service.SearchCoalescer.SearchKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SearchCoalescer
+ * Tests key normalization, sharing one running search, timeouts and failures
+ */
+class SearchCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private SearchCoalescer coalescer(MockEnvironment environment) {
+        return new SearchCoalescer(registry, environment, true, 2000);
+    }
+
+    private double count(String endpoint, String outcome) {
+        return registry.get("search.coalescing.requests")
+                .tag("endpoint", endpoint).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("SearchKey - Letter case does not make a different search")
+    void testSearchKey_Normalized() {
+        assertEquals(SearchKey.of("mentors", "Java", null, 5), SearchKey.of("mentors", "java", null, 5));
+        assertNotEquals(SearchKey.of("mentors", "java", null, 5), SearchKey.of("mentors", "java", null, 6));
+        assertNotEquals(SearchKey.of("mentors", "java"), SearchKey.of("tasks", "java"));
+    }
+
+    @Test
+    @DisplayName("SearchKey - A blank filter is not the same search as no filter")
+    void testSearchKey_BlankKept() {
+        // ?taskCategory= matches no task in searchMentorsWithTasks, leaving it out matches every task
+        assertNotEquals(SearchKey.of("mentors-with-tasks", null, null, "", null),
+                SearchKey.of("mentors-with-tasks", null, null, null, null));
+        assertNotEquals(SearchKey.of("mentors", "  "), SearchKey.of("mentors", (Object) null));
+    }
+
+    @Test
+    @DisplayName("Execute - Identical concurrent searches run once and share the result")
+    void testExecute_Coalesces() throws Exception {
+        // Given
+        SearchCoalescer coalescer = coalescer(new MockEnvironment());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // When
+            Future<List<String>> leader = executor.submit(() -> coalescer.execute(SearchKey.of("mentors", "java"),
+                    () -> {
+                        runs.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return List.of("Ada");
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<List<String>> first = executor.submit(() -> coalescer.execute(SearchKey.of("mentors", "JAVA"),
+                    () -> {
+                        runs.incrementAndGet();
+                        return List.of("second run");
+                    }));
+            Future<List<String>> second = executor.submit(() -> coalescer.execute(SearchKey.of("mentors", "java"),
+                    () -> {
+                        runs.incrementAndGet();
+                        return List.of("third run");
+                    }));
+            // Give both followers time to join the running search
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            assertEquals(List.of("Ada"), leader.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("Ada"), first.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("Ada"), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+            assertEquals(2, count("mentors", "coalesced"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Execute - A finished search is not reused")
+    void testExecute_NothingKept() {
+        // Given
+        SearchCoalescer coalescer = coalescer(new MockEnvironment());
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        coalescer.execute(SearchKey.of("categories"), runs::incrementAndGet);
+        int second = coalescer.execute(SearchKey.of("categories"), runs::incrementAndGet);
+
+        // Then
+        assertEquals(2, second);
+        assertEquals(2, count("categories", "executed"));
+    }
+
+    @Test
+    @DisplayName("Execute - A request that waits past the endpoint's timeout runs the search itself")
+    void testExecute_Timeout() throws Exception {
+        // Given
+        SearchCoalescer coalescer = coalescer(new MockEnvironment()
+                .withProperty("app.search.coalescing.timeouts.filter-options", "50"));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> slow = executor.submit(() -> coalescer.execute(SearchKey.of("filter-options"), () -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            String own = coalescer.execute(SearchKey.of("filter-options"), () -> "own");
+            release.countDown();
+
+            // Then
+            assertEquals("own", own);
+            assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+            assertEquals(1, count("filter-options", "timed_out"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Execute - Waiting requests get the running search's exception")
+    void testExecute_FailureShared() throws Exception {
+        // Given
+        SearchCoalescer coalescer = coalescer(new MockEnvironment());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            executor.submit(() -> coalescer.execute(SearchKey.of("tasks", "java"), () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalArgumentException("bad filter");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When
+            Future<Object> waiting = executor.submit(() -> coalescer.execute(SearchKey.of("tasks", "java"),
+                    () -> "should not run"));
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            Exception thrown = assertThrows(Exception.class, () -> waiting.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalArgumentException.class, thrown.getCause());
+            assertEquals("bad filter", thrown.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Disabled - Every request runs its own search")
+    void testDisabled() {
+        // Given
+        SearchCoalescer coalescer = new SearchCoalescer(registry, new MockEnvironment(), false, 2000);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        coalescer.execute(SearchKey.of("majors"), runs::incrementAndGet);
+        coalescer.execute(SearchKey.of("majors"), runs::incrementAndGet);
+
+        // Then
+        assertEquals(2, runs.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
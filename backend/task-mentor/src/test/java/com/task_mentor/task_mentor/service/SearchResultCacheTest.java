@@ -0,0 +1,112 @@
+package com.task_mentor.task_mentor.service;
+
+import com.task_mentor.task_mentor.service.SearchCoalescer.SearchKey;
+import com.task_mentor.task_mentor.service.SearchResultCache.Source;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for SearchResultCache
+ * Tests hits, invalidation and which versions a coalesced load is stored at
+ */
+class SearchResultCacheTest {
+
+    private static final Set<Source> TASKS = Set.of(Source.TASKS);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SearchResultCache cache = new SearchResultCache(
+            new SearchCoalescer(registry, new MockEnvironment(), true, 2000),
+            mock(PlatformTransactionManager.class), registry, true, 100, 60000, 0);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("Get - A repeated search is served from the cache")
+    void testGet_Hit() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        SearchKey key = SearchKey.of("categories");
+
+        // When
+        cache.get(key, TASKS, loads::incrementAndGet);
+        int second = cache.get(key, TASKS, loads::incrementAndGet);
+
+        // Then
+        assertEquals(1, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Invalidate - Only results built from the written source are reloaded")
+    void testInvalidate_ReloadsDependentResults() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(SearchKey.of("categories"), TASKS, loads::incrementAndGet);
+        cache.get(SearchKey.of("majors"), Set.of(Source.STUDENTS), loads::incrementAndGet);
+
+        // When
+        cache.invalidate(Source.TASKS);
+
+        // Then
+        assertEquals(3, cache.get(SearchKey.of("categories"), TASKS, loads::incrementAndGet));
+        assertEquals(2, cache.get(SearchKey.of("majors"), Set.of(Source.STUDENTS), loads::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("Get - A search that joins a load started before a write does not store it as current")
+    void testGet_JoinedLoadKeepsLeaderVersions() throws Exception {
+        // Given
+        SearchKey key = SearchKey.of("tasks", "resume");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<String> leader = executor.submit(() -> cache.get(key, TASKS, () -> {
+                started.countDown();
+                await(release);
+                return "before write";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // When: a write commits while the leader is loading, then an identical search joins it
+            cache.invalidate(Source.TASKS);
+            Future<String> follower = executor.submit(() -> cache.get(key, TASKS, () -> "follower ran"));
+            Thread.sleep(200);
+            release.countDown();
+
+            // Then
+            assertEquals("before write", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("before write", follower.get(5, TimeUnit.SECONDS));
+            assertEquals("after write", cache.get(key, TASKS, () -> "after write"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
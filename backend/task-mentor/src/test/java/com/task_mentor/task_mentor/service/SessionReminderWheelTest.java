@@ -0,0 +1,114 @@
+package com.task_mentor.task_mentor.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SessionReminderWheel
+ * Scheduling, cancelling and advancing with explicit times
+ */
+class SessionReminderWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Advance - Fires each deadline once its tick has passed")
+    void testAdvance_FiresInOrder() {
+        // Given
+        SessionReminderWheel wheel = new SessionReminderWheel(100, 8, START);
+        wheel.schedule(1L, START + 250);
+        wheel.schedule(2L, START + 500);
+
+        // When
+        List<Long> early = wheel.advance(START + 200);
+        List<Long> first = wheel.advance(START + 300);
+        List<Long> second = wheel.advance(START + 500);
+
+        // Then
+        assertEquals(List.of(), early);
+        assertEquals(List.of(1L), first);
+        assertEquals(List.of(2L), second);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Advance - Deadlines several revolutions out wait for their round")
+    void testAdvance_LaterRevolutions() {
+        // Given: 8 buckets of 100ms, so these share a bucket a revolution apart
+        SessionReminderWheel wheel = new SessionReminderWheel(100, 8, START);
+        wheel.schedule(1L, START + 300);
+        wheel.schedule(2L, START + 300 + 800 * 3);
+
+        // When
+        List<Long> firstRound = wheel.advance(START + 300);
+        List<Long> beforeSecond = wheel.advance(START + 300 + 800 * 3 - 1);
+        List<Long> secondRound = wheel.advance(START + 300 + 800 * 3);
+
+        // Then
+        assertEquals(List.of(1L), firstRound);
+        assertEquals(List.of(), beforeSecond);
+        assertEquals(List.of(2L), secondRound);
+    }
+
+    @Test
+    @DisplayName("Advance - After a long pause everything overdue fires at once")
+    void testAdvance_LongPause() {
+        // Given
+        SessionReminderWheel wheel = new SessionReminderWheel(100, 8, START);
+        for (long id = 1; id <= 20; id++) {
+            wheel.schedule(id, START + id * 150);
+        }
+
+        // When
+        List<Long> due = wheel.advance(START + 10 * 150);
+
+        // Then
+        assertEquals(10, due.size());
+        assertTrue(due.containsAll(List.of(1L, 5L, 10L)));
+        assertEquals(10, wheel.size());
+        assertFalse(wheel.isScheduled(10L));
+        assertTrue(wheel.isScheduled(11L));
+    }
+
+    @Test
+    @DisplayName("Cancel - Removes the reminder; rescheduling replaces it")
+    void testCancelAndReschedule() {
+        // Given
+        SessionReminderWheel wheel = new SessionReminderWheel(100, 8, START);
+        wheel.schedule(1L, START + 200);
+        wheel.schedule(2L, START + 200);
+        wheel.schedule(3L, START + 200);
+
+        // When
+        boolean cancelled = wheel.cancel(2L);
+        boolean cancelledAgain = wheel.cancel(2L);
+        wheel.schedule(3L, START + 900);
+        List<Long> due = wheel.advance(START + 200);
+
+        // Then
+        assertTrue(cancelled);
+        assertFalse(cancelledAgain);
+        assertEquals(List.of(1L), due);
+        assertTrue(wheel.isScheduled(3L));
+        assertEquals(List.of(3L), wheel.advance(START + 900));
+    }
+
+    @Test
+    @DisplayName("Schedule - A deadline in the past fires on the next tick")
+    void testSchedule_PastDeadline() {
+        // Given
+        SessionReminderWheel wheel = new SessionReminderWheel(100, 8, START);
+        wheel.advance(START + 1000);
+
+        // When
+        wheel.schedule(1L, START);
+
+        // Then
+        assertEquals(List.of(), wheel.advance(START + 1050));
+        assertEquals(List.of(1L), wheel.advance(START + 1100));
+    }
+}
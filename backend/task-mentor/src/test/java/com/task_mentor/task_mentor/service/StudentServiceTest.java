@@ -1,8 +1,11 @@
 package com.task_mentor.task_mentor.service;
 
+import com.task_mentor.task_mentor.dto.BookingSummary;
 import com.task_mentor.task_mentor.dto.StudentStatistics;
 import com.task_mentor.task_mentor.entity.Student;
 import com.task_mentor.task_mentor.entity.User;
+import com.task_mentor.task_mentor.repository.BookingArchiveRepository;
+import com.task_mentor.task_mentor.repository.BookingRepository;
 import com.task_mentor.task_mentor.repository.StudentRepository;
 import com.task_mentor.task_mentor.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +41,15 @@ class StudentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingArchiveRepository bookingArchiveRepository;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -418,6 +430,53 @@ class StudentServiceTest {
         assertEquals("John Doe", stats.getName());
         assertEquals("Computer Science", stats.getMajor());
         assertEquals(2025, stats.getGraduationYear());
+        assertEquals(0, stats.getBookings().getTotal());
+        assertNull(stats.getBookings().getNextSession());
+    }
+
+    @Test
+    @DisplayName("Get student statistics - Includes booking summary")
+    void testGetStudentStatistics_BookingSummary() {
+        // Given
+        LocalDateTime next = LocalDateTime.now().plusDays(2);
+        when(studentRepository.findById(10L)).thenReturn(Optional.of(testStudent));
+        when(bookingRepository.summarizeByStudent(eq(10L), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new BookingSummary(10L, 1L, 2L, 3L, 4L, 0L, 90L, next)));
+
+        // When
+        StudentStatistics stats = studentService.getStudentStatistics(10L);
+
+        // Then
+        assertEquals(1, stats.getBookings().getPending());
+        assertEquals(2, stats.getBookings().getAccepted());
+        assertEquals(3, stats.getBookings().getDeclined());
+        assertEquals(4, stats.getBookings().getCancelled());
+        assertEquals(10, stats.getBookings().getTotal());
+        assertEquals(90, stats.getBookings().getBookedMinutes());
+        assertEquals(next, stats.getBookings().getNextSession());
+    }
+
+    @Test
+    @DisplayName("Get student statistics - Adds archived bookings to the summary")
+    void testGetStudentStatistics_IncludesArchived() {
+        // Given
+        LocalDateTime next = LocalDateTime.now().plusDays(2);
+        when(studentRepository.findById(10L)).thenReturn(Optional.of(testStudent));
+        when(bookingRepository.summarizeByStudent(eq(10L), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new BookingSummary(10L, 1L, 2L, 0L, 0L, 0L, 90L, next)));
+        when(bookingArchiveRepository.summarizeByStudent(10L))
+                .thenReturn(Optional.of(new BookingSummary(10L, 0L, 5L, 1L, 2L, 3L, 300L, null)));
+
+        // When
+        StudentStatistics stats = studentService.getStudentStatistics(10L);
+
+        // Then
+        assertEquals(1, stats.getBookings().getPending());
+        assertEquals(7, stats.getBookings().getAccepted());
+        assertEquals(3, stats.getBookings().getExpired());
+        assertEquals(14, stats.getBookings().getTotal());
+        assertEquals(390, stats.getBookings().getBookedMinutes());
+        assertEquals(next, stats.getBookings().getNextSession());
     }
 
     @Test
@@ -431,6 +490,8 @@ class StudentServiceTest {
         student2.setGraduationYear(2026);
 
         when(studentRepository.findAll()).thenReturn(Arrays.asList(testStudent, student2));
+        when(bookingRepository.summarizeAllStudents(any(LocalDateTime.class)))
+                .thenReturn(List.of(new BookingSummary(20L, 2L, 0L, 0L, 0L, 0L, 0L, null)));
 
         // When
         List<StudentStatistics> results = studentService.getAllStudentStatistics();
@@ -440,6 +501,9 @@ class StudentServiceTest {
         assertEquals(2, results.size());
         assertEquals("John Doe", results.get(0).getName());
         assertEquals("Jane Smith", results.get(1).getName());
+        assertEquals(0, results.get(0).getBookings().getTotal());
+        assertEquals(2, results.get(1).getBookings().getPending());
+        verify(bookingRepository, never()).summarizeByStudent(anyLong(), any());
     }
 
     @Test
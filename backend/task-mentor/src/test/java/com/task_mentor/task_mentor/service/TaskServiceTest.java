@@ -46,6 +46,12 @@ class TaskServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private MentorCountersService mentorCountersService;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -94,6 +100,7 @@ class TaskServiceTest {
         assertEquals(45, result.getDurationMinutes());
         verify(mentorRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
+        verify(mentorCountersService).taskCreated(1L);
     }
 
     @Test
@@ -264,6 +271,7 @@ class TaskServiceTest {
         verify(taskRepository).findById(100L);
         verify(bookingRepository).findByTask(testTask);
         verify(taskRepository).deleteById(100L);
+        verify(mentorCountersService).taskDeleted(1L);
     }
 
     @Test
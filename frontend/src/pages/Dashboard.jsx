@@ -97,6 +97,7 @@ const Dashboard = () => {
       accepted: 'bg-green-100 text-green-800',
       declined: 'bg-red-100 text-red-800',
       cancelled: 'bg-gray-100 text-gray-800',
+      expired: 'bg-gray-100 text-gray-500',
       completed: 'bg-blue-100 text-blue-800'
     };
 
@@ -230,6 +231,7 @@ const Dashboard = () => {
                 <option value="accepted">Accepted</option>
                 <option value="declined">Declined</option>
                 <option value="cancelled">Cancelled</option>
+                <option value="expired">Expired</option>
                 <option value="completed">Completed</option>
               </select>
             </div>
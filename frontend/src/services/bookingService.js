@@ -7,10 +7,14 @@ const getAuthHeaders = () => ({
 
 const bookingService = {
   createBooking: async (bookingData) => {
+    // Same key on the retry, so a request that did reach the server is not booked twice
+    const headers = { ...getAuthHeaders(), 'Idempotency-Key': crypto.randomUUID() };
     try {
-      const response = await api.post('/bookings', bookingData, {
-        headers: getAuthHeaders()
-      });
+      const response = await api.post('/bookings', bookingData, { headers })
+        .catch((error) => {
+          if (error.response) throw error;
+          return api.post('/bookings', bookingData, { headers });
+        });
       return response.data;
     } catch (error) {
       throw error.response?.data || error.message;
@@ -39,6 +43,18 @@ const bookingService = {
     }
   },
 
+  // decisions: [{ bookingId, action: 'accept' | 'decline' }]; resolves to one result per decision
+  reviewBookings: async (mentorId, decisions) => {
+    try {
+      const response = await api.post('/bookings/review', { mentorId, decisions }, {
+        headers: getAuthHeaders()
+      });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || error.message;
+    }
+  },
+
   cancelBooking: async (bookingId, userId, userType) => {
     try {
       const response = await api.put(
@@ -17,6 +17,17 @@ const mentorService = {
     }
   },
 
+  getMyCounters: async () => {
+    try {
+      const response = await api.get('/mentors/me/counters', {
+        headers: getAuthHeaders()
+      });
+      return response.data;
+    } catch (error) {
+      throw error.response?.data || error.message;
+    }
+  },
+
   createProfile: async (profileData) => {
     try {
       const response = await api.post('/mentors', profileData, {